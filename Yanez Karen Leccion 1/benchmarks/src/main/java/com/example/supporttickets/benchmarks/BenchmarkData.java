@@ -0,0 +1,79 @@
+package com.example.supporttickets.benchmarks;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.search.TicketEnumIndex;
+import com.example.supporttickets.search.TicketSearchIndex;
+import com.example.supporttickets.service.SupportTicketMapper;
+import com.example.supporttickets.service.SupportTicketService;
+import com.example.supporttickets.service.TicketListCache;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Page;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+final class BenchmarkData {
+
+    static final String[] CATEGORIES = {"NETWORK", "HARDWARE", "SOFTWARE", "ACCESS", "EMAIL", "PRINTER"};
+    static final String[] NAMES = {"Juan Pérez", "María García", "Carlos López", "Ana Torres", "Luis Ramírez", "Sofía Castro"};
+    static final LocalDateTime BASE_DATE = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private BenchmarkData() {
+    }
+
+    static List<SupportTicket> tickets(int count, long seed) {
+        Random random = new Random(seed);
+        List<SupportTicket> tickets = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            tickets.add(ticket(i, random));
+        }
+        return tickets;
+    }
+
+    static SupportTicket ticket(long id, Random random) {
+        SupportTicket ticket = new SupportTicket(
+                String.format("ST-2025-%06d", id),
+                NAMES[random.nextInt(NAMES.length)],
+                TicketStatus.values()[random.nextInt(TicketStatus.values().length)],
+                TicketPriority.values()[random.nextInt(TicketPriority.values().length)],
+                CATEGORIES[random.nextInt(CATEGORIES.length)],
+                BigDecimal.valueOf(random.nextInt(100000), 2),
+                Currency.values()[random.nextInt(Currency.values().length)],
+                LocalDate.of(2026, 1, 1).plusDays(random.nextInt(365)));
+        ticket.setId(id);
+        ticket.setCreatedAt(BASE_DATE.plusMinutes(random.nextInt(525600)));
+        return ticket;
+    }
+
+    static SupportTicketService serviceReturning(Page<SupportTicket> page) {
+        SupportTicketRepository repository = (SupportTicketRepository) Proxy.newProxyInstance(
+                SupportTicketRepository.class.getClassLoader(),
+                new Class<?>[]{SupportTicketRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findWithFilters")) {
+                        return page;
+                    }
+                    if (method.getName().equals("findResponsesWithFilters")) {
+                        return page.map(SupportTicketMapper::toResponse);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+        return new SupportTicketService(repository, null,
+                new TicketSearchIndex(repository, false, 0),
+                new TicketEnumIndex(repository, false, 0, Duration.ZERO),
+                new TicketListCache(false, 0, Duration.ofSeconds(1)),
+                event -> { },
+                new NoOpCacheManager(),
+                null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.supporttickets.benchmarks;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.service.SupportTicketService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FilterParsingBenchmark {
+
+    private SupportTicketService service;
+
+    @Setup
+    public void setUp() {
+        Page<SupportTicket> page = new PageImpl<>(BenchmarkData.tickets(20, 42), PageRequest.of(0, 20), 1000);
+        service = BenchmarkData.serviceReturning(page);
+    }
+
+    @Benchmark
+    public TicketFilter resolveFilter_AllFilters() {
+        return service.resolveFilter(null, "OPEN", "USD", "10.50", "999.99",
+                "2025-01-01T00:00:00", "2025-12-31T23:59:59");
+    }
+
+    @Benchmark
+    public TicketFilter resolveFilter_NoFilters() {
+        return service.resolveFilter(null, null, null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Sort resolveSort() {
+        return service.resolveSort("estimatedCost,desc");
+    }
+
+    @Benchmark
+    public Page<SupportTicketResponse> findTicketsWithFilters() {
+        return service.findTicketsWithFilters(null, "OPEN", "USD", "10.50", "999.99",
+                "2025-01-01T00:00:00", "2025-12-31T23:59:59", 0, 20, "createdAt,desc");
+    }
+}
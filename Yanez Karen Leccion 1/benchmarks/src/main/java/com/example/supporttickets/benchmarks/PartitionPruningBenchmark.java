@@ -0,0 +1,170 @@
+package com.example.supporttickets.benchmarks;
+
+import com.example.supporttickets.SupportTicketsApplication;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketFilter;
+import org.flywaydb.core.Flyway;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PartitionPruningBenchmark {
+
+    private static final int SEED_CHUNK_SIZE = 1_000_000;
+    private static final LocalDateTime OLDEST = LocalDateTime.of(2021, 1, 1, 0, 0);
+    private static final LocalDateTime NEWEST = LocalDateTime.of(2026, 1, 1, 0, 0);
+    private static final String SEED_SQL = "INSERT INTO support_tickets (id, ticket_number, requester_name, status, "
+            + "priority, category, estimated_cost, currency, created_at, due_date, version) "
+            + "WITH RECURSIVE seq (n) AS (SELECT ? UNION ALL SELECT n + 1 FROM seq WHERE n < ?) "
+            + "SELECT n, CONCAT('ST-B-', LPAD(n, 10, '0')), "
+            + "ELT(1 + n % 6, 'Juan Pérez', 'María García', 'Carlos López', 'Ana Torres', 'Luis Ramírez', 'Sofía Castro'), "
+            + "ELT(1 + n % 5, 'OPEN', 'IN_PROGRESS', 'RESOLVED', 'CLOSED', 'CANCELLED'), "
+            + "ELT(1 + n % 4, 'LOW', 'MEDIUM', 'HIGH', 'CRITICAL'), "
+            + "ELT(1 + (n DIV 7) % 6, 'NETWORK', 'HARDWARE', 'SOFTWARE', 'ACCESS', 'EMAIL', 'PRINTER'), "
+            + "(n * 7919) % 100000 / 100 + 0.01, ELT(1 + (n DIV 3) % 2, 'USD', 'EUR'), "
+            + "? + INTERVAL (n * ?) MICROSECOND, DATE(? + INTERVAL (n * ?) MICROSECOND) + INTERVAL 30 DAY, 0 "
+            + "FROM seq";
+
+    @Param({"50000000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean partitioned;
+
+    private ConfigurableApplicationContext context;
+    private SupportTicketRepository repository;
+    private TransactionTemplate readOnlyTransaction;
+
+    private final TicketFilter lastWeek = new TicketFilter(null, null, null, null, null,
+            NEWEST.minusDays(7), NEWEST);
+    private final TicketFilter lastMonthOpen = new TicketFilter(null, TicketStatus.OPEN, null, null, null,
+            NEWEST.minusDays(30), NEWEST);
+    private final TicketFilter lastQuarter = new TicketFilter(null, null, null, null, null,
+            NEWEST.minusDays(90), NEWEST);
+    private final TicketFilter lastYear = new TicketFilter(null, null, null, null, null,
+            NEWEST.minusDays(365), NEWEST);
+    private final List<String> slimFields = List.of("id", "ticketNumber", "status", "createdAt");
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        String url = env("BENCHMARK_MYSQL_URL", "jdbc:mysql://localhost:3307/")
+                + (partitioned ? "tickets_bench_partitioned" : "tickets_bench_plain")
+                + "?createDatabaseIfNotExist=true&useSSL=false&serverTimezone=UTC&allowPublicKeyRetrieval=true";
+        String user = env("BENCHMARK_MYSQL_USER", "AppRoot");
+        String password = env("BENCHMARK_MYSQL_PASSWORD", "abcd");
+
+        migrate(url, user, password, "classpath:db/migration");
+        seed(url, user, password);
+        if (partitioned) {
+            migrate(url, user, password, "classpath:db/migration", "classpath:db/partitioning");
+        }
+
+        context = new SpringApplicationBuilder(SupportTicketsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=" + url,
+                        "spring.datasource.username=" + user,
+                        "spring.datasource.password=" + password,
+                        "spring.jpa.show-sql=false",
+                        "spring.flyway.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "tickets.search.enabled=false",
+                        "tickets.cache.listings.enabled=false",
+                        "tickets.outbox.enabled=false")
+                .run();
+        repository = context.getBean(SupportTicketRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<SupportTicket> lastWeek_FirstPageWithCount() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(lastWeek,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Benchmark
+    public Page<SupportTicket> lastMonth_StatusFirstPageWithCount() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(lastMonthOpen,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Benchmark
+    public Page<SupportTicketResponse> lastQuarter_SlimProjection() {
+        return readOnlyTransaction.execute(status -> repository.findResponsesWithFilters(lastQuarter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), slimFields));
+    }
+
+    @Benchmark
+    public Page<SupportTicket> lastYear_SortedByCost() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(lastYear,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "estimatedCost"))));
+    }
+
+    private void seed(String url, String user, String password) {
+        SingleConnectionDataSource dataSource = new SingleConnectionDataSource(url, user, password, true);
+        try {
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            Long loaded = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM support_tickets", Long.class);
+            if (loaded >= rows) {
+                return;
+            }
+            long stepMicros = Duration.between(OLDEST, NEWEST).toNanos() / 1000 / rows;
+            Timestamp oldest = Timestamp.valueOf(OLDEST);
+            jdbcTemplate.execute("SET SESSION cte_max_recursion_depth = " + (SEED_CHUNK_SIZE + 1));
+            for (long first = loaded + 1; first <= rows; first += SEED_CHUNK_SIZE) {
+                long last = Math.min(first + SEED_CHUNK_SIZE - 1, rows);
+                jdbcTemplate.update(SEED_SQL, first, last, oldest, stepMicros, oldest, stepMicros);
+            }
+            jdbcTemplate.execute("ANALYZE TABLE support_tickets");
+        } finally {
+            dataSource.destroy();
+        }
+    }
+
+    private static void migrate(String url, String user, String password, String... locations) {
+        Flyway.configure()
+                .dataSource(url, user, password)
+                .locations(locations)
+                .baselineOnMigrate(true)
+                .baselineVersion("0")
+                .outOfOrder(true)
+                .load()
+                .migrate();
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isEmpty() ? value : defaultValue;
+    }
+}
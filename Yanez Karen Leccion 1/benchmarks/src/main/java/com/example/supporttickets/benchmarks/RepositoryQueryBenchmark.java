@@ -0,0 +1,162 @@
+package com.example.supporttickets.benchmarks;
+
+import com.example.supporttickets.SupportTicketsApplication;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketCursor;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.repository.TicketProjection;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RepositoryQueryBenchmark {
+
+    private static final int SEED_BATCH_SIZE = 10_000;
+    private static final String INSERT_SQL = "INSERT INTO support_tickets (id, ticket_number, requester_name, status, priority, "
+            + "category, estimated_cost, currency, created_at, due_date, version) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0)";
+
+    @Param({"1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private SupportTicketRepository repository;
+    private TransactionTemplate readOnlyTransaction;
+
+    private final TicketFilter noFilter = new TicketFilter(null, null, null, null, null, null, null);
+    private final TicketFilter statusCurrencyFilter = new TicketFilter(null, TicketStatus.OPEN, Currency.USD,
+            null, null, null, null);
+    private final TicketFilter costRangeFilter = new TicketFilter(null, null, Currency.EUR,
+            new BigDecimal("100.00"), new BigDecimal("150.00"), null, null);
+    private final TicketFilter textFilter = new TicketFilter("garcía", null, null, null, null, null, null);
+    private final List<String> slimFields = List.of("id", "ticketNumber", "status", "dueDate");
+    private TicketCursor deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(SupportTicketsApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:benchmarks;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1;IGNORE_UNKNOWN_SETTINGS=TRUE",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.hibernate.ddl-auto=create",
+                        "spring.jpa.show-sql=false",
+                        "spring.flyway.enabled=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "tickets.search.enabled=false",
+                        "tickets.cache.listings.enabled=false")
+                .run();
+        repository = context.getBean(SupportTicketRepository.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+
+        seed(context.getBean(JdbcTemplate.class));
+
+        SupportTicket middle = readOnlyTransaction.execute(status -> repository.findById((long) rows / 2).orElseThrow());
+        deepCursor = new TicketCursor("createdAt", Sort.Direction.DESC, middle.getCreatedAt(), middle.getId());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<SupportTicket> firstPage_NoFilters() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(noFilter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Benchmark
+    public Page<SupportTicketResponse> firstPage_NoFilters_Projection() {
+        return readOnlyTransaction.execute(status -> repository.findResponsesWithFilters(noFilter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), TicketProjection.FIELDS));
+    }
+
+    @Benchmark
+    public Page<SupportTicketResponse> firstPage_NoFilters_SlimProjection() {
+        return readOnlyTransaction.execute(status -> repository.findResponsesWithFilters(noFilter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt")), slimFields));
+    }
+
+    @Benchmark
+    public Page<SupportTicket> firstPage_StatusAndCurrency() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(statusCurrencyFilter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Benchmark
+    public Page<SupportTicket> firstPage_CostRange() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(costRangeFilter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.ASC, "estimatedCost"))));
+    }
+
+    @Benchmark
+    public Page<SupportTicket> firstPage_TextSearch() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(textFilter,
+                PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Benchmark
+    public Page<SupportTicket> deepOffsetPage() {
+        return readOnlyTransaction.execute(status -> repository.findWithFilters(noFilter,
+                PageRequest.of(rows / 40, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Benchmark
+    public Slice<SupportTicket> deepKeysetPage() {
+        return readOnlyTransaction.execute(status -> repository.findWithFiltersAfter(noFilter,
+                Sort.Order.desc("createdAt"), deepCursor, 20));
+    }
+
+    private void seed(JdbcTemplate jdbcTemplate) {
+        Random random = new Random(42);
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            SupportTicket ticket = BenchmarkData.ticket(id, random);
+            batch.add(new Object[]{
+                    ticket.getId(), ticket.getTicketNumber(), ticket.getRequesterName(),
+                    ticket.getStatus().name(), ticket.getPriority().name(), ticket.getCategory(),
+                    ticket.getEstimatedCost(), ticket.getCurrency().name(),
+                    Timestamp.valueOf(ticket.getCreatedAt()), Date.valueOf(ticket.getDueDate())});
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.supporttickets.benchmarks;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.service.SupportTicketMapper;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TicketMappingBenchmark {
+
+    @Param({"1", "20", "100"})
+    private int size;
+
+    private List<SupportTicket> tickets;
+
+    @Setup
+    public void setUp() {
+        tickets = BenchmarkData.tickets(size, 42);
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole blackhole) {
+        for (SupportTicket ticket : tickets) {
+            SupportTicketResponse response = SupportTicketMapper.toResponse(ticket);
+            blackhole.consume(response);
+        }
+    }
+}
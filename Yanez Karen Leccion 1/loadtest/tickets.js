@@ -0,0 +1,57 @@
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const VUS = parseInt(__ENV.VUS || '200');
+const DURATION = __ENV.DURATION || '60s';
+
+export const options = {
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+    thresholds: {
+        'http_req_duration{name:createTicket}': ['p(99)<2000'],
+        'http_req_duration{name:findTicketsWithFilters}': ['p(99)<2000'],
+    },
+    scenarios: {
+        createTicket: {
+            executor: 'constant-vus',
+            exec: 'createTicket',
+            vus: Math.max(1, Math.floor(VUS / 4)),
+            duration: DURATION,
+        },
+        findTicketsWithFilters: {
+            executor: 'constant-vus',
+            exec: 'findTicketsWithFilters',
+            vus: VUS - Math.max(1, Math.floor(VUS / 4)),
+            duration: DURATION,
+        },
+    },
+};
+
+const STATUSES = ['OPEN', 'IN_PROGRESS', 'RESOLVED', 'CLOSED', 'CANCELLED'];
+const CURRENCIES = ['USD', 'EUR'];
+
+export function createTicket() {
+    const body = JSON.stringify({
+        requesterName: `Carga ${__VU}-${__ITER}`,
+        status: 'OPEN',
+        priority: 'MEDIUM',
+        category: 'NETWORK',
+        estimatedCost: 100.5,
+        currency: CURRENCIES[__ITER % CURRENCIES.length],
+        dueDate: '2030-12-31',
+    });
+    const res = http.post(`${BASE_URL}/api/v1/support-tickets`, body, {
+        headers: { 'Content-Type': 'application/json' },
+        tags: { name: 'createTicket' },
+    });
+    check(res, { 'created': (r) => r.status === 201 });
+}
+
+export function findTicketsWithFilters() {
+    const status = STATUSES[__ITER % STATUSES.length];
+    const currency = CURRENCIES[__VU % CURRENCIES.length];
+    const res = http.get(
+        `${BASE_URL}/api/v1/support-tickets?status=${status}&currency=${currency}&minCost=10&size=20&sort=createdAt,desc`,
+        { tags: { name: 'findTicketsWithFilters' } });
+    check(res, { 'ok': (r) => r.status === 200 });
+}
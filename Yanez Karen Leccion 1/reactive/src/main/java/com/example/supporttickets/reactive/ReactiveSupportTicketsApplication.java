@@ -0,0 +1,13 @@
+package com.example.supporttickets.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class ReactiveSupportTicketsApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(ReactiveSupportTicketsApplication.class, args);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.example.supporttickets.reactive.controller;
+
+import com.example.supporttickets.controller.TicketETags;
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.reactive.service.ReactiveSupportTicketService;
+import jakarta.validation.Valid;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+@RestController
+@RequestMapping("/api/v1/support-tickets")
+@CrossOrigin(origins = "*")
+public class ReactiveSupportTicketController {
+
+    private final ReactiveSupportTicketService supportTicketService;
+
+    @Autowired
+    public ReactiveSupportTicketController(ReactiveSupportTicketService supportTicketService) {
+        this.supportTicketService = supportTicketService;
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<SupportTicketResponse>> createTicket(@Valid @RequestBody SupportTicketRequest request) {
+        return supportTicketService.createTicket(request)
+                .map(response -> ResponseEntity.status(HttpStatus.CREATED).body(response));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> getTickets(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) String minCost,
+            @RequestParam(required = false) String maxCost,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestHeader HttpHeaders headers) {
+
+        if (acceptsNdjson(headers)) {
+            Flux<SupportTicketResponse> tickets = supportTicketService.streamTicketsWithFilters(
+                    q, status, currency, minCost, maxCost, from, to, sort);
+            return Mono.just(ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(tickets));
+        }
+
+        return supportTicketService.findTicketsWithFilters(
+                        q, status, currency, minCost, maxCost, from, to, page, size, sort)
+                .map(ResponseEntity::ok);
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<SupportTicketResponse>> getTicketById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        return supportTicketService.findTicketById(id)
+                .map(ticket -> ifNoneMatch != null && TicketETags.matchesAny(ifNoneMatch, ticket.getVersion())
+                        ? ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(TicketETags.format(ticket.getVersion())).<SupportTicketResponse>build()
+                        : ResponseEntity.ok().eTag(TicketETags.format(ticket.getVersion())).body(ticket));
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<SupportTicketResponse>> updateTicket(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody SupportTicketRequest request) {
+        return supportTicketService.updateTicket(id, request, TicketETags.parseIfMatch(ifMatch))
+                .map(ticket -> ResponseEntity.ok().eTag(TicketETags.format(ticket.getVersion())).body(ticket));
+    }
+
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<SupportTicketResponse>> partialUpdateTicket(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @RequestBody SupportTicketRequest request) {
+        return supportTicketService.partialUpdateTicket(id, request, TicketETags.parseIfMatch(ifMatch))
+                .map(ticket -> ResponseEntity.ok().eTag(TicketETags.format(ticket.getVersion())).body(ticket));
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteTicket(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return supportTicketService.deleteTicket(id, TicketETags.parseIfMatch(ifMatch))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    private static boolean acceptsNdjson(HttpHeaders headers) {
+        return headers.getAccept().stream().anyMatch(MediaType.APPLICATION_NDJSON::equalsTypeAndSubtype);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.supporttickets.reactive.outbox;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.TicketChangeType;
+import com.example.supporttickets.reactive.service.ReactiveSequenceAllocator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+
+@Component
+public class ReactiveTicketOutboxWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO ticket_outbox (id, ticket_id, event_type, payload, created_at) "
+            + "VALUES (:id, :ticketId, :eventType, :payload, :createdAt)";
+
+    private final DatabaseClient databaseClient;
+    private final ReactiveSequenceAllocator sequenceAllocator;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    @Autowired
+    public ReactiveTicketOutboxWriter(DatabaseClient databaseClient,
+                                      ReactiveSequenceAllocator sequenceAllocator,
+                                      ObjectMapper objectMapper,
+                                      @Value("${tickets.outbox.enabled:true}") boolean enabled) {
+        this.databaseClient = databaseClient;
+        this.sequenceAllocator = sequenceAllocator;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    public Mono<Void> write(TicketChangeType type, SupportTicketResponse ticket) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+        return Mono.fromCallable(() -> toJson(ticket))
+                .zipWith(sequenceAllocator.nextOutboxId())
+                .flatMap(event -> databaseClient.sql(INSERT_SQL)
+                        .bind("id", event.getT2())
+                        .bind("ticketId", ticket.getId())
+                        .bind("eventType", type.name())
+                        .bind("payload", event.getT1())
+                        .bind("createdAt", LocalDateTime.now())
+                        .then());
+    }
+
+    private String toJson(SupportTicketResponse ticket) {
+        try {
+            return objectMapper.writeValueAsString(ticket);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No fue posible serializar el evento del ticket " + ticket.getId(), e);
+        }
+    }
+}
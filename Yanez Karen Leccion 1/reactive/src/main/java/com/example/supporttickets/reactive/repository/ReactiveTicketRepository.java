@@ -0,0 +1,149 @@
+package com.example.supporttickets.reactive.repository;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.TicketFilter;
+import io.r2dbc.spi.Row;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Repository
+public class ReactiveTicketRepository {
+
+    private static final String INSERT_SQL = "INSERT INTO support_tickets (id, ticket_number, requester_name, status, "
+            + "priority, category, estimated_cost, currency, created_at, due_date, version) VALUES (:id, :ticketNumber, "
+            + ":requesterName, :status, :priority, :category, :estimatedCost, :currency, :createdAt, :dueDate, 0)";
+    private static final String UPDATE_SQL = "UPDATE support_tickets SET requester_name = :requesterName, "
+            + "status = :status, priority = :priority, category = :category, estimated_cost = :estimatedCost, "
+            + "currency = :currency, due_date = :dueDate, version = version + 1 WHERE id = :id AND version = :version AND "
+            + TicketSqlBuilder.NOT_DELETED;
+    private static final String PARTIAL_UPDATE_SQL = "UPDATE support_tickets SET "
+            + "requester_name = COALESCE(:requesterName, requester_name), status = COALESCE(:status, status), "
+            + "priority = COALESCE(:priority, priority), category = COALESCE(:category, category), "
+            + "estimated_cost = COALESCE(:estimatedCost, estimated_cost), currency = COALESCE(:currency, currency), "
+            + "due_date = COALESCE(:dueDate, due_date), version = version + 1 WHERE id = :id AND version = :version AND "
+            + TicketSqlBuilder.NOT_DELETED;
+    private static final String FIND_BY_ID_SQL = "SELECT " + TicketSqlBuilder.COLUMNS
+            + " FROM support_tickets WHERE id = :id AND " + TicketSqlBuilder.NOT_DELETED;
+
+    private final DatabaseClient databaseClient;
+    private final boolean softDelete;
+
+    @Autowired
+    public ReactiveTicketRepository(DatabaseClient databaseClient,
+                                    @Value("${tickets.delete.soft:false}") boolean softDelete) {
+        this.databaseClient = databaseClient;
+        this.softDelete = softDelete;
+    }
+
+    public Flux<SupportTicketResponse> findWithFilters(TicketFilter filter, Pageable pageable) {
+        TicketSqlBuilder builder = TicketSqlBuilder.forFilter(filter);
+        String sql = pageable.isPaged()
+                ? builder.selectSql(pageable.getSort(), pageable.getOffset(), pageable.getPageSize())
+                : builder.selectSql(pageable.getSort());
+        return builder.bind(databaseClient.sql(sql))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Flux<SupportTicketResponse> streamWithFilters(TicketFilter filter, Sort sort) {
+        TicketSqlBuilder builder = TicketSqlBuilder.forFilter(filter);
+        return builder.bind(databaseClient.sql(builder.selectSql(sort)))
+                .map((row, metadata) -> toResponse(row))
+                .all();
+    }
+
+    public Mono<Long> countWithFilters(TicketFilter filter) {
+        TicketSqlBuilder builder = TicketSqlBuilder.forFilter(filter);
+        return builder.bind(databaseClient.sql(builder.countSql()))
+                .map((row, metadata) -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<SupportTicketResponse> findById(Long id) {
+        return databaseClient.sql(FIND_BY_ID_SQL)
+                .bind("id", id)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    public Mono<SupportTicketResponse> findByIdForUpdate(Long id) {
+        return databaseClient.sql(FIND_BY_ID_SQL + " FOR UPDATE")
+                .bind("id", id)
+                .map((row, metadata) -> toResponse(row))
+                .one();
+    }
+
+    public Mono<Void> insert(Long id, String ticketNumber, SupportTicketRequest request, LocalDateTime createdAt) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(INSERT_SQL)
+                .bind("id", id)
+                .bind("ticketNumber", ticketNumber)
+                .bind("createdAt", createdAt);
+        return bindRequest(spec, request).then();
+    }
+
+    public Mono<Long> update(Long id, Long version, SupportTicketRequest request) {
+        return bindRequest(databaseClient.sql(UPDATE_SQL).bind("id", id).bind("version", version), request)
+                .fetch().rowsUpdated();
+    }
+
+    public Mono<Long> partialUpdate(Long id, Long version, SupportTicketRequest request) {
+        return bindRequest(databaseClient.sql(PARTIAL_UPDATE_SQL).bind("id", id).bind("version", version), request)
+                .fetch().rowsUpdated();
+    }
+
+    public Mono<Long> deleteById(Long id, Long version) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(TicketSqlBuilder.deleteSql(softDelete))
+                .bind("id", id)
+                .bind("version", version);
+        if (softDelete) {
+            spec = spec.bind("deletedAt", LocalDateTime.now());
+        }
+        return spec.fetch()
+                .rowsUpdated();
+    }
+
+    private DatabaseClient.GenericExecuteSpec bindRequest(DatabaseClient.GenericExecuteSpec spec, SupportTicketRequest request) {
+        spec = bindNullable(spec, "requesterName", request.getRequesterName(), String.class);
+        spec = bindNullable(spec, "status", request.getStatus() != null ? request.getStatus().name() : null, String.class);
+        spec = bindNullable(spec, "priority", request.getPriority() != null ? request.getPriority().name() : null, String.class);
+        spec = bindNullable(spec, "category", request.getCategory(), String.class);
+        spec = bindNullable(spec, "estimatedCost", request.getEstimatedCost(), BigDecimal.class);
+        spec = bindNullable(spec, "currency", request.getCurrency() != null ? request.getCurrency().name() : null, String.class);
+        return bindNullable(spec, "dueDate", request.getDueDate(), LocalDate.class);
+    }
+
+    private static DatabaseClient.GenericExecuteSpec bindNullable(DatabaseClient.GenericExecuteSpec spec,
+                                                                  String name, Object value, Class<?> type) {
+        return value != null ? spec.bind(name, value) : spec.bindNull(name, type);
+    }
+
+    private static SupportTicketResponse toResponse(Row row) {
+        return new SupportTicketResponse(
+                row.get("id", Long.class),
+                row.get("ticket_number", String.class),
+                row.get("requester_name", String.class),
+                TicketStatus.valueOf(row.get("status", String.class)),
+                TicketPriority.valueOf(row.get("priority", String.class)),
+                row.get("category", String.class),
+                row.get("estimated_cost", BigDecimal.class),
+                Currency.valueOf(row.get("currency", String.class)),
+                row.get("created_at", LocalDateTime.class),
+                row.get("due_date", LocalDate.class),
+                row.get("version", Long.class)
+        );
+    }
+}
@@ -0,0 +1,129 @@
+package com.example.supporttickets.reactive.repository;
+
+import com.example.supporttickets.repository.TicketFilter;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+final class TicketSqlBuilder {
+
+    static final String COLUMNS = "id, ticket_number, requester_name, status, priority, category, "
+            + "estimated_cost, currency, created_at, due_date, version";
+
+    static final String NOT_DELETED = "deleted_at IS NULL";
+
+    private static final String FROM = " FROM support_tickets";
+    private static final Map<String, String> SORT_COLUMNS = Map.of(
+            "id", "id",
+            "ticketNumber", "ticket_number",
+            "requesterName", "requester_name",
+            "status", "status",
+            "priority", "priority",
+            "category", "category",
+            "estimatedCost", "estimated_cost",
+            "currency", "currency",
+            "createdAt", "created_at",
+            "dueDate", "due_date");
+
+    private final StringBuilder where = new StringBuilder();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    private TicketSqlBuilder() {
+    }
+
+    static TicketSqlBuilder forFilter(TicketFilter filter) {
+        TicketSqlBuilder builder = new TicketSqlBuilder();
+        builder.and(NOT_DELETED);
+        if (filter.getQ() != null) {
+            builder.and("(LOWER(ticket_number) LIKE LOWER(CONCAT('%', :q, '%'))"
+                    + " OR LOWER(requester_name) LIKE LOWER(CONCAT('%', :q, '%'))"
+                    + " OR LOWER(category) LIKE LOWER(CONCAT('%', :q, '%')))", "q", filter.getQ());
+        }
+        if (filter.getIds() != null) {
+            builder.and("id IN (:ids)", "ids", filter.getIds());
+        }
+        if (filter.getStatus() != null) {
+            builder.and("status = :status", "status", filter.getStatus().name());
+        }
+        if (filter.getCurrency() != null) {
+            builder.and("currency = :currency", "currency", filter.getCurrency().name());
+        }
+        if (filter.getMinCost() != null) {
+            builder.and("estimated_cost >= :minCost", "minCost", filter.getMinCost());
+        }
+        if (filter.getMaxCost() != null) {
+            builder.and("estimated_cost <= :maxCost", "maxCost", filter.getMaxCost());
+        }
+        if (filter.getFrom() != null) {
+            builder.and("created_at >= :from", "from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            builder.and("created_at <= :to", "to", filter.getTo());
+        }
+        return builder;
+    }
+
+    TicketSqlBuilder and(String predicate, String name, Object value) {
+        parameters.put(name, value);
+        return and(predicate);
+    }
+
+    private TicketSqlBuilder and(String predicate) {
+        where.append(where.length() == 0 ? " WHERE " : " AND ").append(predicate);
+        return this;
+    }
+
+    String selectSql(Sort sort) {
+        return "SELECT " + COLUMNS + FROM + where + orderBy(sort);
+    }
+
+    String selectSql(Sort sort, long offset, int limit) {
+        return selectSql(sort) + " LIMIT " + limit + " OFFSET " + offset;
+    }
+
+    String countSql() {
+        return "SELECT COUNT(*)" + FROM + where;
+    }
+
+    static String deleteSql(boolean soft) {
+        return soft
+                ? "UPDATE support_tickets SET deleted_at = :deletedAt, version = version + 1"
+                        + " WHERE id = :id AND version = :version AND " + NOT_DELETED
+                : "DELETE FROM support_tickets WHERE id = :id AND version = :version";
+    }
+
+    Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+        for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+            spec = spec.bind(parameter.getKey(), parameter.getValue());
+        }
+        return spec;
+    }
+
+    static String column(String property) {
+        String column = SORT_COLUMNS.get(property);
+        if (column == null) {
+            throw new IllegalArgumentException("Propiedad de ordenamiento inválida: " + property);
+        }
+        return column;
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return "";
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        String separator = "";
+        for (Sort.Order order : sort) {
+            orderBy.append(separator).append(column(order.getProperty()))
+                    .append(order.isAscending() ? " ASC" : " DESC");
+            separator = ", ";
+        }
+        return orderBy.toString();
+    }
+}
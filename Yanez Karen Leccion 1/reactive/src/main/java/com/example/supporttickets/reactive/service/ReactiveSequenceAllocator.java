@@ -0,0 +1,128 @@
+package com.example.supporttickets.reactive.service;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.ReactiveTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+public class ReactiveSequenceAllocator {
+
+    private static final String PREFIX = "ST-";
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator requiresNew;
+    private final Clock clock;
+    private final int blockSize;
+
+    private final AtomicReference<NumberRange> ids = new AtomicReference<>(NumberRange.EMPTY);
+    private final AtomicReference<NumberRange> outboxIds = new AtomicReference<>(NumberRange.EMPTY);
+    private final AtomicReference<NumberRange> ticketNumbers = new AtomicReference<>(NumberRange.EMPTY);
+
+    @Autowired
+    public ReactiveSequenceAllocator(DatabaseClient databaseClient,
+                                     ReactiveTransactionManager transactionManager,
+                                     @Value("${tickets.number.block-size:50}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("tickets.number.block-size debe ser mayor o igual a 1");
+        }
+        DefaultTransactionDefinition definition = new DefaultTransactionDefinition(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.databaseClient = databaseClient;
+        this.requiresNew = TransactionalOperator.create(transactionManager, definition);
+        this.clock = Clock.systemDefaultZone();
+        this.blockSize = blockSize;
+    }
+
+    public Mono<Long> nextId() {
+        return next(ids, 0, () -> reserveIds("support_tickets_seq"));
+    }
+
+    public Mono<Long> nextOutboxId() {
+        return next(outboxIds, 0, () -> reserveIds("ticket_outbox_seq"));
+    }
+
+    public Mono<String> nextTicketNumber() {
+        int year = Year.now(clock).getValue();
+        return next(ticketNumbers, year, () -> reserveTicketNumbers(year))
+                .map(value -> String.format("%s%d-%06d", PREFIX, year, value));
+    }
+
+    private Mono<Long> next(AtomicReference<NumberRange> current, int year, BlockReservation reservation) {
+        return Mono.defer(() -> {
+            NumberRange range = current.get();
+            if (range.year == year) {
+                long value = range.next.getAndIncrement();
+                if (value < range.limit) {
+                    return Mono.just(value);
+                }
+            }
+            return reservation.reserve().map(first -> {
+                current.set(new NumberRange(year, first + 1, first + blockSize));
+                return first;
+            });
+        });
+    }
+
+    private Mono<Long> reserveIds(String sequenceTable) {
+        return databaseClient.sql("SELECT next_val FROM " + sequenceTable + " FOR UPDATE")
+                .map((row, metadata) -> row.get("next_val", Long.class))
+                .one()
+                .flatMap(first -> databaseClient.sql("UPDATE " + sequenceTable + " SET next_val = :next WHERE next_val = :current")
+                        .bind("next", first + blockSize)
+                        .bind("current", first)
+                        .then()
+                        .thenReturn(first))
+                .as(requiresNew::transactional);
+    }
+
+    private Mono<Long> reserveTicketNumbers(int year) {
+        return databaseClient.sql("INSERT INTO ticket_number_sequences (sequence_year, next_value) "
+                        + "SELECT :year, COALESCE(MAX(CAST(SUBSTRING(ticket_number, :offset) AS UNSIGNED)), 0) + 1 "
+                        + "FROM support_tickets WHERE ticket_number LIKE :prefix "
+                        + "ON DUPLICATE KEY UPDATE next_value = next_value")
+                .bind("year", year)
+                .bind("offset", PREFIX.length() + 6)
+                .bind("prefix", PREFIX + year + "-%")
+                .then()
+                .then(databaseClient.sql("SELECT next_value FROM ticket_number_sequences WHERE sequence_year = :year FOR UPDATE")
+                        .bind("year", year)
+                        .map((row, metadata) -> row.get("next_value", Long.class))
+                        .one())
+                .flatMap(first -> databaseClient.sql("UPDATE ticket_number_sequences SET next_value = :next WHERE sequence_year = :year")
+                        .bind("next", first + blockSize)
+                        .bind("year", year)
+                        .then()
+                        .thenReturn(first))
+                .as(requiresNew::transactional);
+    }
+
+    @FunctionalInterface
+    private interface BlockReservation {
+        Mono<Long> reserve();
+    }
+
+    private static final class NumberRange {
+
+        private static final NumberRange EMPTY = new NumberRange(Integer.MIN_VALUE, 0, 0);
+
+        private final int year;
+        private final AtomicLong next;
+        private final long limit;
+
+        private NumberRange(int year, long first, long limit) {
+            this.year = year;
+            this.next = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+}
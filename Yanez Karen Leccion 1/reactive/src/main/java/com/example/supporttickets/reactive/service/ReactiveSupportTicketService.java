@@ -0,0 +1,149 @@
+package com.example.supporttickets.reactive.service;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.exception.PreconditionFailedException;
+import com.example.supporttickets.exception.ResourceNotFoundException;
+import com.example.supporttickets.model.TicketChangeType;
+import com.example.supporttickets.reactive.outbox.ReactiveTicketOutboxWriter;
+import com.example.supporttickets.reactive.repository.ReactiveTicketRepository;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.repository.TicketPatch;
+import com.example.supporttickets.service.SupportTicketMapper;
+import com.example.supporttickets.service.TicketRequestParser;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Set;
+
+@Service
+@Transactional
+public class ReactiveSupportTicketService {
+
+    private final ReactiveTicketRepository ticketRepository;
+    private final ReactiveSequenceAllocator sequenceAllocator;
+    private final ReactiveTicketOutboxWriter outboxWriter;
+    private final int streamPrefetch;
+
+    @Autowired
+    public ReactiveSupportTicketService(ReactiveTicketRepository ticketRepository,
+                                        ReactiveSequenceAllocator sequenceAllocator,
+                                        ReactiveTicketOutboxWriter outboxWriter,
+                                        @Value("${tickets.stream.prefetch:256}") int streamPrefetch) {
+        this.ticketRepository = ticketRepository;
+        this.sequenceAllocator = sequenceAllocator;
+        this.outboxWriter = outboxWriter;
+        this.streamPrefetch = streamPrefetch;
+    }
+
+    public Mono<SupportTicketResponse> createTicket(SupportTicketRequest request) {
+        LocalDateTime createdAt = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        return Mono.zip(sequenceAllocator.nextId(), sequenceAllocator.nextTicketNumber())
+                .flatMap(allocated -> {
+                    SupportTicketResponse response = new SupportTicketResponse(
+                            allocated.getT1(), allocated.getT2(), request.getRequesterName(), request.getStatus(),
+                            request.getPriority(), request.getCategory(), request.getEstimatedCost(),
+                            request.getCurrency(), createdAt, request.getDueDate(), 0L);
+                    return ticketRepository.insert(allocated.getT1(), allocated.getT2(), request, createdAt)
+                            .then(outboxWriter.write(TicketChangeType.CREATED, response))
+                            .thenReturn(response);
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<Page<SupportTicketResponse>> findTicketsWithFilters(
+            String q, String status, String currency,
+            String minCost, String maxCost, String from, String to,
+            int page, int size, String sort) {
+
+        return Mono.fromCallable(() -> TicketRequestParser.buildFilter(q, status, currency, minCost, maxCost, from, to))
+                .flatMap(filter -> {
+                    Pageable pageable = PageRequest.of(page, size, TicketRequestParser.parseSort(sort));
+                    return ticketRepository.findWithFilters(filter, pageable)
+                            .collectList()
+                            .flatMap(content -> toPage(filter, pageable, content));
+                });
+    }
+
+    @Transactional(readOnly = true)
+    public Flux<SupportTicketResponse> streamTicketsWithFilters(
+            String q, String status, String currency,
+            String minCost, String maxCost, String from, String to, String sort) {
+
+        return Mono.fromCallable(() -> TicketRequestParser.buildFilter(q, status, currency, minCost, maxCost, from, to))
+                .flatMapMany(filter -> ticketRepository.streamWithFilters(filter, TicketRequestParser.parseSort(sort)))
+                .limitRate(streamPrefetch);
+    }
+
+    @Transactional(readOnly = true)
+    public Mono<SupportTicketResponse> findTicketById(Long id) {
+        return ticketRepository.findById(id)
+                .switchIfEmpty(notFound(id));
+    }
+
+    public Mono<SupportTicketResponse> updateTicket(Long id, SupportTicketRequest request, Set<Long> expectedVersions) {
+        return findForWrite(id, expectedVersions)
+                .flatMap(previous -> ticketRepository.update(id, previous.getVersion(), request)
+                        .then(ticketRepository.findById(id)))
+                .flatMap(this::publishUpdated);
+    }
+
+    public Mono<SupportTicketResponse> partialUpdateTicket(Long id, SupportTicketRequest request, Set<Long> expectedVersions) {
+        return Mono.fromCallable(() -> {
+                    TicketPatch patch = SupportTicketMapper.toPatch(request);
+                    patch.validate();
+                    return patch;
+                })
+                .flatMap(patch -> findForWrite(id, expectedVersions)
+                        .flatMap(previous -> patch.isEmpty()
+                                ? Mono.just(previous)
+                                : ticketRepository.partialUpdate(id, previous.getVersion(), request)
+                                        .then(ticketRepository.findById(id))
+                                        .flatMap(this::publishUpdated)));
+    }
+
+    public Mono<Void> deleteTicket(Long id, Set<Long> expectedVersions) {
+        return findForWrite(id, expectedVersions)
+                .flatMap(previous -> ticketRepository.deleteById(id, previous.getVersion())
+                        .then(outboxWriter.write(TicketChangeType.DELETED, previous)));
+    }
+
+    private Mono<SupportTicketResponse> findForWrite(Long id, Set<Long> expectedVersions) {
+        return ticketRepository.findByIdForUpdate(id)
+                .switchIfEmpty(notFound(id))
+                .flatMap(ticket -> expectedVersions != null && !expectedVersions.contains(ticket.getVersion())
+                        ? Mono.<SupportTicketResponse>error(new PreconditionFailedException("El ticket con ID " + id
+                                + " fue modificado por otra solicitud. Versión actual: " + ticket.getVersion()))
+                        : Mono.just(ticket));
+    }
+
+    private Mono<SupportTicketResponse> publishUpdated(SupportTicketResponse current) {
+        return outboxWriter.write(TicketChangeType.UPDATED, current).thenReturn(current);
+    }
+
+    private Mono<Page<SupportTicketResponse>> toPage(TicketFilter filter, Pageable pageable, List<SupportTicketResponse> content) {
+        if (pageable.getOffset() == 0 && content.size() < pageable.getPageSize()) {
+            return Mono.just(new PageImpl<>(content, pageable, content.size()));
+        }
+        if (!content.isEmpty() && content.size() < pageable.getPageSize()) {
+            return Mono.just(new PageImpl<>(content, pageable, pageable.getOffset() + content.size()));
+        }
+        return ticketRepository.countWithFilters(filter)
+                .map(total -> new PageImpl<>(content, pageable, total));
+    }
+
+    private static <T> Mono<T> notFound(Long id) {
+        return Mono.error(new ResourceNotFoundException("Ticket no encontrado con ID: " + id));
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.supporttickets.reactive.controller;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.exception.InvalidFilterException;
+import com.example.supporttickets.exception.PreconditionFailedException;
+import com.example.supporttickets.exception.ResourceNotFoundException;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.reactive.service.ReactiveSupportTicketService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(ReactiveSupportTicketController.class)
+class ReactiveSupportTicketControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveSupportTicketService supportTicketService;
+
+    private final SupportTicketResponse response = new SupportTicketResponse(
+            1L, "ST-2025-000001", "Juan Pérez", TicketStatus.OPEN,
+            TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"),
+            Currency.USD, LocalDateTime.of(2025, 1, 15, 10, 30), LocalDate.of(2025, 12, 31), 3L);
+
+    @Test
+    void createTicket_ShouldReturnCreatedTicket() {
+        SupportTicketRequest request = new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31));
+        when(supportTicketService.createTicket(any(SupportTicketRequest.class))).thenReturn(Mono.just(response));
+
+        webTestClient.post().uri("/api/v1/support-tickets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody()
+                .jsonPath("$.ticketNumber").isEqualTo("ST-2025-000001");
+    }
+
+    @Test
+    void createTicket_WithInvalidData_ShouldReturnValidationErrors() {
+        SupportTicketRequest request = new SupportTicketRequest();
+
+        webTestClient.post().uri("/api/v1/support-tickets")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(request)
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.error").isEqualTo("Validation Error")
+                .jsonPath("$.validationErrors.requesterName").isEqualTo("El nombre del solicitante es obligatorio");
+    }
+
+    @Test
+    void getTickets_ShouldReturnPage() {
+        when(supportTicketService.findTicketsWithFilters(
+                isNull(), eq("OPEN"), isNull(), isNull(), isNull(), isNull(), isNull(), eq(0), eq(20), eq("createdAt,desc")))
+                .thenReturn(Mono.just(new PageImpl<>(List.of(response), PageRequest.of(0, 20), 1)));
+
+        webTestClient.get().uri("/api/v1/support-tickets?status=OPEN")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.totalElements").isEqualTo(1);
+    }
+
+    @Test
+    void getTickets_WithNdjsonAccept_ShouldStreamTickets() {
+        when(supportTicketService.streamTicketsWithFilters(
+                isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), isNull(), eq("createdAt,desc")))
+                .thenReturn(Flux.just(response, response));
+
+        webTestClient.get().uri("/api/v1/support-tickets")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .expectBodyList(SupportTicketResponse.class).hasSize(2);
+    }
+
+    @Test
+    void getTickets_WithInvalidFilter_ShouldReturnBadRequest() {
+        when(supportTicketService.findTicketsWithFilters(
+                isNull(), eq("INVALID"), isNull(), isNull(), isNull(), isNull(), isNull(), anyInt(), anyInt(), anyString()))
+                .thenReturn(Mono.error(new InvalidFilterException("Estado inválido. Valores permitidos: OPEN, IN_PROGRESS, RESOLVED, CLOSED, CANCELLED")));
+
+        webTestClient.get().uri("/api/v1/support-tickets?status=INVALID")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.path").isEqualTo("uri=/api/v1/support-tickets");
+    }
+
+    @Test
+    void getTicketById_WhenMissing_ShouldReturnNotFound() {
+        when(supportTicketService.findTicketById(99L))
+                .thenReturn(Mono.error(new ResourceNotFoundException("Ticket no encontrado con ID: 99")));
+
+        webTestClient.get().uri("/api/v1/support-tickets/99")
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("Ticket no encontrado con ID: 99");
+    }
+
+    @Test
+    void getTicketById_ShouldReturnETag() {
+        when(supportTicketService.findTicketById(1L)).thenReturn(Mono.just(response));
+
+        webTestClient.get().uri("/api/v1/support-tickets/1")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"3\"");
+    }
+
+    @Test
+    void getTicketById_WithMatchingIfNoneMatch_ShouldReturnNotModified() {
+        when(supportTicketService.findTicketById(1L)).thenReturn(Mono.just(response));
+
+        webTestClient.get().uri("/api/v1/support-tickets/1")
+                .header(HttpHeaders.IF_NONE_MATCH, "\"3\"")
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectBody().isEmpty();
+    }
+
+    @Test
+    void partialUpdateTicket_WithStaleIfMatch_ShouldReturnPreconditionFailed() {
+        when(supportTicketService.partialUpdateTicket(eq(1L), any(SupportTicketRequest.class), eq(Set.of(2L))))
+                .thenReturn(Mono.error(new PreconditionFailedException(
+                        "El ticket con ID 1 fue modificado por otra solicitud. Versión actual: 3")));
+
+        webTestClient.patch().uri("/api/v1/support-tickets/1")
+                .header(HttpHeaders.IF_MATCH, "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new SupportTicketRequest())
+                .exchange()
+                .expectStatus().isEqualTo(412);
+    }
+
+    @Test
+    void partialUpdateTicket_WithInvalidPatch_ShouldReturnBadRequest() {
+        when(supportTicketService.partialUpdateTicket(eq(1L), any(SupportTicketRequest.class), isNull()))
+                .thenReturn(Mono.error(new IllegalArgumentException("El costo estimado debe ser positivo")));
+
+        webTestClient.patch().uri("/api/v1/support-tickets/1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new SupportTicketRequest())
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.message").isEqualTo("El costo estimado debe ser positivo");
+    }
+
+    @Test
+    void deleteTicket_ShouldReturnNoContent() {
+        when(supportTicketService.deleteTicket(1L, null)).thenReturn(Mono.empty());
+
+        webTestClient.delete().uri("/api/v1/support-tickets/1")
+                .exchange()
+                .expectStatus().isNoContent();
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.supporttickets.reactive.repository;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.TicketFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketSqlBuilderTest {
+
+    @Test
+    void forFilter_WithoutFilters_ShouldOnlyExcludeDeletedTickets() {
+        TicketSqlBuilder builder = TicketSqlBuilder.forFilter(new TicketFilter(null, null, null, null, null, null, null));
+
+        assertEquals("SELECT COUNT(*) FROM support_tickets WHERE deleted_at IS NULL", builder.countSql());
+        assertTrue(builder.getParameters().isEmpty());
+    }
+
+    @Test
+    void forFilter_ShouldOnlyIncludePresentFilters() {
+        TicketSqlBuilder builder = TicketSqlBuilder.forFilter(new TicketFilter(
+                null, TicketStatus.OPEN, Currency.USD, new BigDecimal("10"), null, null, null));
+
+        String sql = builder.selectSql(Sort.by(Sort.Direction.DESC, "createdAt"), 40, 20);
+
+        assertTrue(sql.endsWith(" WHERE deleted_at IS NULL AND status = :status AND currency = :currency AND estimated_cost >= :minCost"
+                + " ORDER BY created_at DESC LIMIT 20 OFFSET 40"));
+        assertEquals("OPEN", builder.getParameters().get("status"));
+        assertEquals("USD", builder.getParameters().get("currency"));
+    }
+
+    @Test
+    void forFilter_WithSearchTerm_ShouldSearchCategoryLikeTheApi() {
+        TicketSqlBuilder builder = TicketSqlBuilder.forFilter(new TicketFilter("network", null, null, null, null, null, null));
+
+        assertTrue(builder.countSql().contains("OR LOWER(category) LIKE LOWER(CONCAT('%', :q, '%'))"));
+        assertEquals("network", builder.getParameters().get("q"));
+    }
+
+    @Test
+    void deleteSql_WhenSoft_ShouldMarkDeletedAtInsteadOfDeleting() {
+        assertEquals("UPDATE support_tickets SET deleted_at = :deletedAt, version = version + 1"
+                + " WHERE id = :id AND version = :version AND deleted_at IS NULL", TicketSqlBuilder.deleteSql(true));
+        assertEquals("DELETE FROM support_tickets WHERE id = :id AND version = :version", TicketSqlBuilder.deleteSql(false));
+    }
+
+    @Test
+    void column_WithUnknownProperty_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TicketSqlBuilder.column("ticket_number; DROP TABLE"));
+    }
+}
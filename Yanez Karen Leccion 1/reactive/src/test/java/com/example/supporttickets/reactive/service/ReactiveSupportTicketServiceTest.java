@@ -0,0 +1,131 @@
+package com.example.supporttickets.reactive.service;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.exception.PreconditionFailedException;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketChangeType;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.reactive.outbox.ReactiveTicketOutboxWriter;
+import com.example.supporttickets.reactive.repository.ReactiveTicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReactiveSupportTicketServiceTest {
+
+    @Mock
+    private ReactiveTicketRepository ticketRepository;
+
+    @Mock
+    private ReactiveSequenceAllocator sequenceAllocator;
+
+    @Mock
+    private ReactiveTicketOutboxWriter outboxWriter;
+
+    private ReactiveSupportTicketService supportTicketService;
+
+    private SupportTicketResponse ticket;
+    private SupportTicketRequest request;
+
+    @BeforeEach
+    void setUp() {
+        supportTicketService = new ReactiveSupportTicketService(ticketRepository, sequenceAllocator, outboxWriter, 256);
+        ticket = new SupportTicketResponse(
+                1L, "ST-2025-000001", "Juan Pérez", TicketStatus.OPEN,
+                TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"),
+                Currency.USD, LocalDateTime.of(2025, 1, 15, 10, 30), LocalDate.of(2025, 12, 31), 3L);
+        request = new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.IN_PROGRESS, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31));
+    }
+
+    @Test
+    void createTicket_ShouldWriteOutboxEvent() {
+        when(sequenceAllocator.nextId()).thenReturn(Mono.just(10L));
+        when(sequenceAllocator.nextTicketNumber()).thenReturn(Mono.just("ST-2025-000010"));
+        when(ticketRepository.insert(eq(10L), eq("ST-2025-000010"), eq(request), any(LocalDateTime.class)))
+                .thenReturn(Mono.empty());
+        when(outboxWriter.write(eq(TicketChangeType.CREATED), any(SupportTicketResponse.class))).thenReturn(Mono.empty());
+
+        StepVerifier.create(supportTicketService.createTicket(request))
+                .expectNextMatches(created -> created.getId() == 10L && created.getVersion() == 0L)
+                .verifyComplete();
+        verify(outboxWriter).write(eq(TicketChangeType.CREATED), argThat(created -> created.getId() == 10L));
+    }
+
+    @Test
+    void updateTicket_ShouldUpdateCurrentVersionAndWriteOutboxEvent() {
+        SupportTicketResponse updated = new SupportTicketResponse(
+                1L, "ST-2025-000001", "Juan Pérez", TicketStatus.IN_PROGRESS,
+                TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"),
+                Currency.USD, ticket.getCreatedAt(), ticket.getDueDate(), 4L);
+        when(ticketRepository.findByIdForUpdate(1L)).thenReturn(Mono.just(ticket));
+        when(ticketRepository.update(1L, 3L, request)).thenReturn(Mono.just(1L));
+        when(ticketRepository.findById(1L)).thenReturn(Mono.just(updated));
+        when(outboxWriter.write(TicketChangeType.UPDATED, updated)).thenReturn(Mono.empty());
+
+        StepVerifier.create(supportTicketService.updateTicket(1L, request, Set.of(3L)))
+                .expectNext(updated)
+                .verifyComplete();
+        verify(outboxWriter).write(TicketChangeType.UPDATED, updated);
+    }
+
+    @Test
+    void updateTicket_WithStaleIfMatch_ShouldFailWithoutWriting() {
+        when(ticketRepository.findByIdForUpdate(1L)).thenReturn(Mono.just(ticket));
+
+        StepVerifier.create(supportTicketService.updateTicket(1L, request, Set.of(2L)))
+                .expectError(PreconditionFailedException.class)
+                .verify();
+        verify(ticketRepository, never()).update(anyLong(), anyLong(), any());
+        verifyNoInteractions(outboxWriter);
+    }
+
+    @Test
+    void partialUpdateTicket_WithNonPositiveCost_ShouldFailWithoutTouchingDatabase() {
+        SupportTicketRequest patch = new SupportTicketRequest();
+        patch.setEstimatedCost(BigDecimal.ZERO);
+
+        StepVerifier.create(supportTicketService.partialUpdateTicket(1L, patch, null))
+                .expectErrorMessage("El costo estimado debe ser positivo")
+                .verify();
+        verifyNoInteractions(ticketRepository, outboxWriter);
+    }
+
+    @Test
+    void partialUpdateTicket_WithBlankCategory_ShouldFail() {
+        SupportTicketRequest patch = new SupportTicketRequest();
+        patch.setCategory("  ");
+
+        StepVerifier.create(supportTicketService.partialUpdateTicket(1L, patch, null))
+                .expectError(IllegalArgumentException.class)
+                .verify();
+        verifyNoInteractions(ticketRepository, outboxWriter);
+    }
+
+    @Test
+    void deleteTicket_ShouldWriteOutboxEventWithPreviousState() {
+        when(ticketRepository.findByIdForUpdate(1L)).thenReturn(Mono.just(ticket));
+        when(ticketRepository.deleteById(1L, 3L)).thenReturn(Mono.just(1L));
+        when(outboxWriter.write(TicketChangeType.DELETED, ticket)).thenReturn(Mono.empty());
+
+        StepVerifier.create(supportTicketService.deleteTicket(1L, null))
+                .verifyComplete();
+        verify(outboxWriter).write(TicketChangeType.DELETED, ticket);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.supporttickets.archive;
+
+import com.example.supporttickets.config.CacheConfig;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.TicketArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class TicketArchiver {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketArchiver.class);
+
+    static final List<TicketStatus> ARCHIVABLE_STATUSES = List.of(TicketStatus.CLOSED, TicketStatus.CANCELLED);
+
+    private final TicketArchiveRepository archiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final Duration minAge;
+    private final int chunkSize;
+    private final Duration pause;
+    private final Duration maxRunTime;
+
+    private final Counter archivedRows;
+    private final DistributionSummary runRows;
+    private final Timer runDuration;
+    private final Timer chunkLockTime;
+    private final Timer rowLockWait;
+
+    @Autowired
+    public TicketArchiver(TicketArchiveRepository archiveRepository,
+                          PlatformTransactionManager transactionManager,
+                          ApplicationEventPublisher eventPublisher,
+                          CacheManager cacheManager,
+                          JdbcTemplate jdbcTemplate,
+                          MeterRegistry meterRegistry,
+                          @Value("${tickets.archive.enabled:false}") boolean enabled,
+                          @Value("${tickets.archive.min-age:365d}") Duration minAge,
+                          @Value("${tickets.archive.chunk-size:1000}") int chunkSize,
+                          @Value("${tickets.archive.pause:200ms}") Duration pause,
+                          @Value("${tickets.archive.max-run-time:30m}") Duration maxRunTime) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("tickets.archive.chunk-size debe ser mayor o igual a 1");
+        }
+        this.archiveRepository = archiveRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.minAge = minAge;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.maxRunTime = maxRunTime;
+        this.archivedRows = Counter.builder("tickets.archive.rows")
+                .description("Tickets movidos a support_tickets_archive")
+                .register(meterRegistry);
+        this.runRows = DistributionSummary.builder("tickets.archive.run.rows")
+                .description("Tickets archivados por ejecución")
+                .baseUnit("tickets")
+                .register(meterRegistry);
+        this.runDuration = Timer.builder("tickets.archive.run.duration")
+                .description("Duración de cada ejecución del archivado")
+                .register(meterRegistry);
+        this.chunkLockTime = Timer.builder("tickets.archive.chunk.lock.time")
+                .description("Tiempo que cada lote mantiene bloqueadas sus filas (duración de la transacción)")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rowLockWait = Timer.builder("tickets.archive.run.row.lock.wait")
+                .description("Espera por bloqueos de fila de InnoDB (todas las sesiones) durante cada ejecución")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${tickets.archive.cron:0 30 3 * * *}")
+    public void archive() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + maxRunTime.toNanos();
+        LocalDateTime cutoff = LocalDateTime.now().minus(minAge);
+        Long lockTimeBefore = rowLockTimeMillis();
+        long moved = 0;
+        try {
+            for (TicketStatus status : ARCHIVABLE_STATUSES) {
+                int archived;
+                do {
+                    archived = archiveChunk(status, cutoff);
+                    moved += archived;
+                    if (archived == chunkSize) {
+                        Thread.sleep(pause.toMillis());
+                    }
+                } while (archived == chunkSize && System.nanoTime() < deadline);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException e) {
+            log.warn("El archivado de tickets se interrumpió tras mover {} tickets", moved, e);
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            runRows.record(moved);
+            runDuration.record(elapsed, TimeUnit.NANOSECONDS);
+            Long lockTimeAfter = rowLockTimeMillis();
+            if (lockTimeBefore != null && lockTimeAfter != null) {
+                rowLockWait.record(Math.max(0, lockTimeAfter - lockTimeBefore), TimeUnit.MILLISECONDS);
+            }
+            if (moved > 0) {
+                log.info("Archivado de tickets: {} tickets {} anteriores a {} movidos en {} ms",
+                        moved, ARCHIVABLE_STATUSES, cutoff, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            }
+        }
+    }
+
+    int archiveChunk(TicketStatus status, LocalDateTime cutoff) {
+        long start = System.nanoTime();
+        List<Long> ids = transactionTemplate.execute(tx -> {
+            List<Long> locked = archiveRepository.lockArchivableIds(status.name(), cutoff, chunkSize);
+            if (locked.isEmpty()) {
+                return locked;
+            }
+            TicketsArchivedEvent event = new TicketsArchivedEvent(locked, archiveRepository.aggregateLiveTickets(locked));
+            archiveRepository.copyToArchive(locked, cutoff, LocalDateTime.now());
+            archiveRepository.deleteLiveTickets(locked, cutoff);
+            eventPublisher.publishEvent(event);
+            return locked;
+        });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        chunkLockTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        archivedRows.increment(ids.size());
+        Cache cache = cacheManager.getCache(CacheConfig.TICKETS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        return ids.size();
+    }
+
+    private Long rowLockTimeMillis() {
+        try {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList("SHOW GLOBAL STATUS LIKE 'Innodb_row_lock_time'");
+            return rows.isEmpty() ? null : Long.valueOf(String.valueOf(rows.get(0).get("Value")));
+        } catch (DataAccessException | NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.supporttickets.archive;
+
+import com.example.supporttickets.config.CacheConfig;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.repository.TicketAggregate;
+import com.example.supporttickets.repository.TicketArchiveRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+@Component
+public class TicketPartitionMaintainer {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketPartitionMaintainer.class);
+
+    static final String CATCH_ALL_PARTITION = "p_max";
+    private static final Pattern MONTHLY_PARTITION = Pattern.compile("p(\\d{6})");
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+    private static final String PARTITIONS_SQL = "SELECT PARTITION_NAME FROM information_schema.PARTITIONS "
+            + "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'support_tickets' AND PARTITION_NAME IS NOT NULL "
+            + "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TicketArchiveRepository archiveRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final boolean enabled;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final int chunkSize;
+    private final Clock clock;
+
+    private final Counter addedPartitions;
+    private final Counter droppedPartitions;
+
+    @Autowired
+    public TicketPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                                     TicketArchiveRepository archiveRepository,
+                                     ApplicationEventPublisher eventPublisher,
+                                     CacheManager cacheManager,
+                                     MeterRegistry meterRegistry,
+                                     @Value("${tickets.partitions.enabled:false}") boolean enabled,
+                                     @Value("${tickets.partitions.months-ahead:3}") int monthsAhead,
+                                     @Value("${tickets.partitions.retention-months:0}") int retentionMonths,
+                                     @Value("${tickets.partitions.chunk-size:10000}") int chunkSize) {
+        this(jdbcTemplate, archiveRepository, eventPublisher, cacheManager, meterRegistry,
+                enabled, monthsAhead, retentionMonths, chunkSize, Clock.systemDefaultZone());
+    }
+
+    TicketPartitionMaintainer(JdbcTemplate jdbcTemplate,
+                              TicketArchiveRepository archiveRepository,
+                              ApplicationEventPublisher eventPublisher,
+                              CacheManager cacheManager,
+                              MeterRegistry meterRegistry,
+                              boolean enabled, int monthsAhead, int retentionMonths, int chunkSize, Clock clock) {
+        if (monthsAhead < 1) {
+            throw new IllegalArgumentException("tickets.partitions.months-ahead debe ser mayor o igual a 1");
+        }
+        if (retentionMonths < 0) {
+            throw new IllegalArgumentException("tickets.partitions.retention-months no puede ser negativo");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("tickets.partitions.chunk-size debe ser mayor o igual a 1");
+        }
+        this.jdbcTemplate = jdbcTemplate;
+        this.archiveRepository = archiveRepository;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.enabled = enabled;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        this.addedPartitions = Counter.builder("tickets.partitions.added")
+                .description("Particiones mensuales creadas en support_tickets")
+                .register(meterRegistry);
+        this.droppedPartitions = Counter.builder("tickets.partitions.dropped")
+                .description("Particiones mensuales expiradas eliminadas de support_tickets")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        maintain();
+    }
+
+    @Scheduled(cron = "${tickets.partitions.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<String> partitions = jdbcTemplate.queryForList(PARTITIONS_SQL, String.class);
+            if (partitions.isEmpty()) {
+                log.warn("La tabla support_tickets no está particionada; active el perfil partitioned para migrarla");
+                return;
+            }
+            List<YearMonth> months = monthlyPartitions(partitions);
+            YearMonth current = YearMonth.now(clock);
+            addPartitions(months, partitions.contains(CATCH_ALL_PARTITION), current, current.plusMonths(monthsAhead));
+            if (retentionMonths > 0) {
+                dropPartitions(months, current.minusMonths(retentionMonths));
+            }
+        } catch (DataAccessException e) {
+            log.warn("No fue posible mantener las particiones de support_tickets", e);
+        }
+    }
+
+    private void addPartitions(List<YearMonth> months, boolean catchAll, YearMonth current, YearMonth until) {
+        YearMonth next = months.isEmpty() ? current : months.get(months.size() - 1).plusMonths(1);
+        List<String> definitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(until); month = month.plusMonths(1)) {
+            definitions.add("PARTITION " + partitionName(month) + " VALUES LESS THAN ('" + month.plusMonths(1).atDay(1) + "')");
+        }
+        if (definitions.isEmpty()) {
+            return;
+        }
+        String partitions = String.join(", ", definitions);
+        jdbcTemplate.execute(catchAll
+                ? "ALTER TABLE support_tickets REORGANIZE PARTITION " + CATCH_ALL_PARTITION + " INTO ("
+                        + partitions + ", PARTITION " + CATCH_ALL_PARTITION + " VALUES LESS THAN (MAXVALUE))"
+                : "ALTER TABLE support_tickets ADD PARTITION (" + partitions + ")");
+        addedPartitions.increment(definitions.size());
+        log.info("Particiones de support_tickets creadas hasta {}: {}", until, definitions.size());
+    }
+
+    private void dropPartitions(List<YearMonth> months, YearMonth oldestKept) {
+        for (YearMonth month : months) {
+            if (month.isBefore(oldestKept)) {
+                dropPartition(month);
+            }
+        }
+    }
+
+    private void dropPartition(YearMonth month) {
+        String name = partitionName(month);
+        LocalDateTime before = month.plusMonths(1).atDay(1).atStartOfDay();
+
+        List<Long> ids = findPartitionIds(name);
+        List<TicketAggregate> removed = archiveRepository.aggregateTicketsCreatedBefore(before);
+        jdbcTemplate.execute("ALTER TABLE support_tickets DROP PARTITION " + name);
+        droppedPartitions.increment();
+
+        eventPublisher.publishEvent(new TicketsArchivedEvent(ids, removed));
+        Cache cache = cacheManager.getCache(CacheConfig.TICKETS_CACHE);
+        if (cache != null) {
+            ids.forEach(cache::evict);
+        }
+        log.info("Partición {} de support_tickets eliminada: {} tickets creados antes de {}", name, ids.size(), before);
+    }
+
+    private List<Long> findPartitionIds(String partition) {
+        String sql = "SELECT id FROM support_tickets PARTITION (" + partition + ") WHERE id > ? ORDER BY id LIMIT ?";
+        List<Long> ids = new ArrayList<>();
+        List<Long> chunk;
+        long lastId = 0;
+        do {
+            chunk = jdbcTemplate.queryForList(sql, Long.class, lastId, chunkSize);
+            ids.addAll(chunk);
+            if (!chunk.isEmpty()) {
+                lastId = chunk.get(chunk.size() - 1);
+            }
+        } while (chunk.size() == chunkSize);
+        return ids;
+    }
+
+    private static List<YearMonth> monthlyPartitions(List<String> partitions) {
+        List<YearMonth> months = new ArrayList<>();
+        for (String partition : partitions) {
+            Matcher matcher = MONTHLY_PARTITION.matcher(partition);
+            if (matcher.matches()) {
+                months.add(YearMonth.parse(matcher.group(1), PARTITION_MONTH));
+            }
+        }
+        months.sort(null);
+        return months;
+    }
+
+    private static String partitionName(YearMonth month) {
+        return "p" + month.format(PARTITION_MONTH);
+    }
+}
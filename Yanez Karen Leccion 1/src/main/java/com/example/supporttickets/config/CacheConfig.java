@@ -0,0 +1,38 @@
+package com.example.supporttickets.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String TICKETS_CACHE = "tickets";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${tickets.cache.tickets.spec:maximumSize=10000,expireAfterWrite=10m}") String spec,
+                                     @Value("${tickets.cache.tickets.tombstone-ttl:2s}") Duration tombstoneTtl) {
+        CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache adaptCaffeineCache(String name, com.github.benmanes.caffeine.cache.Cache<Object, Object> cache) {
+                return TICKETS_CACHE.equals(name)
+                        ? new TicketDetailCache(name, cache, tombstoneTtl)
+                        : super.adaptCaffeineCache(name, cache);
+            }
+        };
+        caffeineCacheManager.setCaffeine(Caffeine.from(spec).recordStats());
+        caffeineCacheManager.setCacheNames(List.of(TICKETS_CACHE));
+        caffeineCacheManager.setAllowNullValues(false);
+        return new TransactionAwareCacheManagerProxy(caffeineCacheManager);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.supporttickets.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnProperty(name = "tickets.admission.enabled", havingValue = "true")
+public class ConnectionAdmissionConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionAdmissionPostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource)
+                        || DataSourceUnwrapper.unwrap((DataSource) bean, HikariDataSource.class) == null
+                        || DataSourceUnwrapper.unwrap((DataSource) bean, AdmissionControlledDataSource.class) != null) {
+                    return bean;
+                }
+                return admit((DataSource) bean, environment);
+            }
+        };
+    }
+
+    static AdmissionControlledDataSource admit(DataSource primary, Environment environment) {
+        int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        int maxConcurrent = environment.getProperty("tickets.admission.max-concurrent", Integer.class, poolSize);
+        Duration acquireTimeout = environment.getProperty("tickets.admission.acquire-timeout", Duration.class, Duration.ofSeconds(30));
+        return new AdmissionControlledDataSource(primary, maxConcurrent, acquireTimeout);
+    }
+}
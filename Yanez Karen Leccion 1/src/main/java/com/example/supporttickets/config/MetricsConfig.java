@@ -0,0 +1,65 @@
+package com.example.supporttickets.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public static BeanPostProcessor queryInspectingPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource) || bean instanceof QueryInspectingDataSource) {
+                    return bean;
+                }
+                return new QueryInspectingDataSource((DataSource) bean);
+            }
+        };
+    }
+
+    @Bean
+    public RequestQueryMetricsFilter requestQueryMetricsFilter(
+            MeterRegistry meterRegistry,
+            @Value("${tickets.query-stats.headers:false}") boolean exposeHeaders,
+            @Value("${tickets.query-budget.fail-on-exceed:false}") boolean failOnExceed) {
+        return new RequestQueryMetricsFilter(meterRegistry, exposeHeaders, failOnExceed);
+    }
+
+    @Bean
+    public MeterBinder dataSourceRoutingMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> {
+            ReplicaRoutingDataSource routing = DataSourceUnwrapper.unwrap(dataSource, ReplicaRoutingDataSource.class);
+            AdmissionControlledDataSource admission = DataSourceUnwrapper.unwrap(
+                    routing != null ? routing.getPrimary() : dataSource, AdmissionControlledDataSource.class);
+            if (admission != null) {
+                Gauge.builder("tickets.admission.permits.available", admission, AdmissionControlledDataSource::getAvailablePermits)
+                        .description("Permisos libres del control de admisión de conexiones")
+                        .register(registry);
+                Gauge.builder("tickets.admission.queue.length", admission, AdmissionControlledDataSource::getQueueLength)
+                        .description("Hilos esperando un permiso del control de admisión")
+                        .register(registry);
+                Gauge.builder("tickets.admission.permits.max", admission, AdmissionControlledDataSource::getMaxConcurrent)
+                        .register(registry);
+            }
+            if (routing != null) {
+                Gauge.builder("tickets.datasource.replicas", routing, ReplicaRoutingDataSource::getReplicaCount)
+                        .description("Réplicas de lectura configuradas")
+                        .register(registry);
+                Gauge.builder("tickets.datasource.replicas.healthy", routing, ReplicaRoutingDataSource::getHealthyReplicaCount)
+                        .description("Réplicas de lectura disponibles para transacciones readOnly")
+                        .register(registry);
+            }
+        });
+    }
+}
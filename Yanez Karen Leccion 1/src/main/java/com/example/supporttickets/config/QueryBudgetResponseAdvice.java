@@ -0,0 +1,35 @@
+package com.example.supporttickets.config;
+
+import com.example.supporttickets.exception.QueryBudgetExceededException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+@ControllerAdvice
+@ConditionalOnProperty(name = "tickets.query-budget.fail-on-exceed", havingValue = "true")
+public class QueryBudgetResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return returnType.hasMethodAnnotation(QueryBudget.class);
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestQueryStats stats = RequestQueryStats.current();
+        QueryBudget budget = returnType.getMethodAnnotation(QueryBudget.class);
+        if (stats != null && budget != null && stats.getQueries() > budget.value()) {
+            throw new QueryBudgetExceededException(returnType.getContainingClass().getSimpleName() + "#"
+                    + returnType.getExecutable().getName() + " ejecutó " + stats.getQueries()
+                    + " sentencias SQL; el presupuesto declarado es " + budget.value());
+        }
+        return body;
+    }
+}
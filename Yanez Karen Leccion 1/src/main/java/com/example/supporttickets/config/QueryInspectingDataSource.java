@@ -0,0 +1,111 @@
+package com.example.supporttickets.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Set;
+
+public class QueryInspectingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    public QueryInspectingDataSource(DataSource targetDataSource) {
+        super(targetDataSource);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return inspected(super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return inspected(super.getConnection(username, password));
+    }
+
+    private static Connection inspected(Connection connection) {
+        if (RequestQueryStats.current() == null) {
+            return connection;
+        }
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(connection, method, args);
+            if (result instanceof Statement && Statement.class.isAssignableFrom(method.getReturnType())) {
+                return inspected(method.getReturnType(), (Statement) result);
+            }
+            return result;
+        });
+    }
+
+    private static Object inspected(Class<?> type, Statement statement) {
+        return proxy(type, (proxy, method, args) -> {
+            RequestQueryStats stats = RequestQueryStats.current();
+            if (stats == null) {
+                return invoke(statement, method, args);
+            }
+            if (EXECUTE_METHODS.contains(method.getName())) {
+                long start = System.nanoTime();
+                try {
+                    Object result = invoke(statement, method, args);
+                    recordUpdates(stats, result);
+                    return result instanceof ResultSet ? inspected((ResultSet) result) : result;
+                } finally {
+                    stats.recordStatement(System.nanoTime() - start);
+                }
+            }
+            Object result = invoke(statement, method, args);
+            if (result instanceof ResultSet && method.getName().equals("getResultSet")) {
+                return inspected((ResultSet) result);
+            }
+            return result;
+        });
+    }
+
+    private static ResultSet inspected(ResultSet resultSet) {
+        return proxy(ResultSet.class, (proxy, method, args) -> {
+            Object result = invoke(resultSet, method, args);
+            if (Boolean.TRUE.equals(result) && method.getName().equals("next")) {
+                RequestQueryStats stats = RequestQueryStats.current();
+                if (stats != null) {
+                    stats.recordRows(1);
+                }
+            }
+            return result;
+        });
+    }
+
+    private static void recordUpdates(RequestQueryStats stats, Object result) {
+        if (result instanceof Integer || result instanceof Long) {
+            stats.recordRows(((Number) result).longValue());
+        } else if (result instanceof int[]) {
+            for (int count : (int[]) result) {
+                stats.recordRows(count);
+            }
+        } else if (result instanceof long[]) {
+            for (long count : (long[]) result) {
+                stats.recordRows(count);
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+}
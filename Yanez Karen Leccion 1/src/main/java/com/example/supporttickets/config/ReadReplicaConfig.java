@@ -0,0 +1,75 @@
+package com.example.supporttickets.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(name = "tickets.datasource.replicas.enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties, Environment environment,
+                                               ObjectProvider<MeterRegistry> meterRegistry) {
+        Binder binder = Binder.get(environment);
+        List<String> urls = binder.bind("tickets.datasource.replicas.urls", Bindable.listOf(String.class)).orElse(List.of());
+        if (urls.isEmpty()) {
+            throw new IllegalStateException("tickets.datasource.replicas.urls es obligatorio cuando tickets.datasource.replicas.enabled=true");
+        }
+        String username = environment.getProperty("tickets.datasource.replicas.username", properties.determineUsername());
+        String password = environment.getProperty("tickets.datasource.replicas.password", properties.determinePassword());
+
+        HikariDataSource primary = pool(binder, properties, properties.determineUrl(),
+                properties.determineUsername(), properties.determinePassword(), "primary");
+        meterRegistry.ifAvailable(primary::setMetricRegistry);
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (int i = 0; i < urls.size(); i++) {
+            String name = "replica-" + (i + 1);
+            HikariDataSource replica = pool(binder, properties, urls.get(i).trim(), username, password, name);
+            replica.setReadOnly(true);
+            meterRegistry.ifAvailable(replica::setMetricRegistry);
+            replicas.put(name, replica);
+        }
+
+        DataSource primaryPool = environment.getProperty("tickets.admission.enabled", Boolean.class, false)
+                ? ConnectionAdmissionConfig.admit(primary, environment)
+                : primary;
+
+        return new ReplicaRoutingDataSource(primaryPool, replicas,
+                environment.getProperty("tickets.datasource.replicas.health-check-interval", Duration.class, Duration.ofSeconds(5)),
+                environment.getProperty("tickets.datasource.replicas.health-check-timeout", Duration.class, Duration.ofSeconds(2)),
+                environment.getProperty("tickets.datasource.replicas.max-lag", Duration.class, Duration.ofSeconds(30)));
+    }
+
+    @Bean
+    public ReplicaStickinessFilter replicaStickinessFilter(Environment environment) {
+        return new ReplicaStickinessFilter(environment.getProperty(
+                "tickets.datasource.replicas.stickiness-window", Duration.class, Duration.ofSeconds(30)));
+    }
+
+    private static HikariDataSource pool(Binder binder, DataSourceProperties properties,
+                                         String url, String username, String password, String name) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .url(url)
+                .username(username)
+                .password(password)
+                .build();
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName("tickets-" + name);
+        return pool;
+    }
+}
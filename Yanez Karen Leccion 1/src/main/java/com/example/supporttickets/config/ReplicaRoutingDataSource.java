@@ -0,0 +1,253 @@
+package com.example.supporttickets.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READ_FROM_REPLICA = new ThreadLocal<>();
+    private static final ThreadLocal<Runnable> PRIMARY_WRITE_LISTENER = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas = new ArrayList<>();
+    private final int healthCheckTimeoutSeconds;
+    private final Duration maxLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final ScheduledExecutorService healthChecker;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas,
+                                    Duration healthCheckInterval, Duration healthCheckTimeout, Duration maxLag) {
+        this.primary = primary;
+        replicas.forEach((name, dataSource) -> this.replicas.add(new Replica(name, dataSource)));
+        this.healthCheckTimeoutSeconds = (int) Math.max(1, healthCheckTimeout.toSeconds());
+        this.maxLag = maxLag;
+        setTargetDataSource(new Router());
+        afterPropertiesSet();
+
+        if (healthCheckInterval.isZero() || healthCheckInterval.isNegative()) {
+            this.healthChecker = null;
+        } else {
+            this.healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "replica-health-check");
+                thread.setDaemon(true);
+                return thread;
+            });
+            long intervalMillis = healthCheckInterval.toMillis();
+            healthChecker.scheduleWithFixedDelay(this::checkReplicas, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    public DataSource getPrimary() {
+        return primary;
+    }
+
+    public static void bindRequest(boolean pinned, Runnable onPrimaryWrite) {
+        PRIMARY_WRITE_LISTENER.set(onPrimaryWrite);
+        if (pinned) {
+            pinToPrimary();
+        }
+    }
+
+    public static void pinToPrimary() {
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+    }
+
+    public static boolean isPinnedToPrimary() {
+        return Boolean.TRUE.equals(PINNED_TO_PRIMARY.get());
+    }
+
+    public static boolean isReadFromReplica() {
+        return Boolean.TRUE.equals(READ_FROM_REPLICA.get());
+    }
+
+    public static void releasePin() {
+        PINNED_TO_PRIMARY.remove();
+        READ_FROM_REPLICA.remove();
+        PRIMARY_WRITE_LISTENER.remove();
+    }
+
+    public int getReplicaCount() {
+        return replicas.size();
+    }
+
+    public int getHealthyReplicaCount() {
+        int healthy = 0;
+        for (Replica replica : replicas) {
+            if (replica.healthy) {
+                healthy++;
+            }
+        }
+        return healthy;
+    }
+
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            String failure = probe(replica.dataSource);
+            if (failure == null) {
+                markUp(replica);
+            } else {
+                markDown(replica, failure);
+            }
+        }
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+        }
+        for (Replica replica : replicas) {
+            close(replica.dataSource);
+        }
+        close(primary);
+    }
+
+    private Connection route() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                pinAfterWrite();
+            }
+            return primary.getConnection();
+        }
+        if (!isPinnedToPrimary()) {
+            for (int attempt = 0; attempt < replicas.size(); attempt++) {
+                Replica replica = nextHealthyReplica();
+                if (replica == null) {
+                    break;
+                }
+                try {
+                    Connection connection = replica.dataSource.getConnection();
+                    READ_FROM_REPLICA.set(Boolean.TRUE);
+                    return connection;
+                } catch (SQLException e) {
+                    markDown(replica, e.getMessage());
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    private static void pinAfterWrite() {
+        Runnable listener = PRIMARY_WRITE_LISTENER.get();
+        if (listener != null) {
+            pinToPrimary();
+            listener.run();
+        } else if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pinToPrimary();
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    releasePin();
+                }
+            });
+        }
+    }
+
+    private Replica nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), Math.max(size, 1));
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    private String probe(DataSource dataSource) {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(healthCheckTimeoutSeconds)) {
+                return "la conexión no es válida";
+            }
+            return maxLag.isZero() ? null : checkLag(connection);
+        } catch (SQLException e) {
+            return e.getMessage();
+        }
+    }
+
+    private String checkLag(Connection connection) {
+        try (Statement statement = connection.createStatement();
+             ResultSet status = statement.executeQuery("SHOW REPLICA STATUS")) {
+            if (!status.next()) {
+                return null;
+            }
+            Object lag = status.getObject("Seconds_Behind_Source");
+            if (lag == null) {
+                return "la replicación está detenida";
+            }
+            long seconds = ((Number) lag).longValue();
+            return seconds > maxLag.toSeconds() ? "retraso de replicación de " + seconds + " s" : null;
+        } catch (SQLException e) {
+            log.debug("No fue posible consultar el retraso de la réplica; se omite la comprobación", e);
+            return null;
+        }
+    }
+
+    private void markUp(Replica replica) {
+        if (!replica.healthy) {
+            replica.healthy = true;
+            log.info("Réplica {} disponible de nuevo para lecturas", replica.name);
+        }
+    }
+
+    private void markDown(Replica replica, String reason) {
+        if (replica.healthy) {
+            replica.healthy = false;
+            log.warn("Réplica {} fuera de servicio, las lecturas se enviarán al primario: {}", replica.name, reason);
+        }
+    }
+
+    private static void close(DataSource dataSource) throws Exception {
+        if (dataSource instanceof AutoCloseable) {
+            ((AutoCloseable) dataSource).close();
+        }
+    }
+
+    private final class Router extends AbstractDataSource {
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return route();
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return route();
+        }
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy = true;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
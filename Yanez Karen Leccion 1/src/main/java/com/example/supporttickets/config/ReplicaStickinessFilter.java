@@ -0,0 +1,71 @@
+package com.example.supporttickets.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class ReplicaStickinessFilter extends OncePerRequestFilter {
+
+    static final String PRIMARY_UNTIL_COOKIE = "tickets-primary-until";
+
+    private final Duration window;
+    private final Clock clock;
+
+    public ReplicaStickinessFilter(Duration window) {
+        this(window, Clock.systemUTC());
+    }
+
+    ReplicaStickinessFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        AtomicBoolean stuck = new AtomicBoolean();
+        ReplicaRoutingDataSource.bindRequest(primaryUntil(request) > clock.millis(), () -> {
+            if (stuck.compareAndSet(false, true) && !response.isCommitted()) {
+                response.addCookie(primaryUntilCookie());
+            }
+        });
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReplicaRoutingDataSource.releasePin();
+        }
+    }
+
+    private Cookie primaryUntilCookie() {
+        Cookie cookie = new Cookie(PRIMARY_UNTIL_COOKIE, Long.toString(clock.millis() + window.toMillis()));
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        cookie.setPath("/");
+        cookie.setHttpOnly(true);
+        return cookie;
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return 0L;
+        }
+        for (Cookie cookie : cookies) {
+            if (PRIMARY_UNTIL_COOKIE.equals(cookie.getName())) {
+                try {
+                    return Long.parseLong(cookie.getValue());
+                } catch (NumberFormatException e) {
+                    return 0L;
+                }
+            }
+        }
+        return 0L;
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.supporttickets.config;
+
+import com.example.supporttickets.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+public class RequestQueryMetricsFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestQueryMetricsFilter.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean exposeHeaders;
+    private final boolean failOnExceed;
+
+    public RequestQueryMetricsFilter(MeterRegistry meterRegistry, boolean exposeHeaders) {
+        this(meterRegistry, exposeHeaders, false);
+    }
+
+    public RequestQueryMetricsFilter(MeterRegistry meterRegistry, boolean exposeHeaders, boolean failOnExceed) {
+        this.meterRegistry = meterRegistry;
+        this.exposeHeaders = exposeHeaders;
+        this.failOnExceed = failOnExceed;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestQueryStats stats = RequestQueryStats.start();
+        ContentCachingResponseWrapper buffered = failOnExceed ? new ContentCachingResponseWrapper(response) : null;
+        String violation = null;
+        try {
+            filterChain.doFilter(request, buffered != null ? buffered : response);
+        } finally {
+            RequestQueryStats.stop();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            Tags tags = Tags.of("method", request.getMethod(), "uri", pattern != null ? pattern.toString() : "UNKNOWN");
+            record(stats, tags);
+            if (exposeHeaders && !response.isCommitted()) {
+                stats.writeHeaders(response::setHeader);
+            }
+            violation = checkBudget(request, stats, tags);
+        }
+        if (buffered != null) {
+            if (violation != null && buffered.getStatus() < HttpStatus.BAD_REQUEST.value()) {
+                response.reset();
+                throw new QueryBudgetExceededException(violation);
+            }
+            buffered.copyBodyToResponse();
+        }
+    }
+
+    private void record(RequestQueryStats stats, Tags tags) {
+        DistributionSummary.builder("tickets.request.queries")
+                .description("Sentencias SQL ejecutadas por petición HTTP")
+                .baseUnit("queries")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getQueries());
+        DistributionSummary.builder("tickets.request.rows")
+                .description("Filas leídas o modificadas por petición HTTP")
+                .baseUnit("rows")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("tickets.request.query.time")
+                .description("Tiempo acumulado en sentencias SQL por petición HTTP")
+                .tags(tags)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    private String checkBudget(HttpServletRequest request, RequestQueryStats stats, Tags tags) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        if (!(handler instanceof HandlerMethod)) {
+            return null;
+        }
+        QueryBudget budget = ((HandlerMethod) handler).getMethodAnnotation(QueryBudget.class);
+        if (budget == null || stats.getQueries() <= budget.value()) {
+            return null;
+        }
+        Counter.builder("tickets.request.query.budget.exceeded")
+                .description("Peticiones que superaron el presupuesto de sentencias SQL declarado con @QueryBudget")
+                .tags(tags)
+                .register(meterRegistry)
+                .increment();
+        String violation = ((HandlerMethod) handler).getShortLogMessage() + " ejecutó " + stats.getQueries()
+                + " sentencias SQL; el presupuesto declarado es " + budget.value();
+        log.warn(violation);
+        return violation;
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.supporttickets.config;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+public final class RequestQueryStats {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_ROWS_HEADER = "X-Query-Rows";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private static final ThreadLocal<RequestQueryStats> CURRENT = new ThreadLocal<>();
+
+    private int queries;
+    private long rows;
+    private long nanos;
+
+    private RequestQueryStats() {
+    }
+
+    public static RequestQueryStats start() {
+        RequestQueryStats stats = new RequestQueryStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    public static RequestQueryStats current() {
+        return CURRENT.get();
+    }
+
+    public static void stop() {
+        CURRENT.remove();
+    }
+
+    void recordStatement(long elapsedNanos) {
+        queries++;
+        nanos += elapsedNanos;
+    }
+
+    void recordRows(long count) {
+        if (count > 0) {
+            rows += count;
+        }
+    }
+
+    public int getQueries() {
+        return queries;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public void writeHeaders(BiConsumer<String, String> headers) {
+        headers.accept(QUERY_COUNT_HEADER, Integer.toString(queries));
+        headers.accept(QUERY_ROWS_HEADER, Long.toString(rows));
+        headers.accept(QUERY_TIME_HEADER, Long.toString(TimeUnit.NANOSECONDS.toMillis(nanos)));
+    }
+}
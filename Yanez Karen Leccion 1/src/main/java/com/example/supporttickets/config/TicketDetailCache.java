@@ -0,0 +1,56 @@
+package com.example.supporttickets.config;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.time.Duration;
+
+public class TicketDetailCache extends CaffeineCache {
+
+    private final Cache<Object, Boolean> tombstones;
+
+    public TicketDetailCache(String name, Cache<Object, Object> cache, Duration tombstoneTtl) {
+        super(name, cache, false);
+        this.tombstones = Caffeine.newBuilder()
+                .expireAfterWrite(tombstoneTtl)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        getNativeCache().asMap().compute(key, (k, current) -> accept(k, current, value) ? value : current);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Object current = getNativeCache().asMap().compute(key,
+                (k, existing) -> existing == null && accept(k, null, value) ? value : existing);
+        return current == value ? null : toValueWrapper(current);
+    }
+
+    @Override
+    public void evict(Object key) {
+        tombstones.put(key, Boolean.TRUE);
+        super.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        tombstones.put(key, Boolean.TRUE);
+        return super.evictIfPresent(key);
+    }
+
+    private boolean accept(Object key, Object current, Object value) {
+        if (tombstones.getIfPresent(key) != null) {
+            return false;
+        }
+        return !(current instanceof SupportTicketResponse cached)
+                || !(value instanceof SupportTicketResponse loaded)
+                || cached.getVersion() == null
+                || loaded.getVersion() == null
+                || loaded.getVersion() >= cached.getVersion();
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.supporttickets.controller;
+
+import com.example.supporttickets.dto.BulkOperationResponse;
+import com.example.supporttickets.dto.SupportTicketBulkUpdateRequest;
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.service.SupportTicketBulkService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+@RestController
+@RequestMapping("/api/v1/support-tickets/bulk")
+@CrossOrigin(origins = "*")
+public class SupportTicketBulkController {
+
+    private final SupportTicketBulkService supportTicketBulkService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public SupportTicketBulkController(SupportTicketBulkService supportTicketBulkService, ObjectMapper objectMapper) {
+        this.supportTicketBulkService = supportTicketBulkService;
+        this.objectMapper = objectMapper;
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> createTickets(@RequestBody List<SupportTicketRequest> requests) {
+        return ResponseEntity.ok(supportTicketBulkService.createTickets(requests));
+    }
+
+    @PostMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> createTicketsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(supportTicketBulkService.createTickets(readNdjson(body, SupportTicketRequest.class)));
+    }
+
+    @PutMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> updateTickets(@RequestBody List<SupportTicketBulkUpdateRequest> requests) {
+        return ResponseEntity.ok(supportTicketBulkService.updateTickets(requests));
+    }
+
+    @PutMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> updateTicketsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(supportTicketBulkService.updateTickets(readNdjson(body, SupportTicketBulkUpdateRequest.class)));
+    }
+
+    @PatchMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> partialUpdateTickets(@RequestBody List<SupportTicketBulkUpdateRequest> requests) {
+        return ResponseEntity.ok(supportTicketBulkService.partialUpdateTickets(requests));
+    }
+
+    @PatchMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> partialUpdateTicketsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(supportTicketBulkService.partialUpdateTickets(readNdjson(body, SupportTicketBulkUpdateRequest.class)));
+    }
+
+    @DeleteMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> deleteTickets(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(supportTicketBulkService.deleteTickets(ids));
+    }
+
+    @DeleteMapping(consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<BulkOperationResponse> deleteTicketsNdjson(InputStream body) throws IOException {
+        return ResponseEntity.ok(supportTicketBulkService.deleteTickets(readNdjson(body, Long.class)));
+    }
+
+    private <T> List<T> readNdjson(InputStream body, Class<T> type) throws IOException {
+        ObjectReader reader = objectMapper.readerFor(type);
+        List<T> items = new ArrayList<>();
+        try (BufferedReader lines = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = lines.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    items.add(reader.readValue(line));
+                } catch (JsonProcessingException e) {
+                    items.add(null);
+                }
+            }
+        }
+        return items;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.supporttickets.controller;
+
+import com.example.supporttickets.dto.TicketChangesResponse;
+import com.example.supporttickets.outbox.TicketChangeFeed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/api/v1/support-tickets/changes")
+@CrossOrigin(origins = "*")
+public class SupportTicketChangesController {
+
+    private static final int MAX_LIMIT = 500;
+    private static final long MAX_WAIT_SECONDS = 60;
+
+    private final TicketChangeFeed ticketChangeFeed;
+
+    @Autowired
+    public SupportTicketChangesController(TicketChangeFeed ticketChangeFeed) {
+        this.ticketChangeFeed = ticketChangeFeed;
+    }
+
+    @GetMapping
+    public DeferredResult<TicketChangesResponse> getChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "100") int limit,
+            @RequestParam(defaultValue = "0") long wait) {
+        if (since < 0) {
+            throw new IllegalArgumentException("El parámetro since no puede ser negativo");
+        }
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("El parámetro limit debe estar entre 1 y " + MAX_LIMIT);
+        }
+        if (wait < 0 || wait > MAX_WAIT_SECONDS) {
+            throw new IllegalArgumentException("El parámetro wait debe estar entre 0 y " + MAX_WAIT_SECONDS + " segundos");
+        }
+        return ticketChangeFeed.poll(since, limit, Duration.ofSeconds(wait));
+    }
+
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        long cursor = lastEventId != null ? lastEventId : since;
+        if (cursor < 0) {
+            throw new IllegalArgumentException("El parámetro since no puede ser negativo");
+        }
+        return ticketChangeFeed.subscribe(cursor);
+    }
+}
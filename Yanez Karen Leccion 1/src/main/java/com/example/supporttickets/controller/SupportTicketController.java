@@ -1,34 +1,67 @@
 package com.example.supporttickets.controller;
 
+import com.example.supporttickets.config.QueryBudget;
+import com.example.supporttickets.config.RequestQueryStats;
+import com.example.supporttickets.dto.CursorPageResponse;
 import com.example.supporttickets.dto.SupportTicketRequest;
 import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.dto.TicketIntakeResponse;
+import com.example.supporttickets.exception.ResourceNotFoundException;
+import com.example.supporttickets.intake.TicketIntakeQueue;
 import com.example.supporttickets.service.SupportTicketService;
 import jakarta.validation.Valid;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.net.URI;
+
 @RestController
 @RequestMapping("/api/v1/support-tickets")
-@CrossOrigin(origins = "*")
+@CrossOrigin(origins = "*", exposedHeaders = {HttpHeaders.ETAG, HttpHeaders.LOCATION,
+        RequestQueryStats.QUERY_COUNT_HEADER, RequestQueryStats.QUERY_ROWS_HEADER, RequestQueryStats.QUERY_TIME_HEADER})
 public class SupportTicketController {
 
     private final SupportTicketService supportTicketService;
+    private final ObjectProvider<TicketIntakeQueue> ticketIntakeQueue;
 
     @Autowired
-    public SupportTicketController(SupportTicketService supportTicketService) {
+    public SupportTicketController(SupportTicketService supportTicketService,
+                                   ObjectProvider<TicketIntakeQueue> ticketIntakeQueue) {
         this.supportTicketService = supportTicketService;
+        this.ticketIntakeQueue = ticketIntakeQueue;
     }
 
     @PostMapping
-    public ResponseEntity<SupportTicketResponse> createTicket(@Valid @RequestBody SupportTicketRequest request) {
+    @QueryBudget(9)
+    public ResponseEntity<?> createTicket(@Valid @RequestBody SupportTicketRequest request) {
+        TicketIntakeQueue intakeQueue = ticketIntakeQueue.getIfAvailable();
+        if (intakeQueue != null) {
+            TicketIntakeResponse accepted = intakeQueue.submit(request);
+            return ResponseEntity.accepted()
+                    .location(URI.create("/api/v1/support-tickets/intake/" + accepted.getTicketNumber()))
+                    .body(accepted);
+        }
         SupportTicketResponse response = supportTicketService.createTicket(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    @GetMapping("/intake/{ticketNumber}")
+    @QueryBudget(1)
+    public ResponseEntity<TicketIntakeResponse> getIntakeStatus(@PathVariable String ticketNumber) {
+        TicketIntakeQueue intakeQueue = ticketIntakeQueue.getIfAvailable();
+        if (intakeQueue == null) {
+            throw new ResourceNotFoundException("El ingreso asíncrono de tickets no está habilitado");
+        }
+        return ResponseEntity.ok(intakeQueue.status(ticketNumber));
+    }
+
     @GetMapping
+    @QueryBudget(2)
     public ResponseEntity<Page<SupportTicketResponse>> getTickets(
             @RequestParam(required = false) String q,
             @RequestParam(required = false) String status,
@@ -39,39 +72,79 @@ public class SupportTicketController {
             @RequestParam(required = false) String to,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "20") int size,
-            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(required = false) String fields,
+            @RequestParam(defaultValue = "false") boolean includeArchived) {
 
         Page<SupportTicketResponse> tickets = supportTicketService.findTicketsWithFilters(
-                q, status, currency, minCost, maxCost, from, to, page, size, sort);
+                q, status, currency, minCost, maxCost, from, to, page, size, sort, fields, includeArchived);
         
         return ResponseEntity.ok(tickets);
     }
 
+    @GetMapping("/scroll")
+    @QueryBudget(1)
+    public ResponseEntity<CursorPageResponse<SupportTicketResponse>> scrollTickets(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) String minCost,
+            @RequestParam(required = false) String maxCost,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "createdAt,desc") String sort) {
+
+        CursorPageResponse<SupportTicketResponse> tickets = supportTicketService.findTicketsAfterCursor(
+                q, status, currency, minCost, maxCost, from, to, cursor, size, sort);
+
+        return ResponseEntity.ok(tickets);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<SupportTicketResponse> getTicketById(@PathVariable Long id) {
+    @QueryBudget(2)
+    public ResponseEntity<SupportTicketResponse> getTicketById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        if (ifNoneMatch != null) {
+            Long version = supportTicketService.findTicketVersion(id);
+            if (TicketETags.matchesAny(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(TicketETags.format(version)).build();
+            }
+        }
         SupportTicketResponse ticket = supportTicketService.findTicketById(id);
-        return ResponseEntity.ok(ticket);
+        return ResponseEntity.ok().eTag(TicketETags.format(ticket.getVersion())).body(ticket);
     }
 
     @PutMapping("/{id}")
+    @QueryBudget(5)
     public ResponseEntity<SupportTicketResponse> updateTicket(
             @PathVariable Long id, 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody SupportTicketRequest request) {
-        SupportTicketResponse updatedTicket = supportTicketService.updateTicket(id, request);
-        return ResponseEntity.ok(updatedTicket);
+        SupportTicketResponse updatedTicket = supportTicketService.updateTicket(
+                id, request, TicketETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(TicketETags.format(updatedTicket.getVersion())).body(updatedTicket);
     }
 
     @PatchMapping("/{id}")
+    @QueryBudget(5)
     public ResponseEntity<SupportTicketResponse> partialUpdateTicket(
             @PathVariable Long id, 
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @RequestBody SupportTicketRequest request) {
-        SupportTicketResponse updatedTicket = supportTicketService.partialUpdateTicket(id, request);
-        return ResponseEntity.ok(updatedTicket);
+        SupportTicketResponse updatedTicket = supportTicketService.partialUpdateTicket(
+                id, request, TicketETags.parseIfMatch(ifMatch));
+        return ResponseEntity.ok().eTag(TicketETags.format(updatedTicket.getVersion())).body(updatedTicket);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteTicket(@PathVariable Long id) {
-        supportTicketService.deleteTicket(id);
+    @QueryBudget(5)
+    public ResponseEntity<Void> deleteTicket(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        supportTicketService.deleteTicket(id, TicketETags.parseIfMatch(ifMatch));
         return ResponseEntity.noContent().build();
     }
 }
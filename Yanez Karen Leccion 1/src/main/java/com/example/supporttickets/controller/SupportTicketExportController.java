@@ -0,0 +1,50 @@
+package com.example.supporttickets.controller;
+
+import com.example.supporttickets.service.TicketExport;
+import com.example.supporttickets.service.TicketExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/support-tickets/export")
+@CrossOrigin(origins = "*")
+public class SupportTicketExportController {
+
+    private final TicketExportService ticketExportService;
+
+    @Autowired
+    public SupportTicketExportController(TicketExportService ticketExportService) {
+        this.ticketExportService = ticketExportService;
+    }
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String currency,
+            @RequestParam(required = false) String minCost,
+            @RequestParam(required = false) String maxCost,
+            @RequestParam(required = false) String from,
+            @RequestParam(required = false) String to,
+            @RequestParam(defaultValue = "createdAt,desc") String sort,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        TicketExport export = ticketExportService.prepareExport(
+                q, status, currency, minCost, maxCost, from, to, sort, format);
+
+        StreamingResponseBody body = outputStream -> ticketExportService.writeExport(export, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(export.getFormat().getContentType() + ";charset=UTF-8"))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("support-tickets." + export.getFormat().getExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+}
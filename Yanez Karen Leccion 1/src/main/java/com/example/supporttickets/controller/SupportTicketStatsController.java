@@ -0,0 +1,25 @@
+package com.example.supporttickets.controller;
+
+import com.example.supporttickets.dto.TicketStatsResponse;
+import com.example.supporttickets.stats.TicketStatsStore;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequestMapping("/api/v1/support-tickets/stats")
+@CrossOrigin(origins = "*")
+public class SupportTicketStatsController {
+
+    private final TicketStatsStore ticketStatsStore;
+
+    @Autowired
+    public SupportTicketStatsController(TicketStatsStore ticketStatsStore) {
+        this.ticketStatsStore = ticketStatsStore;
+    }
+
+    @GetMapping
+    public ResponseEntity<TicketStatsResponse> getStatistics() {
+        return ResponseEntity.ok(ticketStatsStore.getStatistics());
+    }
+}
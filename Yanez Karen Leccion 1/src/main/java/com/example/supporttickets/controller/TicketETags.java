@@ -0,0 +1,51 @@
+package com.example.supporttickets.controller;
+
+import java.util.HashSet;
+import java.util.Set;
+
+public final class TicketETags {
+
+    private static final String WILDCARD = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private TicketETags() {
+    }
+
+    public static String format(Long version) {
+        return "\"" + version + "\"";
+    }
+
+    public static boolean matchesAny(String ifNoneMatch, Long version) {
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (WILDCARD.equals(candidate)) {
+                return true;
+            }
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (format(version).equals(candidate)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static Set<Long> parseIfMatch(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().isEmpty() || WILDCARD.equals(ifMatch.trim())) {
+            return null;
+        }
+        Set<Long> versions = new HashSet<>();
+        for (String tag : ifMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.length() > 2 && candidate.startsWith("\"") && candidate.endsWith("\"")) {
+                try {
+                    versions.add(Long.parseLong(candidate.substring(1, candidate.length() - 1)));
+                } catch (NumberFormatException e) {
+                    // etiqueta ajena: no coincide con ninguna versión
+                }
+            }
+        }
+        return versions;
+    }
+}
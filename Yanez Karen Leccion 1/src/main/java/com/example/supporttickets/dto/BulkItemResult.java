@@ -0,0 +1,83 @@
+package com.example.supporttickets.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.Map;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BulkItemResult {
+
+    private int index;
+    private int status;
+    private Long id;
+    private String ticketNumber;
+    private String message;
+    private Map<String, String> validationErrors;
+
+    public BulkItemResult() {
+    }
+
+    public BulkItemResult(int index, int status, Long id, String ticketNumber, String message,
+                          Map<String, String> validationErrors) {
+        this.index = index;
+        this.status = status;
+        this.id = id;
+        this.ticketNumber = ticketNumber;
+        this.message = message;
+        this.validationErrors = validationErrors;
+    }
+
+    @JsonIgnore
+    public boolean isSuccessful() {
+        return status < 400;
+    }
+
+    public int getIndex() {
+        return index;
+    }
+
+    public void setIndex(int index) {
+        this.index = index;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    public void setStatus(int status) {
+        this.status = status;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public void setTicketNumber(String ticketNumber) {
+        this.ticketNumber = ticketNumber;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public Map<String, String> getValidationErrors() {
+        return validationErrors;
+    }
+
+    public void setValidationErrors(Map<String, String> validationErrors) {
+        this.validationErrors = validationErrors;
+    }
+}
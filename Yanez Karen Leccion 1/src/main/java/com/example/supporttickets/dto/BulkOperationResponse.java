@@ -0,0 +1,53 @@
+package com.example.supporttickets.dto;
+
+import java.util.List;
+
+public class BulkOperationResponse {
+
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BulkItemResult> items;
+
+    public BulkOperationResponse() {
+    }
+
+    public BulkOperationResponse(List<BulkItemResult> items) {
+        this.items = items;
+        this.total = items.size();
+        this.succeeded = (int) items.stream().filter(BulkItemResult::isSuccessful).count();
+        this.failed = total - succeeded;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+
+    public int getSucceeded() {
+        return succeeded;
+    }
+
+    public void setSucceeded(int succeeded) {
+        this.succeeded = succeeded;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public void setFailed(int failed) {
+        this.failed = failed;
+    }
+
+    public List<BulkItemResult> getItems() {
+        return items;
+    }
+
+    public void setItems(List<BulkItemResult> items) {
+        this.items = items;
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.supporttickets.dto;
+
+import jakarta.validation.constraints.NotNull;
+
+public class SupportTicketBulkUpdateRequest extends SupportTicketRequest {
+
+    @NotNull(message = "El ID del ticket es obligatorio")
+    private Long id;
+
+    public SupportTicketBulkUpdateRequest() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+}
@@ -3,11 +3,13 @@ package com.example.supporttickets.dto;
 import com.example.supporttickets.model.TicketStatus;
 import com.example.supporttickets.model.TicketPriority;
 import com.example.supporttickets.model.Currency;
+import com.fasterxml.jackson.annotation.JsonInclude;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public class SupportTicketResponse {
 
     private Long id;
@@ -20,6 +22,7 @@ public class SupportTicketResponse {
     private Currency currency;
     private LocalDateTime createdAt;
     private LocalDate dueDate;
+    private Long version;
 
     public SupportTicketResponse() {
     }
@@ -39,6 +42,13 @@ public class SupportTicketResponse {
         this.dueDate = dueDate;
     }
 
+    public SupportTicketResponse(Long id, String ticketNumber, String requesterName, TicketStatus status,
+                                TicketPriority priority, String category, BigDecimal estimatedCost,
+                                Currency currency, LocalDateTime createdAt, LocalDate dueDate, Long version) {
+        this(id, ticketNumber, requesterName, status, priority, category, estimatedCost, currency, createdAt, dueDate);
+        this.version = version;
+    }
+
     public Long getId() {
         return id;
     }
@@ -118,4 +128,12 @@ public class SupportTicketResponse {
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
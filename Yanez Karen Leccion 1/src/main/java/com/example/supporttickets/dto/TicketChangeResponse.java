@@ -0,0 +1,68 @@
+package com.example.supporttickets.dto;
+
+import com.example.supporttickets.model.TicketChangeType;
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+
+public class TicketChangeResponse {
+
+    private long position;
+    private Long ticketId;
+    private TicketChangeType type;
+    private LocalDateTime occurredAt;
+
+    @JsonRawValue
+    private String ticket;
+
+    public TicketChangeResponse() {
+    }
+
+    public TicketChangeResponse(long position, Long ticketId, TicketChangeType type, LocalDateTime occurredAt, String ticket) {
+        this.position = position;
+        this.ticketId = ticketId;
+        this.type = type;
+        this.occurredAt = occurredAt;
+        this.ticket = ticket;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+
+    public void setPosition(long position) {
+        this.position = position;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(Long ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public TicketChangeType getType() {
+        return type;
+    }
+
+    public void setType(TicketChangeType type) {
+        this.type = type;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+
+    public String getTicket() {
+        return ticket;
+    }
+
+    public void setTicket(String ticket) {
+        this.ticket = ticket;
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.supporttickets.dto;
+
+import java.util.List;
+
+public class TicketChangesResponse {
+
+    private List<TicketChangeResponse> changes;
+    private long nextCursor;
+    private boolean hasMore;
+
+    public TicketChangesResponse() {
+    }
+
+    public TicketChangesResponse(List<TicketChangeResponse> changes, long nextCursor, boolean hasMore) {
+        this.changes = changes;
+        this.nextCursor = nextCursor;
+        this.hasMore = hasMore;
+    }
+
+    public List<TicketChangeResponse> getChanges() {
+        return changes;
+    }
+
+    public void setChanges(List<TicketChangeResponse> changes) {
+        this.changes = changes;
+    }
+
+    public long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public boolean isHasMore() {
+        return hasMore;
+    }
+
+    public void setHasMore(boolean hasMore) {
+        this.hasMore = hasMore;
+    }
+}
@@ -0,0 +1,55 @@
+package com.example.supporttickets.dto;
+
+import com.example.supporttickets.model.TicketIntakeStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TicketIntakeResponse {
+
+    private String ticketNumber;
+    private TicketIntakeStatus status;
+    private Long ticketId;
+    private String message;
+
+    public TicketIntakeResponse() {
+    }
+
+    public TicketIntakeResponse(String ticketNumber, TicketIntakeStatus status, Long ticketId, String message) {
+        this.ticketNumber = ticketNumber;
+        this.status = status;
+        this.ticketId = ticketId;
+        this.message = message;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public void setTicketNumber(String ticketNumber) {
+        this.ticketNumber = ticketNumber;
+    }
+
+    public TicketIntakeStatus getStatus() {
+        return status;
+    }
+
+    public void setStatus(TicketIntakeStatus status) {
+        this.status = status;
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public void setTicketId(Long ticketId) {
+        this.ticketId = ticketId;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+}
@@ -0,0 +1,81 @@
+package com.example.supporttickets.dto;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+public class TicketStatsResponse {
+
+    private long total;
+    private Map<TicketStatus, Long> byStatus;
+    private Map<TicketPriority, Long> byPriority;
+    private Map<String, Long> byCategory;
+    private Map<Currency, BigDecimal> estimatedCostByCurrency;
+    private LocalDateTime reconciledAt;
+
+    public TicketStatsResponse() {
+    }
+
+    public TicketStatsResponse(long total, Map<TicketStatus, Long> byStatus, Map<TicketPriority, Long> byPriority,
+                               Map<String, Long> byCategory, Map<Currency, BigDecimal> estimatedCostByCurrency,
+                               LocalDateTime reconciledAt) {
+        this.total = total;
+        this.byStatus = byStatus;
+        this.byPriority = byPriority;
+        this.byCategory = byCategory;
+        this.estimatedCostByCurrency = estimatedCostByCurrency;
+        this.reconciledAt = reconciledAt;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public Map<TicketStatus, Long> getByStatus() {
+        return byStatus;
+    }
+
+    public void setByStatus(Map<TicketStatus, Long> byStatus) {
+        this.byStatus = byStatus;
+    }
+
+    public Map<TicketPriority, Long> getByPriority() {
+        return byPriority;
+    }
+
+    public void setByPriority(Map<TicketPriority, Long> byPriority) {
+        this.byPriority = byPriority;
+    }
+
+    public Map<String, Long> getByCategory() {
+        return byCategory;
+    }
+
+    public void setByCategory(Map<String, Long> byCategory) {
+        this.byCategory = byCategory;
+    }
+
+    public Map<Currency, BigDecimal> getEstimatedCostByCurrency() {
+        return estimatedCostByCurrency;
+    }
+
+    public void setEstimatedCostByCurrency(Map<Currency, BigDecimal> estimatedCostByCurrency) {
+        this.estimatedCostByCurrency = estimatedCostByCurrency;
+    }
+
+    public LocalDateTime getReconciledAt() {
+        return reconciledAt;
+    }
+
+    public void setReconciledAt(LocalDateTime reconciledAt) {
+        this.reconciledAt = reconciledAt;
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.supporttickets.event;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+
+public class TicketChangedEvent {
+
+    private final Long ticketId;
+    private final SupportTicketResponse previous;
+    private final SupportTicketResponse current;
+
+    public TicketChangedEvent(Long ticketId, SupportTicketResponse previous, SupportTicketResponse current) {
+        this.ticketId = ticketId;
+        this.previous = previous;
+        this.current = current;
+    }
+
+    public static TicketChangedEvent created(SupportTicketResponse current) {
+        return new TicketChangedEvent(current.getId(), null, current);
+    }
+
+    public static TicketChangedEvent updated(SupportTicketResponse previous, SupportTicketResponse current) {
+        return new TicketChangedEvent(current.getId(), previous, current);
+    }
+
+    public static TicketChangedEvent deleted(Long ticketId, SupportTicketResponse previous) {
+        return new TicketChangedEvent(ticketId, previous, null);
+    }
+
+    public Long getTicketId() {
+        return ticketId;
+    }
+
+    public SupportTicketResponse getPrevious() {
+        return previous;
+    }
+
+    public SupportTicketResponse getCurrent() {
+        return current;
+    }
+
+    public boolean isCreated() {
+        return previous == null && current != null;
+    }
+
+    public boolean isDeleted() {
+        return current == null;
+    }
+}
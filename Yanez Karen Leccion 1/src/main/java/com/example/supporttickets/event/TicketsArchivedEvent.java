@@ -0,0 +1,24 @@
+package com.example.supporttickets.event;
+
+import com.example.supporttickets.repository.TicketAggregate;
+
+import java.util.List;
+
+public class TicketsArchivedEvent {
+
+    private final List<Long> ticketIds;
+    private final List<TicketAggregate> removed;
+
+    public TicketsArchivedEvent(List<Long> ticketIds, List<TicketAggregate> removed) {
+        this.ticketIds = ticketIds;
+        this.removed = removed;
+    }
+
+    public List<Long> getTicketIds() {
+        return ticketIds;
+    }
+
+    public List<TicketAggregate> getRemoved() {
+        return removed;
+    }
+}
@@ -0,0 +1,8 @@
+package com.example.supporttickets.exception;
+
+public class IntakeQueueFullException extends RuntimeException {
+
+    public IntakeQueueFullException(String message) {
+        super(message);
+    }
+}
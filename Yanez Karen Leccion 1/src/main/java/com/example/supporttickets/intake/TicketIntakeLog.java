@@ -0,0 +1,245 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.exception.IntakeQueueFullException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.zip.CRC32;
+
+public class TicketIntakeLog implements Closeable {
+
+    private static final int HEADER_SIZE = 16;
+    private static final int RECORD_HEADER_SIZE = 8;
+    private static final int TERMINATOR_SIZE = 4;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+    private final boolean syncOnAppend;
+
+    private long base;
+    private int committed;
+    private int readPosition;
+    private int writePosition;
+    private int depth;
+    private int unread;
+    private final long recoveredUntil;
+
+    private TicketIntakeLog(FileChannel channel, MappedByteBuffer buffer, int capacity, boolean syncOnAppend) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.syncOnAppend = syncOnAppend;
+
+        long storedCommitted = buffer.getLong(0);
+        committed = storedCommitted < HEADER_SIZE || storedCommitted > capacity ? HEADER_SIZE : (int) storedCommitted;
+        int position = committed;
+        while (position + RECORD_HEADER_SIZE <= capacity) {
+            int length = buffer.getInt(position);
+            if (length <= 0 || position + RECORD_HEADER_SIZE + length + TERMINATOR_SIZE > capacity
+                    || buffer.getInt(position + 4) != checksum(payloadAt(position, length))) {
+                break;
+            }
+            position += RECORD_HEADER_SIZE + length;
+            depth++;
+        }
+        readPosition = committed;
+        writePosition = position;
+        unread = depth;
+        recoveredUntil = writePosition;
+        if (writePosition + TERMINATOR_SIZE <= capacity) {
+            buffer.putInt(writePosition, 0);
+        }
+        writeCommitted(committed);
+    }
+
+    public static TicketIntakeLog open(Path file, int capacity, boolean syncOnAppend) throws IOException {
+        if (capacity < HEADER_SIZE + RECORD_HEADER_SIZE + TERMINATOR_SIZE) {
+            throw new IllegalArgumentException("tickets.intake.capacity es demasiado pequeño");
+        }
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity);
+            return new TicketIntakeLog(channel, buffer, capacity, syncOnAppend);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public synchronized long append(byte[] payload) {
+        int required = RECORD_HEADER_SIZE + payload.length;
+        if (writePosition + required + TERMINATOR_SIZE > capacity) {
+            compact();
+            if (writePosition + required + TERMINATOR_SIZE > capacity) {
+                throw new IntakeQueueFullException("La cola de ingreso de tickets está llena. Por favor, inténtelo de nuevo en unos segundos.");
+            }
+        }
+        int position = writePosition;
+        buffer.putInt(position + required, 0);
+        buffer.put(position + RECORD_HEADER_SIZE, payload);
+        buffer.putInt(position + 4, checksum(payload));
+        buffer.putInt(position, payload.length);
+        if (syncOnAppend) {
+            buffer.force(position, required + TERMINATOR_SIZE);
+        }
+        writePosition = position + required;
+        depth++;
+        unread++;
+        notifyAll();
+        return base + writePosition;
+    }
+
+    public synchronized List<Entry> take(int maxRecords, long lingerNanos, long timeoutNanos) throws InterruptedException {
+        long deadline = System.nanoTime() + timeoutNanos;
+        while (unread == 0) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                return List.of();
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+        long lingerDeadline = System.nanoTime() + lingerNanos;
+        while (unread < maxRecords) {
+            long remaining = lingerDeadline - System.nanoTime();
+            if (remaining <= 0) {
+                break;
+            }
+            TimeUnit.NANOSECONDS.timedWait(this, remaining);
+        }
+
+        List<Entry> entries = new ArrayList<>(Math.min(unread, maxRecords));
+        while (entries.size() < maxRecords && readPosition < writePosition) {
+            int length = buffer.getInt(readPosition);
+            byte[] payload = payloadAt(readPosition, length);
+            readPosition += RECORD_HEADER_SIZE + length;
+            entries.add(new Entry(payload, base + readPosition));
+        }
+        unread -= entries.size();
+        return entries;
+    }
+
+    public synchronized void commit(long offset, int records) {
+        int position = (int) (offset - base);
+        if (position <= committed || position > readPosition) {
+            return;
+        }
+        committed = position;
+        depth -= records;
+        if (committed == writePosition) {
+            buffer.putInt(HEADER_SIZE, 0);
+            buffer.force(HEADER_SIZE, TERMINATOR_SIZE);
+            base += committed - HEADER_SIZE;
+            committed = HEADER_SIZE;
+            readPosition = HEADER_SIZE;
+            writePosition = HEADER_SIZE;
+        }
+        writeCommitted(committed);
+    }
+
+    public synchronized void rewind() {
+        unread += countRecords(committed, readPosition);
+        readPosition = committed;
+    }
+
+    public synchronized void forEachPending(Consumer<byte[]> consumer) {
+        int position = committed;
+        while (position < writePosition) {
+            int length = buffer.getInt(position);
+            consumer.accept(payloadAt(position, length));
+            position += RECORD_HEADER_SIZE + length;
+        }
+    }
+
+    public synchronized int depth() {
+        return depth;
+    }
+
+    public long recoveredUntil() {
+        return recoveredUntil;
+    }
+
+    public synchronized void wakeUp() {
+        notifyAll();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    private void compact() {
+        int live = writePosition - committed;
+        if (committed == HEADER_SIZE || live > committed - HEADER_SIZE) {
+            return;
+        }
+        int shift = committed - HEADER_SIZE;
+        buffer.put(HEADER_SIZE, buffer, committed, live);
+        buffer.putInt(HEADER_SIZE + live, 0);
+        buffer.force(HEADER_SIZE, live + TERMINATOR_SIZE);
+        base += shift;
+        committed = HEADER_SIZE;
+        readPosition -= shift;
+        writePosition -= shift;
+        writeCommitted(committed);
+    }
+
+    private int countRecords(int from, int to) {
+        int count = 0;
+        int position = from;
+        while (position < to) {
+            position += RECORD_HEADER_SIZE + buffer.getInt(position);
+            count++;
+        }
+        return count;
+    }
+
+    private byte[] payloadAt(int position, int length) {
+        byte[] payload = new byte[length];
+        buffer.get(position + RECORD_HEADER_SIZE, payload);
+        return payload;
+    }
+
+    private void writeCommitted(int position) {
+        buffer.putLong(0, position);
+        buffer.force(0, HEADER_SIZE);
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    public static final class Entry {
+
+        private final byte[] payload;
+        private final long offset;
+
+        Entry(byte[] payload, long offset) {
+            this.payload = payload;
+            this.offset = offset;
+        }
+
+        public byte[] getPayload() {
+            return payload;
+        }
+
+        public long getOffset() {
+            return offset;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.TicketIntakeResponse;
+import com.example.supporttickets.exception.ResourceNotFoundException;
+import com.example.supporttickets.model.TicketIntakeStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.service.TicketNumberAllocator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Component
+@ConditionalOnProperty(name = "tickets.intake.enabled", havingValue = "true")
+public class TicketIntakeQueue implements DisposableBean {
+
+    private final TicketIntakeLog intakeLog;
+    private final TicketNumberAllocator ticketNumberAllocator;
+    private final SupportTicketRepository supportTicketRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, LocalDateTime> pending = new ConcurrentHashMap<>();
+    private final Cache<String, String> failures = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(1))
+            .build();
+
+    @Autowired
+    public TicketIntakeQueue(TicketNumberAllocator ticketNumberAllocator,
+                             SupportTicketRepository supportTicketRepository,
+                             ObjectMapper objectMapper,
+                             MeterRegistry meterRegistry,
+                             @Value("${tickets.intake.log-file:data/intake/tickets.log}") String logFile,
+                             @Value("${tickets.intake.capacity:64MB}") DataSize capacity,
+                             @Value("${tickets.intake.sync-on-append:true}") boolean syncOnAppend) throws IOException {
+        this(TicketIntakeLog.open(Path.of(logFile), Math.toIntExact(capacity.toBytes()), syncOnAppend),
+                ticketNumberAllocator, supportTicketRepository, objectMapper, meterRegistry);
+    }
+
+    TicketIntakeQueue(TicketIntakeLog intakeLog,
+                      TicketNumberAllocator ticketNumberAllocator,
+                      SupportTicketRepository supportTicketRepository,
+                      ObjectMapper objectMapper,
+                      MeterRegistry meterRegistry) {
+        this.intakeLog = intakeLog;
+        this.ticketNumberAllocator = ticketNumberAllocator;
+        this.supportTicketRepository = supportTicketRepository;
+        this.objectMapper = objectMapper;
+
+        intakeLog.forEachPending(payload -> {
+            TicketIntakeRecord record = decode(payload);
+            pending.put(record.getTicketNumber(), record.getAcceptedAt());
+        });
+        Gauge.builder("tickets.intake.queue.depth", intakeLog, TicketIntakeLog::depth)
+                .description("Tickets aceptados pendientes de guardar en la base de datos")
+                .register(meterRegistry);
+    }
+
+    public TicketIntakeResponse submit(SupportTicketRequest request) {
+        TicketIntakeRecord record = new TicketIntakeRecord(
+                ticketNumberAllocator.nextTicketNumber(), LocalDateTime.now(), request);
+        pending.put(record.getTicketNumber(), record.getAcceptedAt());
+        try {
+            intakeLog.append(encode(record));
+        } catch (RuntimeException e) {
+            pending.remove(record.getTicketNumber());
+            throw e;
+        }
+        return new TicketIntakeResponse(record.getTicketNumber(), TicketIntakeStatus.PENDING, null, null);
+    }
+
+    public TicketIntakeResponse status(String ticketNumber) {
+        if (pending.containsKey(ticketNumber)) {
+            return new TicketIntakeResponse(ticketNumber, TicketIntakeStatus.PENDING, null, null);
+        }
+        String failure = failures.getIfPresent(ticketNumber);
+        if (failure != null) {
+            return new TicketIntakeResponse(ticketNumber, TicketIntakeStatus.FAILED, null, failure);
+        }
+        return supportTicketRepository.findIdByTicketNumber(ticketNumber)
+                .map(id -> new TicketIntakeResponse(ticketNumber, TicketIntakeStatus.COMPLETED, id, null))
+                .orElseThrow(() -> new ResourceNotFoundException("Solicitud de ticket no encontrada: " + ticketNumber));
+    }
+
+    public int depth() {
+        return intakeLog.depth();
+    }
+
+    List<TicketIntakeLog.Entry> take(int maxRecords, Duration linger, Duration timeout) throws InterruptedException {
+        return intakeLog.take(maxRecords, linger.toNanos(), timeout.toNanos());
+    }
+
+    TicketIntakeRecord decode(byte[] payload) {
+        try {
+            return objectMapper.readValue(payload, TicketIntakeRecord.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible leer una solicitud de la cola de ingreso", e);
+        }
+    }
+
+    void commit(long offset, int records) {
+        intakeLog.commit(offset, records);
+    }
+
+    void rewind() {
+        intakeLog.rewind();
+    }
+
+    long recoveredUntil() {
+        return intakeLog.recoveredUntil();
+    }
+
+    void wakeUp() {
+        intakeLog.wakeUp();
+    }
+
+    void completed(String ticketNumber) {
+        pending.remove(ticketNumber);
+    }
+
+    void failed(String ticketNumber, String message) {
+        failures.put(ticketNumber, message);
+        pending.remove(ticketNumber);
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        intakeLog.close();
+    }
+
+    private byte[] encode(TicketIntakeRecord record) {
+        try {
+            return objectMapper.writeValueAsBytes(record);
+        } catch (IOException e) {
+            throw new UncheckedIOException("No fue posible registrar la solicitud en la cola de ingreso", e);
+        }
+    }
+}
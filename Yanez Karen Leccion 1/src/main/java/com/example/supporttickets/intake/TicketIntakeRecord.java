@@ -0,0 +1,45 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+
+import java.time.LocalDateTime;
+
+public class TicketIntakeRecord {
+
+    private String ticketNumber;
+    private LocalDateTime acceptedAt;
+    private SupportTicketRequest request;
+
+    public TicketIntakeRecord() {
+    }
+
+    public TicketIntakeRecord(String ticketNumber, LocalDateTime acceptedAt, SupportTicketRequest request) {
+        this.ticketNumber = ticketNumber;
+        this.acceptedAt = acceptedAt;
+        this.request = request;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public void setTicketNumber(String ticketNumber) {
+        this.ticketNumber = ticketNumber;
+    }
+
+    public LocalDateTime getAcceptedAt() {
+        return acceptedAt;
+    }
+
+    public void setAcceptedAt(LocalDateTime acceptedAt) {
+        this.acceptedAt = acceptedAt;
+    }
+
+    public SupportTicketRequest getRequest() {
+        return request;
+    }
+
+    public void setRequest(SupportTicketRequest request) {
+        this.request = request;
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.service.SupportTicketMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.validation.ConstraintViolationException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@ConditionalOnProperty(name = "tickets.intake.enabled", havingValue = "true")
+public class TicketIntakeWriter implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketIntakeWriter.class);
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(1);
+
+    private final TicketIntakeQueue intakeQueue;
+    private final SupportTicketRepository supportTicketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int batchSize;
+    private final Duration maxBatchDelay;
+    private final Duration retryBackoff;
+
+    private final DistributionSummary commitBatchSize;
+    private final Timer endToEndLatency;
+    private final Counter failedTickets;
+
+    private volatile boolean running;
+    private Thread worker;
+    private long verifyUntil;
+
+    @Autowired
+    public TicketIntakeWriter(TicketIntakeQueue intakeQueue,
+                              SupportTicketRepository supportTicketRepository,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher,
+                              MeterRegistry meterRegistry,
+                              @Value("${tickets.intake.batch-size:500}") int batchSize,
+                              @Value("${tickets.intake.max-batch-delay:20ms}") Duration maxBatchDelay,
+                              @Value("${tickets.intake.retry-backoff:1s}") Duration retryBackoff) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("tickets.intake.batch-size debe ser mayor o igual a 1");
+        }
+        this.intakeQueue = intakeQueue;
+        this.supportTicketRepository = supportTicketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.batchSize = batchSize;
+        this.maxBatchDelay = maxBatchDelay;
+        this.retryBackoff = retryBackoff;
+        this.commitBatchSize = DistributionSummary.builder("tickets.intake.commit.batch.size")
+                .description("Tickets guardados por transacción del escritor de ingreso")
+                .baseUnit("tickets")
+                .register(meterRegistry);
+        this.endToEndLatency = Timer.builder("tickets.intake.latency")
+                .description("Tiempo entre la aceptación (202) y el guardado del ticket")
+                .register(meterRegistry);
+        this.failedTickets = Counter.builder("tickets.intake.failed")
+                .description("Solicitudes descartadas por errores no recuperables")
+                .register(meterRegistry);
+        this.verifyUntil = intakeQueue.recoveredUntil();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void start() {
+        if (worker != null) {
+            return;
+        }
+        running = true;
+        worker = new Thread(this::run, "ticket-intake-writer");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        running = false;
+        intakeQueue.wakeUp();
+        Thread current = worker;
+        if (current != null) {
+            current.join(Duration.ofSeconds(10).toMillis());
+        }
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                List<TicketIntakeLog.Entry> entries = intakeQueue.take(batchSize, maxBatchDelay, POLL_TIMEOUT);
+                if (!entries.isEmpty() && !drain(entries)) {
+                    Thread.sleep(retryBackoff.toMillis());
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Error inesperado en el escritor de la cola de ingreso", e);
+                intakeQueue.rewind();
+            }
+        }
+    }
+
+    boolean drain(List<TicketIntakeLog.Entry> entries) {
+        List<TicketIntakeRecord> records = entries.stream()
+                .map(entry -> intakeQueue.decode(entry.getPayload()))
+                .collect(Collectors.toList());
+        long end = entries.get(entries.size() - 1).getOffset();
+        boolean verify = entries.get(0).getOffset() <= verifyUntil;
+        try {
+            persist(records, verify);
+            intakeQueue.commit(end, entries.size());
+            commitBatchSize.record(entries.size());
+            completed(records);
+            return true;
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                return retryLater(end, e);
+            }
+            log.warn("No fue posible guardar un lote de {} tickets; se guardarán uno a uno", records.size(), e);
+        }
+
+        for (int i = 0; i < entries.size(); i++) {
+            TicketIntakeLog.Entry entry = entries.get(i);
+            TicketIntakeRecord record = records.get(i);
+            try {
+                persist(List.of(record), verify);
+                completed(List.of(record));
+            } catch (RuntimeException e) {
+                if (isTransient(e)) {
+                    return retryLater(end, e);
+                }
+                failedTickets.increment();
+                intakeQueue.failed(record.getTicketNumber(), "No fue posible guardar el ticket: " + e.getMessage());
+                log.warn("Se descartó la solicitud del ticket {}", record.getTicketNumber(), e);
+            }
+            intakeQueue.commit(entry.getOffset(), 1);
+            commitBatchSize.record(1);
+        }
+        return true;
+    }
+
+    private void persist(List<TicketIntakeRecord> records, boolean verify) {
+        List<TicketIntakeRecord> pending = records;
+        if (verify) {
+            Set<String> existing = new HashSet<>(supportTicketRepository.findExistingTicketNumbers(
+                    records.stream().map(TicketIntakeRecord::getTicketNumber).collect(Collectors.toList())));
+            pending = records.stream()
+                    .filter(record -> !existing.contains(record.getTicketNumber()))
+                    .collect(Collectors.toList());
+        }
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<SupportTicket> tickets = pending.stream()
+                .map(record -> {
+                    SupportTicket ticket = SupportTicketMapper.toNewTicket(record.getTicketNumber(), record.getRequest());
+                    ticket.setCreatedAt(record.getAcceptedAt());
+                    return ticket;
+                })
+                .collect(Collectors.toList());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (SupportTicket ticket : supportTicketRepository.saveAll(tickets)) {
+                eventPublisher.publishEvent(TicketChangedEvent.created(SupportTicketMapper.toResponse(ticket)));
+            }
+        });
+    }
+
+    private void completed(List<TicketIntakeRecord> records) {
+        LocalDateTime now = LocalDateTime.now();
+        for (TicketIntakeRecord record : records) {
+            intakeQueue.completed(record.getTicketNumber());
+            endToEndLatency.record(Duration.between(record.getAcceptedAt(), now));
+        }
+    }
+
+    private boolean retryLater(long end, RuntimeException e) {
+        verifyUntil = Math.max(verifyUntil, end);
+        intakeQueue.rewind();
+        log.warn("Base de datos no disponible para la cola de ingreso; se reintentará en {}", retryBackoff, e);
+        return false;
+    }
+
+    private static boolean isTransient(RuntimeException e) {
+        return e instanceof TransientDataAccessException
+                || e instanceof RecoverableDataAccessException
+                || e instanceof DataAccessResourceFailureException
+                || e instanceof CannotCreateTransactionException
+                || (e instanceof TransactionSystemException
+                && !(((TransactionSystemException) e).getRootCause() instanceof ConstraintViolationException));
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.supporttickets.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Table(name = "support_tickets_archive", indexes = {
+        @Index(name = "idx_tickets_archive_created_at", columnList = "created_at, id"),
+        @Index(name = "idx_tickets_archive_status_created_at", columnList = "status, created_at, id"),
+        @Index(name = "idx_tickets_archive_currency_created_at", columnList = "currency, created_at, id")
+})
+public class ArchivedSupportTicket {
+
+    @Id
+    private Long id;
+
+    @Column(unique = true, nullable = false, length = 50)
+    private String ticketNumber;
+
+    @Column(nullable = false, length = 200)
+    private String requesterName;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TicketStatus status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private TicketPriority priority;
+
+    @Column(nullable = false, length = 100)
+    private String category;
+
+    @Column(precision = 10, scale = 2)
+    private BigDecimal estimatedCost;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 3)
+    private Currency currency;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "due_date", nullable = false)
+    private LocalDate dueDate;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public ArchivedSupportTicket() {
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public String getTicketNumber() {
+        return ticketNumber;
+    }
+
+    public String getRequesterName() {
+        return requesterName;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public BigDecimal getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -4,18 +4,34 @@ import jakarta.persistence.*;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
-import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.DynamicUpdate;
+import org.hibernate.annotations.SQLRestriction;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "support_tickets")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "supportTicket")
+@DynamicUpdate
+@SQLRestriction("deleted_at IS NULL")
+@Table(name = "support_tickets", indexes = {
+        @Index(name = "idx_tickets_created_at", columnList = "created_at, id, deleted_at"),
+        @Index(name = "idx_tickets_status_created_at", columnList = "status, created_at, id, deleted_at"),
+        @Index(name = "idx_tickets_currency_created_at", columnList = "currency, created_at, id, deleted_at"),
+        @Index(name = "idx_tickets_status_currency_created_at", columnList = "status, currency, created_at, id, deleted_at"),
+        @Index(name = "idx_tickets_currency_cost", columnList = "currency, estimated_cost, deleted_at"),
+        @Index(name = "idx_tickets_cost", columnList = "estimated_cost, id, deleted_at"),
+        @Index(name = "idx_tickets_due_date", columnList = "due_date, id, deleted_at")
+})
 public class SupportTicket {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "support_tickets_seq")
+    @SequenceGenerator(name = "support_tickets_seq", sequenceName = "support_tickets_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false, length = 50)
@@ -49,7 +65,6 @@ public class SupportTicket {
     @Column(nullable = false, length = 3)
     private Currency currency;
 
-    @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
@@ -57,6 +72,13 @@ public class SupportTicket {
     @Column(name = "due_date", nullable = false)
     private LocalDate dueDate;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "deleted_at")
+    private LocalDateTime deletedAt;
+
     public SupportTicket() {
     }
 
@@ -73,6 +95,13 @@ public class SupportTicket {
         this.dueDate = dueDate;
     }
 
+    @PrePersist
+    void onCreate() {
+        if (createdAt == null) {
+            createdAt = LocalDateTime.now();
+        }
+    }
+
     public Long getId() {
         return id;
     }
@@ -152,4 +181,20 @@ public class SupportTicket {
     public void setDueDate(LocalDate dueDate) {
         this.dueDate = dueDate;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
 }
@@ -0,0 +1,7 @@
+package com.example.supporttickets.model;
+
+public enum TicketIntakeStatus {
+    PENDING,
+    COMPLETED,
+    FAILED
+}
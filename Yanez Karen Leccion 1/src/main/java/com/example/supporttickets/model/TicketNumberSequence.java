@@ -0,0 +1,39 @@
+package com.example.supporttickets.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "ticket_number_sequences")
+public class TicketNumberSequence {
+
+    @Id
+    @Column(name = "sequence_year")
+    private Integer year;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+
+    public TicketNumberSequence() {
+    }
+
+    public TicketNumberSequence(Integer year, Long nextValue) {
+        this.year = year;
+        this.nextValue = nextValue;
+    }
+
+    public Integer getYear() {
+        return year;
+    }
+
+    public void setYear(Integer year) {
+        this.year = year;
+    }
+
+    public Long getNextValue() {
+        return nextValue;
+    }
+
+    public void setNextValue(Long nextValue) {
+        this.nextValue = nextValue;
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.supporttickets.model;
+
+import jakarta.persistence.*;
+
+@Entity
+@Table(name = "ticket_outbox_position")
+public class TicketOutboxPosition {
+
+    public static final Integer RELAY_ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(name = "last_position", nullable = false)
+    private Long lastPosition;
+
+    public TicketOutboxPosition() {
+    }
+
+    public TicketOutboxPosition(Integer id, Long lastPosition) {
+        this.id = id;
+        this.lastPosition = lastPosition;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Long getLastPosition() {
+        return lastPosition;
+    }
+
+    public void setLastPosition(Long lastPosition) {
+        this.lastPosition = lastPosition;
+    }
+}
@@ -0,0 +1,201 @@
+package com.example.supporttickets.outbox;
+
+import com.example.supporttickets.dto.TicketChangeResponse;
+import com.example.supporttickets.dto.TicketChangesResponse;
+import com.example.supporttickets.repository.TicketOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+@Component
+public class TicketChangeFeed implements DisposableBean {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketChangeFeed.class);
+
+    private final TicketOutboxRepository outboxRepository;
+    private final int batchSize;
+    private final Duration streamTimeout;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final AtomicBoolean dispatchPending = new AtomicBoolean();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "ticket-change-feed");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Autowired
+    public TicketChangeFeed(TicketOutboxRepository outboxRepository,
+                            @Value("${tickets.outbox.batch-size:500}") int batchSize,
+                            @Value("${tickets.changes.stream-timeout:30m}") Duration streamTimeout) {
+        this.outboxRepository = outboxRepository;
+        this.batchSize = batchSize;
+        this.streamTimeout = streamTimeout;
+    }
+
+    public TicketChangesResponse changesSince(long since, int limit) {
+        List<TicketChangeResponse> rows = outboxRepository.findPublishedAfter(since, PageRequest.of(0, limit + 1)).stream()
+                .map(TicketChangeMapper::toResponse)
+                .collect(Collectors.toList());
+        boolean hasMore = rows.size() > limit;
+        return toPage(hasMore ? rows.subList(0, limit) : rows, since, hasMore);
+    }
+
+    public DeferredResult<TicketChangesResponse> poll(long since, int limit, Duration wait) {
+        TicketChangesResponse page = changesSince(since, limit);
+        DeferredResult<TicketChangesResponse> result = new DeferredResult<>(wait.toMillis(), toPage(List.of(), since, false));
+        if (!page.getChanges().isEmpty() || wait.isZero()) {
+            result.setResult(page);
+            return result;
+        }
+        Waiter waiter = new Waiter(since, limit, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        return result;
+    }
+
+    public SseEmitter subscribe(long since) {
+        SseEmitter emitter = new SseEmitter(streamTimeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter, since);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        wakeUp();
+        return emitter;
+    }
+
+    public int getSubscriberCount() {
+        return subscribers.size() + waiters.size();
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.changes.poll-interval:1s}")
+    public void wakeUp() {
+        if (subscribers.isEmpty() && waiters.isEmpty()) {
+            return;
+        }
+        if (dispatchPending.compareAndSet(false, true)) {
+            dispatcher.execute(() -> {
+                dispatchPending.set(false);
+                try {
+                    dispatch();
+                } catch (RuntimeException e) {
+                    log.warn("No fue posible entregar los cambios de tickets a los suscriptores", e);
+                }
+            });
+        }
+    }
+
+    @Override
+    public void destroy() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    void dispatch() {
+        if (subscribers.isEmpty() && waiters.isEmpty()) {
+            return;
+        }
+        long from = Long.MAX_VALUE;
+        for (Subscriber subscriber : subscribers) {
+            from = Math.min(from, subscriber.cursor);
+        }
+        for (Waiter waiter : waiters) {
+            from = Math.min(from, waiter.since);
+        }
+
+        List<TicketChangeResponse> changes;
+        do {
+            changes = changesSince(from, batchSize).getChanges();
+            if (changes.isEmpty()) {
+                return;
+            }
+            for (Subscriber subscriber : subscribers) {
+                subscriber.send(changes);
+            }
+            for (Waiter waiter : waiters) {
+                waiter.offer(changes);
+            }
+            from = changes.get(changes.size() - 1).getPosition();
+        } while (changes.size() == batchSize);
+    }
+
+    private static TicketChangesResponse toPage(List<TicketChangeResponse> changes, long since, boolean hasMore) {
+        long nextCursor = changes.isEmpty() ? since : changes.get(changes.size() - 1).getPosition();
+        return new TicketChangesResponse(changes, nextCursor, hasMore);
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private long cursor;
+
+        private Subscriber(SseEmitter emitter, long cursor) {
+            this.emitter = emitter;
+            this.cursor = cursor;
+        }
+
+        private void send(List<TicketChangeResponse> changes) {
+            try {
+                for (TicketChangeResponse change : changes) {
+                    if (change.getPosition() > cursor) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(change.getPosition()))
+                                .name(change.getType().name().toLowerCase(Locale.ROOT))
+                                .data(change, MediaType.APPLICATION_JSON));
+                        cursor = change.getPosition();
+                    }
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+            }
+        }
+    }
+
+    private final class Waiter {
+
+        private final long since;
+        private final int limit;
+        private final DeferredResult<TicketChangesResponse> result;
+
+        private Waiter(long since, int limit, DeferredResult<TicketChangesResponse> result) {
+            this.since = since;
+            this.limit = limit;
+            this.result = result;
+        }
+
+        private void offer(List<TicketChangeResponse> changes) {
+            List<TicketChangeResponse> pending = changes.stream()
+                    .filter(change -> change.getPosition() > since)
+                    .limit(limit + 1L)
+                    .collect(Collectors.toList());
+            if (pending.isEmpty()) {
+                return;
+            }
+            boolean hasMore = pending.size() > limit;
+            waiters.remove(this);
+            result.setResult(toPage(hasMore ? pending.subList(0, limit) : pending, since, hasMore));
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.supporttickets.outbox;
+
+import com.example.supporttickets.dto.TicketChangeResponse;
+import com.example.supporttickets.model.TicketOutboxEvent;
+
+final class TicketChangeMapper {
+
+    private TicketChangeMapper() {
+    }
+
+    static TicketChangeResponse toResponse(TicketOutboxEvent event) {
+        return new TicketChangeResponse(
+                event.getPosition(),
+                event.getTicketId(),
+                event.getEventType(),
+                event.getCreatedAt(),
+                event.getPayload()
+        );
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.supporttickets.outbox;
+
+import com.example.supporttickets.dto.TicketChangeResponse;
+
+import java.util.List;
+
+public interface TicketChangeSink {
+
+    void publish(List<TicketChangeResponse> changes);
+}
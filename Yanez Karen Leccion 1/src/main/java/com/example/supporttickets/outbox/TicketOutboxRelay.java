@@ -0,0 +1,125 @@
+package com.example.supporttickets.outbox;
+
+import com.example.supporttickets.dto.TicketChangeResponse;
+import com.example.supporttickets.model.TicketOutboxEvent;
+import com.example.supporttickets.model.TicketOutboxPosition;
+import com.example.supporttickets.repository.TicketOutboxPositionRepository;
+import com.example.supporttickets.repository.TicketOutboxRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class TicketOutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketOutboxRelay.class);
+
+    private final TicketOutboxRepository outboxRepository;
+    private final TicketOutboxPositionRepository positionRepository;
+    private final TicketChangeFeed changeFeed;
+    private final List<TicketChangeSink> sinks;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+    private final Duration retention;
+
+    @Autowired
+    public TicketOutboxRelay(TicketOutboxRepository outboxRepository,
+                             TicketOutboxPositionRepository positionRepository,
+                             TicketChangeFeed changeFeed,
+                             ObjectProvider<TicketChangeSink> sinks,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${tickets.outbox.enabled:true}") boolean enabled,
+                             @Value("${tickets.outbox.batch-size:500}") int batchSize,
+                             @Value("${tickets.outbox.retention:7d}") Duration retention) {
+        this(outboxRepository, positionRepository, changeFeed, sinks.orderedStream().collect(Collectors.toList()),
+                transactionManager, enabled, batchSize, retention);
+    }
+
+    TicketOutboxRelay(TicketOutboxRepository outboxRepository,
+                      TicketOutboxPositionRepository positionRepository,
+                      TicketChangeFeed changeFeed,
+                      List<TicketChangeSink> sinks,
+                      PlatformTransactionManager transactionManager,
+                      boolean enabled, int batchSize, Duration retention) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("tickets.outbox.batch-size debe ser mayor o igual a 1");
+        }
+        this.outboxRepository = outboxRepository;
+        this.positionRepository = positionRepository;
+        this.changeFeed = changeFeed;
+        this.sinks = sinks;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+        this.retention = retention;
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.outbox.relay-interval:500ms}")
+    public void relay() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            List<TicketChangeResponse> published;
+            do {
+                published = transactionTemplate.execute(status -> publishBatch());
+                if (!published.isEmpty()) {
+                    changeFeed.wakeUp();
+                }
+            } while (published.size() == batchSize);
+        } catch (RuntimeException e) {
+            log.warn("No fue posible publicar los eventos pendientes del outbox; se reintentará", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.outbox.cleanup-interval:1h}",
+            initialDelayString = "${tickets.outbox.cleanup-interval:1h}")
+    public void purgePublished() {
+        if (!enabled) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxRepository.deletePublishedBefore(LocalDateTime.now().minus(retention)));
+        if (deleted != null && deleted > 0) {
+            log.info("Se eliminaron {} eventos publicados del outbox", deleted);
+        }
+    }
+
+    private List<TicketChangeResponse> publishBatch() {
+        TicketOutboxPosition cursor = positionRepository.findByIdForUpdate(TicketOutboxPosition.RELAY_ID)
+                .orElseGet(() -> positionRepository.saveAndFlush(new TicketOutboxPosition(TicketOutboxPosition.RELAY_ID, 0L)));
+        List<TicketOutboxEvent> pending = outboxRepository.findUnpublished(PageRequest.of(0, batchSize));
+        if (pending.isEmpty()) {
+            return List.of();
+        }
+
+        long position = cursor.getLastPosition();
+        LocalDateTime publishedAt = LocalDateTime.now();
+        for (TicketOutboxEvent event : pending) {
+            event.setPosition(++position);
+            event.setPublishedAt(publishedAt);
+        }
+        cursor.setLastPosition(position);
+
+        List<TicketChangeResponse> changes = pending.stream()
+                .map(TicketChangeMapper::toResponse)
+                .collect(Collectors.toList());
+        for (TicketChangeSink sink : sinks) {
+            sink.publish(changes);
+        }
+        return changes;
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.supporttickets.outbox;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.TicketChangeType;
+import com.example.supporttickets.model.TicketOutboxEvent;
+import com.example.supporttickets.repository.TicketOutboxRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+@Component
+public class TicketOutboxWriter {
+
+    private final TicketOutboxRepository outboxRepository;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+
+    @Autowired
+    public TicketOutboxWriter(TicketOutboxRepository outboxRepository,
+                              ObjectMapper objectMapper,
+                              @Value("${tickets.outbox.enabled:true}") boolean enabled) {
+        this.outboxRepository = outboxRepository;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+    }
+
+    @EventListener
+    public void onTicketChanged(TicketChangedEvent event) {
+        if (!enabled) {
+            return;
+        }
+        TicketChangeType type = event.isDeleted()
+                ? TicketChangeType.DELETED
+                : event.isCreated() ? TicketChangeType.CREATED : TicketChangeType.UPDATED;
+        SupportTicketResponse ticket = event.isDeleted() ? event.getPrevious() : event.getCurrent();
+        outboxRepository.save(new TicketOutboxEvent(event.getTicketId(), type, toJson(ticket), LocalDateTime.now()));
+    }
+
+    private String toJson(SupportTicketResponse ticket) {
+        try {
+            return objectMapper.writeValueAsString(ticket);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("No fue posible serializar el evento del ticket " + ticket.getId(), e);
+        }
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.supporttickets.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "tickets.query-plan-check.enabled", havingValue = "true")
+public class FilterQueryPlanChecker {
+
+    private static final Logger log = LoggerFactory.getLogger(FilterQueryPlanChecker.class);
+
+    private static final String[] FILTER_NAMES = {"status", "currency", "minCost/maxCost", "from/to"};
+    private static final int DATE_RANGE_FILTER = 1 << 3;
+    private static final String[] FILTER_PREDICATES = {
+            "status = 'OPEN'",
+            "currency = 'USD'",
+            "estimated_cost BETWEEN 50 AND 300",
+            "created_at BETWEEN '2025-01-01 00:00:00' AND '2025-12-31 23:59:59'"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final DataSource dataSource;
+
+    @Autowired
+    public FilterQueryPlanChecker(JdbcTemplate jdbcTemplate, DataSource dataSource) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void checkFilterShapes() {
+        if (!isMySql()) {
+            log.info("Verificación de planes de consulta omitida: sólo está disponible para MySQL");
+            return;
+        }
+
+        List<String> fullScans = new ArrayList<>();
+        List<String> unpruned = new ArrayList<>();
+        Object allPartitions = null;
+        for (int mask = 0; mask < (1 << FILTER_NAMES.length); mask++) {
+            String shape = describe(mask);
+            try {
+                List<Map<String, Object>> plan = jdbcTemplate.queryForList("EXPLAIN " + buildQuery(mask));
+                for (Map<String, Object> row : plan) {
+                    if (!"support_tickets".equals(row.get("table"))) {
+                        continue;
+                    }
+                    if (mask == 0) {
+                        allPartitions = row.get("partitions");
+                    } else if ((mask & DATE_RANGE_FILTER) != 0 && allPartitions != null
+                            && allPartitions.equals(row.get("partitions"))) {
+                        unpruned.add(shape);
+                    }
+                    if ("ALL".equals(row.get("type"))) {
+                        fullScans.add(shape);
+                    } else {
+                        log.debug("Filtros [{}] usan el índice {} (type={}, partitions={})",
+                                shape, row.get("key"), row.get("type"), row.get("partitions"));
+                    }
+                }
+            } catch (DataAccessException e) {
+                log.warn("No fue posible ejecutar EXPLAIN para los filtros [{}]: {}", shape, e.getMessage());
+            }
+        }
+
+        if (fullScans.isEmpty()) {
+            log.info("Todas las combinaciones de filtros de findWithFilters usan un índice");
+        } else {
+            log.warn("Combinaciones de filtros de findWithFilters que recorren la tabla completa: {}", fullScans);
+        }
+        if (!unpruned.isEmpty()) {
+            log.warn("Combinaciones de filtros con from/to que no descartan particiones de support_tickets: {}", unpruned);
+        }
+    }
+
+    private boolean isMySql() {
+        try {
+            String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+            return product != null && product.toLowerCase().contains("mysql");
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private static String buildQuery(int mask) {
+        StringBuilder sql = new StringBuilder("SELECT id FROM support_tickets");
+        String separator = " WHERE ";
+        for (int i = 0; i < FILTER_PREDICATES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                sql.append(separator).append(FILTER_PREDICATES[i]);
+                separator = " AND ";
+            }
+        }
+        return sql.append(" ORDER BY created_at DESC, id DESC LIMIT 20").toString();
+    }
+
+    private static String describe(int mask) {
+        if (mask == 0) {
+            return "sin filtros";
+        }
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < FILTER_NAMES.length; i++) {
+            if ((mask & (1 << i)) != 0) {
+                names.add(FILTER_NAMES[i]);
+            }
+        }
+        return String.join(", ", names);
+    }
+}
@@ -1,40 +1,45 @@
 package com.example.supporttickets.repository;
 
 import com.example.supporttickets.model.SupportTicket;
-import com.example.supporttickets.model.TicketStatus;
-import com.example.supporttickets.model.Currency;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface SupportTicketRepository extends JpaRepository<SupportTicket, Long> {
-
-    boolean existsByTicketNumber(String ticketNumber);
-
-    @Query("SELECT t FROM SupportTicket t WHERE " +
-           "(:q IS NULL OR LOWER(t.ticketNumber) LIKE LOWER(CONCAT('%', :q, '%')) OR " +
-           "LOWER(t.requesterName) LIKE LOWER(CONCAT('%', :q, '%'))) AND " +
-           "(:status IS NULL OR t.status = :status) AND " +
-           "(:currency IS NULL OR t.currency = :currency) AND " +
-           "(:minCost IS NULL OR t.estimatedCost >= :minCost) AND " +
-           "(:maxCost IS NULL OR t.estimatedCost <= :maxCost) AND " +
-           "(:from IS NULL OR t.createdAt >= :from) AND " +
-           "(:to IS NULL OR t.createdAt <= :to)")
-    Page<SupportTicket> findWithFilters(
-            @Param("q") String q,
-            @Param("status") TicketStatus status,
-            @Param("currency") Currency currency,
-            @Param("minCost") BigDecimal minCost,
-            @Param("maxCost") BigDecimal maxCost,
-            @Param("from") LocalDateTime from,
-            @Param("to") LocalDateTime to,
-            Pageable pageable
-    );
+public interface SupportTicketRepository extends JpaRepository<SupportTicket, Long>, SupportTicketRepositoryCustom {
+
+    @Query(value = "SELECT MAX(CAST(SUBSTRING(ticket_number, CHAR_LENGTH(:prefix) + 1) AS UNSIGNED)) "
+            + "FROM support_tickets WHERE ticket_number LIKE CONCAT(:prefix, '%')",
+            nativeQuery = true)
+    Long findMaxTicketSequenceWithPrefix(@Param("prefix") String prefix);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT t FROM SupportTicket t WHERE t.id = :id")
+    Optional<SupportTicket> findReadOnlyById(@Param("id") Long id);
+
+    @Query("SELECT t.version FROM SupportTicket t WHERE t.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Query("SELECT MAX(t.createdAt) FROM SupportTicket t")
+    LocalDateTime findMaxCreatedAt();
+
+    @Query("SELECT t.id FROM SupportTicket t WHERE t.ticketNumber = :ticketNumber")
+    Optional<Long> findIdByTicketNumber(@Param("ticketNumber") String ticketNumber);
+
+    @Query(value = "SELECT ticket_number FROM support_tickets WHERE ticket_number IN (:ticketNumbers)", nativeQuery = true)
+    List<String> findExistingTicketNumbers(@Param("ticketNumbers") Collection<String> ticketNumbers);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, t.category AS category, t.currency AS currency, "
+            + "COUNT(t) AS ticketCount, SUM(t.estimatedCost) AS estimatedCostSum FROM SupportTicket t "
+            + "GROUP BY t.status, t.priority, t.category, t.currency")
+    List<TicketAggregate> aggregateStatistics();
 }
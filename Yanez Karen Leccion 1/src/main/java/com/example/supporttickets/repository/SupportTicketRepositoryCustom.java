@@ -0,0 +1,30 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Stream;
+
+public interface SupportTicketRepositoryCustom {
+
+    Page<SupportTicket> findWithFilters(TicketFilter filter, Pageable pageable);
+
+    Page<SupportTicketResponse> findResponsesWithFilters(TicketFilter filter, Pageable pageable, List<String> fields);
+
+    Slice<SupportTicket> findWithFiltersAfter(TicketFilter filter, Sort.Order order, TicketCursor after, int limit);
+
+    Stream<SupportTicket> streamWithFilters(TicketFilter filter, Sort sort, int fetchSize);
+
+    int applyPatch(Long id, LocalDateTime createdAt, Long expectedVersion, TicketPatch patch);
+
+    int deleteIfVersion(Long id, LocalDateTime createdAt, Long expectedVersion);
+
+    int deleteAllByIds(Collection<Long> ids);
+}
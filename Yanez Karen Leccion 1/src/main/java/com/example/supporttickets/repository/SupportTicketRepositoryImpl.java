@@ -0,0 +1,260 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.FlushModeType;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class SupportTicketRepositoryImpl implements SupportTicketRepositoryCustom {
+
+    private static final Duration CREATED_AT_TOLERANCE = Duration.ofSeconds(1);
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final MeterRegistry meterRegistry;
+    private final boolean softDelete;
+
+    @Autowired
+    public SupportTicketRepositoryImpl(MeterRegistry meterRegistry,
+                                       @Value("${tickets.delete.soft:false}") boolean softDelete) {
+        this.meterRegistry = meterRegistry;
+        this.softDelete = softDelete;
+    }
+
+    @Override
+    public Page<SupportTicket> findWithFilters(TicketFilter filter, Pageable pageable) {
+        return timed("page", filter, pageable.getSort(), () -> queryWithFilters(filter, pageable));
+    }
+
+    @Override
+    public Page<SupportTicketResponse> findResponsesWithFilters(TicketFilter filter, Pageable pageable, List<String> fields) {
+        return timed("projection", filter, pageable.getSort(), () -> queryResponsesWithFilters(filter, pageable, fields));
+    }
+
+    @Override
+    public Slice<SupportTicket> findWithFiltersAfter(TicketFilter filter, Sort.Order order, TicketCursor after, int limit) {
+        return timed("keyset", filter, Sort.by(order), () -> queryWithFiltersAfter(filter, order, after, limit));
+    }
+
+    private Page<SupportTicket> queryWithFilters(TicketFilter filter, Pageable pageable) {
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(filter);
+
+        TypedQuery<SupportTicket> query = readOnly(builder.createQuery(
+                entityManager, builder.selectJpql(pageable.getSort()), SupportTicket.class));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<SupportTicket> content = query.getResultList();
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(builder));
+    }
+
+    private Page<SupportTicketResponse> queryResponsesWithFilters(TicketFilter filter, Pageable pageable, List<String> fields) {
+        if (filter.isIncludeArchived()) {
+            return queryResponsesIncludingArchive(filter, pageable, fields);
+        }
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(filter);
+
+        TypedQuery<Tuple> query = readOnly(builder.createQuery(
+                entityManager, builder.selectJpql(fields, pageable.getSort()), Tuple.class));
+        if (pageable.isPaged()) {
+            query.setFirstResult((int) pageable.getOffset());
+            query.setMaxResults(pageable.getPageSize());
+        }
+
+        List<SupportTicketResponse> content = query.getResultList().stream()
+                .map(row -> TicketProjection.toResponse(fields, row))
+                .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(builder));
+    }
+
+    private Page<SupportTicketResponse> queryResponsesIncludingArchive(TicketFilter filter, Pageable pageable, List<String> fields) {
+        Sort sort = pageable.getSort().getOrderFor("id") != null
+                ? pageable.getSort()
+                : pageable.getSort().and(Sort.by("id"));
+        List<String> selected = TicketProjection.withSortProperties(fields, sort);
+        TicketQueryBuilder live = TicketQueryBuilder.forFilter(filter);
+        TicketQueryBuilder archive = TicketQueryBuilder.forArchive(filter);
+
+        List<SupportTicketResponse> merged = new ArrayList<>();
+        for (TicketQueryBuilder builder : List.of(live, archive)) {
+            TypedQuery<Tuple> query = readOnly(builder.createQuery(entityManager, builder.selectJpql(selected, sort), Tuple.class));
+            if (pageable.isPaged()) {
+                query.setMaxResults(Math.toIntExact(pageable.getOffset() + pageable.getPageSize()));
+            }
+            for (Tuple row : query.getResultList()) {
+                merged.add(TicketProjection.toResponse(selected, row));
+            }
+        }
+        merged.sort(TicketProjection.comparator(sort));
+
+        int from = pageable.isPaged() ? (int) Math.min(pageable.getOffset(), merged.size()) : 0;
+        int to = pageable.isPaged() ? Math.min(from + pageable.getPageSize(), merged.size()) : merged.size();
+        List<SupportTicketResponse> content = merged.subList(from, to).stream()
+                .map(response -> selected.equals(fields) ? response : TicketProjection.restrict(fields, response))
+                .collect(Collectors.toList());
+        return PageableExecutionUtils.getPage(content, pageable, () -> count(live) + count(archive));
+    }
+
+    private Slice<SupportTicket> queryWithFiltersAfter(TicketFilter filter, Sort.Order order, TicketCursor after, int limit) {
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(filter);
+
+        String field = TicketQueryBuilder.property(order.getProperty());
+        String comparator = order.isAscending() ? ">" : "<";
+        if (after != null) {
+            if ("t.id".equals(field)) {
+                builder.and("t.id " + comparator + " :cursorId");
+            } else {
+                builder.and("(" + field + " " + comparator + " :cursorValue OR (" + field + " = :cursorValue AND t.id "
+                        + comparator + " :cursorId))", "cursorValue", after.getLastValue());
+            }
+            builder.parameter("cursorId", after.getLastId());
+        }
+
+        Sort sort = "t.id".equals(field)
+                ? Sort.by(order)
+                : Sort.by(order, new Sort.Order(order.getDirection(), "id"));
+
+        TypedQuery<SupportTicket> query = readOnly(builder.createQuery(entityManager, builder.selectJpql(sort), SupportTicket.class));
+        query.setMaxResults(limit + 1);
+
+        List<SupportTicket> rows = query.getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<SupportTicket> content = hasNext ? rows.subList(0, limit) : rows;
+        return new SliceImpl<>(content, PageRequest.of(0, limit, Sort.by(order)), hasNext);
+    }
+
+    @Override
+    public Stream<SupportTicket> streamWithFilters(TicketFilter filter, Sort sort, int fetchSize) {
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(filter);
+
+        Sort stableSort = sort.getOrderFor("id") != null ? sort : sort.and(Sort.by("id"));
+        TypedQuery<SupportTicket> query = builder.createQuery(entityManager, builder.selectJpql(stableSort), SupportTicket.class);
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setHint(HibernateHints.HINT_CACHEABLE, false);
+
+        return query.getResultStream().peek(entityManager::detach);
+    }
+
+    @Override
+    public int applyPatch(Long id, LocalDateTime createdAt, Long expectedVersion, TicketPatch patch) {
+        Map<String, Object> assignments = new LinkedHashMap<>();
+        putIfPresent(assignments, "requesterName", patch.getRequesterName());
+        putIfPresent(assignments, "status", patch.getStatus());
+        putIfPresent(assignments, "priority", patch.getPriority());
+        putIfPresent(assignments, "category", patch.getCategory());
+        putIfPresent(assignments, "estimatedCost", patch.getEstimatedCost());
+        putIfPresent(assignments, "currency", patch.getCurrency());
+        putIfPresent(assignments, "dueDate", patch.getDueDate());
+
+        StringBuilder jpql = new StringBuilder("UPDATE SupportTicket t SET ");
+        for (String field : assignments.keySet()) {
+            jpql.append("t.").append(field).append(" = :").append(field).append(", ");
+        }
+        jpql.append("t.version = t.version + 1 WHERE t.id = :id AND t.version = :expectedVersion");
+
+        Query query = entityManager.createQuery(jpql + createdAtWindow(createdAt));
+        assignments.forEach(query::setParameter);
+        query.setParameter("id", id);
+        query.setParameter("expectedVersion", expectedVersion);
+        return bindCreatedAtWindow(query, createdAt).executeUpdate();
+    }
+
+    @Override
+    public int deleteIfVersion(Long id, LocalDateTime createdAt, Long expectedVersion) {
+        Query query = softDelete
+                ? entityManager.createQuery("UPDATE SupportTicket t SET t.deletedAt = :deletedAt, t.version = t.version + 1 "
+                        + "WHERE t.id = :id AND t.version = :expectedVersion AND t.deletedAt IS NULL" + createdAtWindow(createdAt))
+                        .setParameter("deletedAt", LocalDateTime.now())
+                : entityManager.createQuery("DELETE FROM SupportTicket t WHERE t.id = :id AND t.version = :expectedVersion"
+                        + createdAtWindow(createdAt));
+        query.setParameter("id", id);
+        query.setParameter("expectedVersion", expectedVersion);
+        return bindCreatedAtWindow(query, createdAt).executeUpdate();
+    }
+
+    @Override
+    public int deleteAllByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        Query query = softDelete
+                ? entityManager.createQuery("UPDATE SupportTicket t SET t.deletedAt = :deletedAt, t.version = t.version + 1 "
+                        + "WHERE t.id IN :ids AND t.deletedAt IS NULL")
+                        .setParameter("deletedAt", LocalDateTime.now())
+                : entityManager.createQuery("DELETE FROM SupportTicket t WHERE t.id IN :ids");
+        query.setParameter("ids", ids);
+        return query.executeUpdate();
+    }
+
+    private <T> T timed(String query, TicketFilter filter, Sort sort, Supplier<T> action) {
+        return Timer.builder("tickets.repository.filter")
+                .description("Consultas de listado por combinación de filtros")
+                .tag("query", query)
+                .tag("shape", filter.getShape())
+                .tag("sort", sort.isSorted()
+                        ? sort.stream().map(Sort.Order::getProperty).collect(Collectors.joining(","))
+                        : "none")
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(action);
+    }
+
+    private Long count(TicketQueryBuilder builder) {
+        return readOnly(builder.createQuery(entityManager, builder.countJpql(), Long.class)).getSingleResult();
+    }
+
+    private static String createdAtWindow(LocalDateTime createdAt) {
+        return createdAt != null ? " AND t.createdAt BETWEEN :createdFrom AND :createdTo" : "";
+    }
+
+    private static Query bindCreatedAtWindow(Query query, LocalDateTime createdAt) {
+        if (createdAt != null) {
+            query.setParameter("createdFrom", createdAt.minus(CREATED_AT_TOLERANCE));
+            query.setParameter("createdTo", createdAt.plus(CREATED_AT_TOLERANCE));
+        }
+        return query;
+    }
+
+    private static <T> TypedQuery<T> readOnly(TypedQuery<T> query) {
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        query.setFlushMode(FlushModeType.COMMIT);
+        return query;
+    }
+
+    private static void putIfPresent(Map<String, Object> assignments, String field, Object value) {
+        if (value != null) {
+            assignments.put(field, value);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+
+import java.math.BigDecimal;
+
+public interface TicketAggregate {
+
+    TicketStatus getStatus();
+
+    TicketPriority getPriority();
+
+    String getCategory();
+
+    Currency getCurrency();
+
+    Long getTicketCount();
+
+    BigDecimal getEstimatedCostSum();
+}
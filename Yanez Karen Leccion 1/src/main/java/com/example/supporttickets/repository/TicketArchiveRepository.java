@@ -0,0 +1,46 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.ArchivedSupportTicket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface TicketArchiveRepository extends JpaRepository<ArchivedSupportTicket, Long> {
+
+    @Query(value = "SELECT id FROM support_tickets WHERE status = :status AND created_at < :cutoff "
+            + "ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<Long> lockArchivableIds(@Param("status") String status,
+                                 @Param("cutoff") LocalDateTime cutoff,
+                                 @Param("limit") int limit);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, t.category AS category, t.currency AS currency, "
+            + "COUNT(t) AS ticketCount, SUM(t.estimatedCost) AS estimatedCostSum FROM SupportTicket t "
+            + "WHERE t.id IN :ids GROUP BY t.status, t.priority, t.category, t.currency")
+    List<TicketAggregate> aggregateLiveTickets(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query(value = "INSERT INTO support_tickets_archive (id, ticket_number, requester_name, status, priority, category, "
+            + "estimated_cost, currency, created_at, due_date, version, archived_at) "
+            + "SELECT id, ticket_number, requester_name, status, priority, category, estimated_cost, currency, "
+            + "created_at, due_date, version, :archivedAt FROM support_tickets "
+            + "WHERE id IN (:ids) AND created_at < :cutoff AND deleted_at IS NULL", nativeQuery = true)
+    int copyToArchive(@Param("ids") Collection<Long> ids,
+                      @Param("cutoff") LocalDateTime cutoff,
+                      @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query(value = "DELETE FROM support_tickets WHERE id IN (:ids) AND created_at < :cutoff", nativeQuery = true)
+    int deleteLiveTickets(@Param("ids") Collection<Long> ids, @Param("cutoff") LocalDateTime cutoff);
+
+    @Query("SELECT t.status AS status, t.priority AS priority, t.category AS category, t.currency AS currency, "
+            + "COUNT(t) AS ticketCount, SUM(t.estimatedCost) AS estimatedCostSum FROM SupportTicket t "
+            + "WHERE t.createdAt < :before GROUP BY t.status, t.priority, t.category, t.currency")
+    List<TicketAggregate> aggregateTicketsCreatedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,34 @@
+package com.example.supporttickets.repository;
+
+import org.springframework.data.domain.Sort;
+
+public class TicketCursor {
+
+    private final String sortField;
+    private final Sort.Direction direction;
+    private final Object lastValue;
+    private final Long lastId;
+
+    public TicketCursor(String sortField, Sort.Direction direction, Object lastValue, Long lastId) {
+        this.sortField = sortField;
+        this.direction = direction;
+        this.lastValue = lastValue;
+        this.lastId = lastId;
+    }
+
+    public String getSortField() {
+        return sortField;
+    }
+
+    public Sort.Direction getDirection() {
+        return direction;
+    }
+
+    public Object getLastValue() {
+        return lastValue;
+    }
+
+    public Long getLastId() {
+        return lastId;
+    }
+}
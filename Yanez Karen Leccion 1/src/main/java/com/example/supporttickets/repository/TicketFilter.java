@@ -0,0 +1,162 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+public class TicketFilter {
+
+    private final String q;
+    private final TicketStatus status;
+    private final Currency currency;
+    private final BigDecimal minCost;
+    private final BigDecimal maxCost;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Collection<Long> ids;
+    private final LocalDateTime unindexedSince;
+    private final boolean includeArchived;
+
+    public TicketFilter(String q, TicketStatus status, Currency currency,
+                        BigDecimal minCost, BigDecimal maxCost,
+                        LocalDateTime from, LocalDateTime to) {
+        this(q, status, currency, minCost, maxCost, from, to, null, null, false);
+    }
+
+    private TicketFilter(String q, TicketStatus status, Currency currency,
+                         BigDecimal minCost, BigDecimal maxCost,
+                         LocalDateTime from, LocalDateTime to, Collection<Long> ids, LocalDateTime unindexedSince,
+                         boolean includeArchived) {
+        this.q = q;
+        this.status = status;
+        this.currency = currency;
+        this.minCost = minCost;
+        this.maxCost = maxCost;
+        this.from = from;
+        this.to = to;
+        this.ids = ids;
+        this.unindexedSince = unindexedSince;
+        this.includeArchived = includeArchived;
+    }
+
+    public TicketFilter withCandidateIds(Collection<Long> candidateIds) {
+        return new TicketFilter(null, status, currency, minCost, maxCost, from, to, candidateIds, null, includeArchived);
+    }
+
+    public TicketFilter withSearchCandidates(Collection<Long> candidateIds, LocalDateTime unindexedSince) {
+        return new TicketFilter(q, status, currency, minCost, maxCost, from, to, candidateIds, unindexedSince, includeArchived);
+    }
+
+    public TicketFilter withArchived(boolean includeArchived) {
+        return new TicketFilter(q, status, currency, minCost, maxCost, from, to, ids, unindexedSince, includeArchived);
+    }
+
+    public String getQ() {
+        return q;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public BigDecimal getMinCost() {
+        return minCost;
+    }
+
+    public BigDecimal getMaxCost() {
+        return maxCost;
+    }
+
+    public LocalDateTime getFrom() {
+        return from;
+    }
+
+    public LocalDateTime getTo() {
+        return to;
+    }
+
+    public Collection<Long> getIds() {
+        return ids;
+    }
+
+    public LocalDateTime getUnindexedSince() {
+        return unindexedSince;
+    }
+
+    public boolean isIncludeArchived() {
+        return includeArchived;
+    }
+
+    public boolean matchesNothing() {
+        return ids != null && ids.isEmpty() && (q == null || unindexedSince == null);
+    }
+
+    public String getShape() {
+        StringJoiner shape = new StringJoiner("+");
+        if (q != null) {
+            shape.add("q");
+        }
+        if (ids != null) {
+            shape.add("ids");
+        }
+        if (status != null) {
+            shape.add("status");
+        }
+        if (currency != null) {
+            shape.add("currency");
+        }
+        if (minCost != null || maxCost != null) {
+            shape.add("cost");
+        }
+        if (from != null || to != null) {
+            shape.add("createdAt");
+        }
+        if (includeArchived) {
+            shape.add("archived");
+        }
+        return shape.length() == 0 ? "none" : shape.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TicketFilter)) {
+            return false;
+        }
+        TicketFilter that = (TicketFilter) o;
+        return Objects.equals(q, that.q)
+                && status == that.status
+                && currency == that.currency
+                && compareDecimal(minCost, that.minCost)
+                && compareDecimal(maxCost, that.maxCost)
+                && Objects.equals(from, that.from)
+                && Objects.equals(to, that.to)
+                && Objects.equals(ids, that.ids)
+                && Objects.equals(unindexedSince, that.unindexedSince)
+                && includeArchived == that.includeArchived;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(q, status, currency, normalize(minCost), normalize(maxCost), from, to, ids, unindexedSince, includeArchived);
+    }
+
+    private static boolean compareDecimal(BigDecimal a, BigDecimal b) {
+        return a == null ? b == null : b != null && a.compareTo(b) == 0;
+    }
+
+    private static BigDecimal normalize(BigDecimal value) {
+        return value == null ? null : value.stripTrailingZeros();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.TicketNumberSequence;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TicketNumberSequenceRepository extends JpaRepository<TicketNumberSequence, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM TicketNumberSequence s WHERE s.year = :year")
+    Optional<TicketNumberSequence> findByYearForUpdate(@Param("year") Integer year);
+}
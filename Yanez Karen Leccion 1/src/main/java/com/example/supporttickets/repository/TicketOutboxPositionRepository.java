@@ -0,0 +1,19 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.TicketOutboxPosition;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TicketOutboxPositionRepository extends JpaRepository<TicketOutboxPosition, Integer> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM TicketOutboxPosition p WHERE p.id = :id")
+    Optional<TicketOutboxPosition> findByIdForUpdate(@Param("id") Integer id);
+}
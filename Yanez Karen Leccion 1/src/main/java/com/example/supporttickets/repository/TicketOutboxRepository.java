@@ -0,0 +1,26 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.TicketOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TicketOutboxRepository extends JpaRepository<TicketOutboxEvent, Long> {
+
+    @Query("SELECT e FROM TicketOutboxEvent e WHERE e.publishedAt IS NULL ORDER BY e.id")
+    List<TicketOutboxEvent> findUnpublished(Pageable pageable);
+
+    @Query("SELECT e FROM TicketOutboxEvent e WHERE e.position > :since ORDER BY e.position")
+    List<TicketOutboxEvent> findPublishedAfter(@Param("since") long since, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM TicketOutboxEvent e WHERE e.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
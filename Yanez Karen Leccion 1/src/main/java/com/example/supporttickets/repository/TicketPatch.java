@@ -0,0 +1,75 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+public class TicketPatch {
+
+    private final String requesterName;
+    private final TicketStatus status;
+    private final TicketPriority priority;
+    private final String category;
+    private final BigDecimal estimatedCost;
+    private final Currency currency;
+    private final LocalDate dueDate;
+
+    public TicketPatch(String requesterName, TicketStatus status, TicketPriority priority, String category,
+                       BigDecimal estimatedCost, Currency currency, LocalDate dueDate) {
+        this.requesterName = requesterName;
+        this.status = status;
+        this.priority = priority;
+        this.category = category;
+        this.estimatedCost = estimatedCost;
+        this.currency = currency;
+        this.dueDate = dueDate;
+    }
+
+    public boolean isEmpty() {
+        return requesterName == null && status == null && priority == null && category == null
+                && estimatedCost == null && currency == null && dueDate == null;
+    }
+
+    public void validate() {
+        if (requesterName != null && requesterName.trim().isEmpty()) {
+            throw new IllegalArgumentException("El nombre del solicitante es obligatorio");
+        }
+        if (category != null && category.trim().isEmpty()) {
+            throw new IllegalArgumentException("La categoría es obligatoria");
+        }
+        if (estimatedCost != null && estimatedCost.signum() <= 0) {
+            throw new IllegalArgumentException("El costo estimado debe ser positivo");
+        }
+    }
+
+    public String getRequesterName() {
+        return requesterName;
+    }
+
+    public TicketStatus getStatus() {
+        return status;
+    }
+
+    public TicketPriority getPriority() {
+        return priority;
+    }
+
+    public String getCategory() {
+        return category;
+    }
+
+    public BigDecimal getEstimatedCost() {
+        return estimatedCost;
+    }
+
+    public Currency getCurrency() {
+        return currency;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+}
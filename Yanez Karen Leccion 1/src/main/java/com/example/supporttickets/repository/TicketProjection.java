@@ -0,0 +1,147 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import jakarta.persistence.Tuple;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+public final class TicketProjection {
+
+    public static final List<String> FIELDS = List.of("id", "ticketNumber", "requesterName", "status", "priority",
+            "category", "estimatedCost", "currency", "createdAt", "dueDate", "version");
+
+    private TicketProjection() {
+    }
+
+    static SupportTicketResponse toResponse(List<String> fields, Tuple row) {
+        SupportTicketResponse response = new SupportTicketResponse();
+        for (int i = 0; i < fields.size(); i++) {
+            set(response, fields.get(i), row.get(i));
+        }
+        return response;
+    }
+
+    static SupportTicketResponse restrict(List<String> fields, SupportTicketResponse source) {
+        SupportTicketResponse response = new SupportTicketResponse();
+        for (String field : fields) {
+            set(response, field, get(source, field));
+        }
+        return response;
+    }
+
+    static List<String> withSortProperties(List<String> fields, Sort sort) {
+        List<String> selected = new ArrayList<>();
+        for (String field : FIELDS) {
+            if (fields.contains(field) || sort.getOrderFor(field) != null) {
+                selected.add(field);
+            }
+        }
+        for (Sort.Order order : sort) {
+            if (!FIELDS.contains(order.getProperty())) {
+                throw new IllegalArgumentException("Propiedad de ordenamiento inválida: " + order.getProperty());
+            }
+        }
+        return selected;
+    }
+
+    static Comparator<SupportTicketResponse> comparator(Sort sort) {
+        Comparator<Object> values = Comparator.nullsFirst(TicketProjection::compareValues);
+        Comparator<SupportTicketResponse> comparator = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            String property = order.getProperty();
+            Comparator<SupportTicketResponse> byProperty =
+                    (a, b) -> values.compare(get(a, property), get(b, property));
+            comparator = comparator.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return comparator;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compareValues(Object a, Object b) {
+        if (a instanceof Enum) {
+            return ((Enum<?>) a).name().compareTo(((Enum<?>) b).name());
+        }
+        if (a instanceof String) {
+            return String.CASE_INSENSITIVE_ORDER.compare((String) a, (String) b);
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    private static Object get(SupportTicketResponse response, String field) {
+        switch (field) {
+            case "id":
+                return response.getId();
+            case "ticketNumber":
+                return response.getTicketNumber();
+            case "requesterName":
+                return response.getRequesterName();
+            case "status":
+                return response.getStatus();
+            case "priority":
+                return response.getPriority();
+            case "category":
+                return response.getCategory();
+            case "estimatedCost":
+                return response.getEstimatedCost();
+            case "currency":
+                return response.getCurrency();
+            case "createdAt":
+                return response.getCreatedAt();
+            case "dueDate":
+                return response.getDueDate();
+            case "version":
+                return response.getVersion();
+            default:
+                throw new IllegalArgumentException("Campo de proyección inválido: " + field);
+        }
+    }
+
+    private static void set(SupportTicketResponse response, String field, Object value) {
+        switch (field) {
+            case "id":
+                response.setId((Long) value);
+                break;
+            case "ticketNumber":
+                response.setTicketNumber((String) value);
+                break;
+            case "requesterName":
+                response.setRequesterName((String) value);
+                break;
+            case "status":
+                response.setStatus((TicketStatus) value);
+                break;
+            case "priority":
+                response.setPriority((TicketPriority) value);
+                break;
+            case "category":
+                response.setCategory((String) value);
+                break;
+            case "estimatedCost":
+                response.setEstimatedCost((BigDecimal) value);
+                break;
+            case "currency":
+                response.setCurrency((Currency) value);
+                break;
+            case "createdAt":
+                response.setCreatedAt((LocalDateTime) value);
+                break;
+            case "dueDate":
+                response.setDueDate((LocalDate) value);
+                break;
+            case "version":
+                response.setVersion((Long) value);
+                break;
+            default:
+                throw new IllegalArgumentException("Campo de proyección inválido: " + field);
+        }
+    }
+}
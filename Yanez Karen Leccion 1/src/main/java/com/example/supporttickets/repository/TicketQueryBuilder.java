@@ -0,0 +1,139 @@
+package com.example.supporttickets.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.data.domain.Sort;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+final class TicketQueryBuilder {
+
+    private static final String LIVE = " FROM SupportTicket t";
+    private static final String ARCHIVE = " FROM ArchivedSupportTicket t";
+    private static final Pattern PROPERTY = Pattern.compile("[A-Za-z]+");
+    private static final String SEARCH = "(LOWER(t.ticketNumber) LIKE LOWER(CONCAT('%', :q, '%'))"
+            + " OR LOWER(t.requesterName) LIKE LOWER(CONCAT('%', :q, '%'))"
+            + " OR LOWER(t.category) LIKE LOWER(CONCAT('%', :q, '%')))";
+
+    private final String from;
+    private final StringBuilder where = new StringBuilder();
+    private final Map<String, Object> parameters = new LinkedHashMap<>();
+
+    private TicketQueryBuilder(String from) {
+        this.from = from;
+    }
+
+    static TicketQueryBuilder forFilter(TicketFilter filter) {
+        return forFilter(filter, LIVE);
+    }
+
+    static TicketQueryBuilder forArchive(TicketFilter filter) {
+        return forFilter(filter, ARCHIVE);
+    }
+
+    private static TicketQueryBuilder forFilter(TicketFilter filter, String from) {
+        TicketQueryBuilder builder = new TicketQueryBuilder(from);
+        if (filter.getQ() != null && filter.getIds() != null && filter.getUnindexedSince() != null) {
+            builder.parameter("q", filter.getQ()).parameter("unindexedSince", filter.getUnindexedSince());
+            String unindexed = "(t.createdAt >= :unindexedSince AND " + SEARCH + ")";
+            if (filter.getIds().isEmpty()) {
+                builder.and(unindexed);
+            } else {
+                builder.and("(t.id IN :ids OR " + unindexed + ")", "ids", filter.getIds());
+            }
+        } else {
+            if (filter.getQ() != null) {
+                builder.and(SEARCH, "q", filter.getQ());
+            }
+            if (filter.getIds() != null) {
+                builder.and("t.id IN :ids", "ids", filter.getIds());
+            }
+        }
+        if (filter.getStatus() != null) {
+            builder.and("t.status = :status", "status", filter.getStatus());
+        }
+        if (filter.getCurrency() != null) {
+            builder.and("t.currency = :currency", "currency", filter.getCurrency());
+        }
+        if (filter.getMinCost() != null) {
+            builder.and("t.estimatedCost >= :minCost", "minCost", filter.getMinCost());
+        }
+        if (filter.getMaxCost() != null) {
+            builder.and("t.estimatedCost <= :maxCost", "maxCost", filter.getMaxCost());
+        }
+        if (filter.getFrom() != null) {
+            builder.and("t.createdAt >= :from", "from", filter.getFrom());
+        }
+        if (filter.getTo() != null) {
+            builder.and("t.createdAt <= :to", "to", filter.getTo());
+        }
+        return builder;
+    }
+
+    TicketQueryBuilder and(String predicate) {
+        where.append(where.length() == 0 ? " WHERE " : " AND ").append(predicate);
+        return this;
+    }
+
+    TicketQueryBuilder and(String predicate, String name, Object value) {
+        parameters.put(name, value);
+        return and(predicate);
+    }
+
+    TicketQueryBuilder parameter(String name, Object value) {
+        parameters.put(name, value);
+        return this;
+    }
+
+    String selectJpql(Sort sort) {
+        return "SELECT t" + from + where + orderBy(sort);
+    }
+
+    String selectJpql(List<String> properties, Sort sort) {
+        StringBuilder select = new StringBuilder("SELECT ");
+        String separator = "";
+        for (String property : properties) {
+            select.append(separator).append(property(property));
+            separator = ", ";
+        }
+        return select + from + where + orderBy(sort);
+    }
+
+    String countJpql() {
+        return "SELECT COUNT(t)" + from + where;
+    }
+
+    Map<String, Object> getParameters() {
+        return parameters;
+    }
+
+    <T> TypedQuery<T> createQuery(EntityManager entityManager, String jpql, Class<T> resultType) {
+        TypedQuery<T> query = entityManager.createQuery(jpql, resultType);
+        parameters.forEach(query::setParameter);
+        return query;
+    }
+
+    static String property(String property) {
+        if (!PROPERTY.matcher(property).matches()) {
+            throw new IllegalArgumentException("Propiedad de ordenamiento inválida: " + property);
+        }
+        return "t." + property;
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort == null || sort.isUnsorted()) {
+            return "";
+        }
+        StringBuilder orderBy = new StringBuilder(" ORDER BY ");
+        String separator = "";
+        for (Sort.Order order : sort) {
+            orderBy.append(separator).append(property(order.getProperty()))
+                    .append(order.isAscending() ? " ASC" : " DESC");
+            separator = ", ";
+        }
+        return orderBy.toString();
+    }
+}
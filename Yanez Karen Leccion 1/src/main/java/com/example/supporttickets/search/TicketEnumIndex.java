@@ -0,0 +1,467 @@
+package com.example.supporttickets.search;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketCursor;
+import com.example.supporttickets.repository.TicketFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class TicketEnumIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketEnumIndex.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final long CREATED_AT_TOLERANCE_MICROS = 1_000_000L;
+    private static final long CATCH_UP_MARGIN_MICROS = 60_000_000L;
+    private static final TicketFilter NO_FILTER = new TicketFilter(null, null, null, null, null, null, null);
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final Currency[] CURRENCIES = Currency.values();
+
+    private final SupportTicketRepository supportTicketRepository;
+    private final boolean enabled;
+    private final int maxWindow;
+    private final long maxStalenessMillis;
+    private final Clock clock;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private Bucket[] buckets = emptyBuckets();
+    private List<Object> changedDuringRebuild;
+    private long highWater = Long.MIN_VALUE;
+    private volatile long syncedAt;
+    private volatile boolean ready;
+
+    @Autowired
+    public TicketEnumIndex(SupportTicketRepository supportTicketRepository,
+                           @Value("${tickets.enum-index.enabled:false}") boolean enabled,
+                           @Value("${tickets.enum-index.max-window:1000}") int maxWindow,
+                           @Value("${tickets.enum-index.sync-interval:5s}") Duration syncInterval) {
+        this(supportTicketRepository, enabled, maxWindow, syncInterval, Clock.systemUTC());
+    }
+
+    TicketEnumIndex(SupportTicketRepository supportTicketRepository, boolean enabled, int maxWindow,
+                    Duration syncInterval, Clock clock) {
+        this.supportTicketRepository = supportTicketRepository;
+        this.enabled = enabled;
+        this.maxWindow = maxWindow;
+        this.maxStalenessMillis = syncInterval.multipliedBy(2).toMillis();
+        this.clock = clock;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public boolean isFresh() {
+        return isReady() && clock.millis() - syncedAt <= maxStalenessMillis;
+    }
+
+    public boolean canServe(TicketFilter filter, Pageable pageable) {
+        return isFresh()
+                && filter.getQ() == null && filter.getIds() == null
+                && filter.getMinCost() == null && filter.getMaxCost() == null
+                && filter.getFrom() == null && filter.getTo() == null
+                && !filter.isIncludeArchived()
+                && pageable.isPaged() && pageable.getOffset() + pageable.getPageSize() <= maxWindow
+                && isCreatedAtOrder(pageable.getSort());
+    }
+
+    public Page<Long> find(TicketFilter filter, Pageable pageable) {
+        boolean descending = pageable.getSort().isUnsorted()
+                || pageable.getSort().iterator().next().isDescending();
+        lock.readLock().lock();
+        try {
+            List<Bucket> matching = new ArrayList<>();
+            long total = 0;
+            for (TicketStatus status : STATUSES) {
+                for (Currency currency : CURRENCIES) {
+                    if ((filter.getStatus() == null || filter.getStatus() == status)
+                            && (filter.getCurrency() == null || filter.getCurrency() == currency)) {
+                        Bucket bucket = buckets[bucketOf(status, currency)];
+                        matching.add(bucket);
+                        total += bucket.size;
+                    }
+                }
+            }
+            return new PageImpl<>(window(matching, descending, (int) pageable.getOffset(), pageable.getPageSize()),
+                    pageable, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public long size() {
+        lock.readLock().lock();
+        try {
+            long size = 0;
+            for (Bucket bucket : buckets) {
+                size += bucket.size;
+            }
+            return size;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.enum-index.rebuild-interval:1h}",
+            initialDelayString = "${tickets.enum-index.rebuild-interval:1h}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = clock.millis();
+        lock.writeLock().lock();
+        try {
+            changedDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Bucket[] fresh = emptyBuckets();
+        try {
+            Sort.Order order = Sort.Order.asc("createdAt");
+            TicketCursor after = null;
+            Slice<SupportTicket> batch;
+            do {
+                batch = supportTicketRepository.findWithFiltersAfter(NO_FILTER, order, after, REBUILD_BATCH_SIZE);
+                List<SupportTicket> tickets = batch.getContent();
+                for (SupportTicket ticket : tickets) {
+                    fresh[bucketOf(ticket.getStatus(), ticket.getCurrency())]
+                            .append(toKey(ticket.getCreatedAt()), ticket.getId());
+                }
+                if (!tickets.isEmpty()) {
+                    SupportTicket last = tickets.get(tickets.size() - 1);
+                    after = new TicketCursor("createdAt", Sort.Direction.ASC, last.getCreatedAt(), last.getId());
+                }
+            } while (batch.hasNext());
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.warn("No fue posible reconstruir el índice de estado y moneda; los listados se leerán de la base de datos", e);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            long freshHighWater = Long.MIN_VALUE;
+            for (Bucket bucket : fresh) {
+                if (bucket.size > 0) {
+                    freshHighWater = Math.max(freshHighWater, bucket.keys[bucket.size - 1]);
+                }
+            }
+            highWater = freshHighWater;
+            for (Object event : changedDuringRebuild) {
+                apply(fresh, event);
+                raiseHighWater(event);
+            }
+            changedDuringRebuild = null;
+            buckets = fresh;
+            syncedAt = start;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("Índice de estado y moneda reconstruido con {} tickets en {} ms", size(), clock.millis() - start);
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.enum-index.sync-interval:5s}",
+            initialDelayString = "${tickets.enum-index.sync-interval:5s}")
+    public void sync() {
+        if (!isReady()) {
+            return;
+        }
+        long start = clock.millis();
+        try {
+            LocalDateTime latest = supportTicketRepository.findMaxCreatedAt();
+            long known;
+            lock.readLock().lock();
+            try {
+                known = highWater;
+            } finally {
+                lock.readLock().unlock();
+            }
+            if (latest != null && toKey(latest) > known) {
+                catchUp(known == Long.MIN_VALUE ? null : toDateTime(known - CATCH_UP_MARGIN_MICROS));
+            }
+            syncedAt = start;
+        } catch (RuntimeException e) {
+            log.warn("No fue posible sincronizar el índice de estado y moneda; los listados se leerán de la base de datos", e);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        onChange(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsArchived(TicketsArchivedEvent event) {
+        onChange(event);
+    }
+
+    private void onChange(Object event) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            apply(buckets, event);
+            raiseHighWater(event);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void raiseHighWater(Object event) {
+        if (event instanceof TicketChangedEvent) {
+            SupportTicketResponse current = ((TicketChangedEvent) event).getCurrent();
+            if (current != null && current.getCreatedAt() != null) {
+                highWater = Math.max(highWater, toKey(current.getCreatedAt()));
+            }
+        }
+    }
+
+    private void catchUp(LocalDateTime since) {
+        TicketFilter recent = new TicketFilter(null, null, null, null, null, since, null);
+        Sort.Order order = Sort.Order.asc("createdAt");
+        TicketCursor after = null;
+        Slice<SupportTicket> batch;
+        do {
+            batch = supportTicketRepository.findWithFiltersAfter(recent, order, after, REBUILD_BATCH_SIZE);
+            List<SupportTicket> tickets = batch.getContent();
+            lock.writeLock().lock();
+            try {
+                for (SupportTicket ticket : tickets) {
+                    long key = toKey(ticket.getCreatedAt());
+                    for (Bucket bucket : buckets) {
+                        bucket.remove(key, ticket.getId());
+                    }
+                    buckets[bucketOf(ticket.getStatus(), ticket.getCurrency())].add(key, ticket.getId());
+                    highWater = Math.max(highWater, key);
+                }
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (!tickets.isEmpty()) {
+                SupportTicket last = tickets.get(tickets.size() - 1);
+                after = new TicketCursor("createdAt", Sort.Direction.ASC, last.getCreatedAt(), last.getId());
+            }
+        } while (batch.hasNext());
+    }
+
+    private static void apply(Bucket[] target, Object event) {
+        if (event instanceof TicketsArchivedEvent) {
+            Set<Long> removed = new HashSet<>(((TicketsArchivedEvent) event).getTicketIds());
+            for (Bucket bucket : target) {
+                bucket.removeAll(removed);
+            }
+            return;
+        }
+        TicketChangedEvent change = (TicketChangedEvent) event;
+        SupportTicketResponse previous = change.getPrevious();
+        if (previous != null && previous.getCreatedAt() != null) {
+            target[bucketOf(previous.getStatus(), previous.getCurrency())]
+                    .remove(toKey(previous.getCreatedAt()), change.getTicketId());
+        }
+        SupportTicketResponse current = change.getCurrent();
+        if (current != null && current.getCreatedAt() != null) {
+            target[bucketOf(current.getStatus(), current.getCurrency())]
+                    .add(toKey(current.getCreatedAt()), current.getId());
+        }
+    }
+
+    private static List<Long> window(List<Bucket> matching, boolean descending, int offset, int limit) {
+        int[] positions = new int[matching.size()];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = descending ? matching.get(i).size - 1 : 0;
+        }
+        List<Long> ids = new ArrayList<>(limit);
+        for (int skipped = 0; ids.size() < limit; skipped++) {
+            int next = -1;
+            for (int i = 0; i < positions.length; i++) {
+                Bucket bucket = matching.get(i);
+                int position = positions[i];
+                if (position < 0 || position >= bucket.size) {
+                    continue;
+                }
+                if (next < 0) {
+                    next = i;
+                    continue;
+                }
+                Bucket best = matching.get(next);
+                int comparison = compare(bucket.keys[position], bucket.ids[position],
+                        best.keys[positions[next]], best.ids[positions[next]]);
+                if (descending ? comparison > 0 : comparison < 0) {
+                    next = i;
+                }
+            }
+            if (next < 0) {
+                break;
+            }
+            if (skipped >= offset) {
+                ids.add(matching.get(next).ids[positions[next]]);
+            }
+            positions[next] += descending ? -1 : 1;
+        }
+        return ids;
+    }
+
+    private static boolean isCreatedAtOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return true;
+        }
+        List<Sort.Order> orders = sort.toList();
+        return orders.size() == 1 && "createdAt".equals(orders.get(0).getProperty());
+    }
+
+    private static int bucketOf(TicketStatus status, Currency currency) {
+        return status.ordinal() * CURRENCIES.length + currency.ordinal();
+    }
+
+    private static long toKey(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+
+    private static LocalDateTime toDateTime(long key) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(key, 1_000_000L),
+                (int) Math.floorMod(key, 1_000_000L) * 1_000, ZoneOffset.UTC);
+    }
+
+    private static int compare(long key, long id, long otherKey, long otherId) {
+        int comparison = Long.compare(key, otherKey);
+        return comparison != 0 ? comparison : Long.compare(id, otherId);
+    }
+
+    private static Bucket[] emptyBuckets() {
+        Bucket[] buckets = new Bucket[STATUSES.length * CURRENCIES.length];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket();
+        }
+        return buckets;
+    }
+
+    private static final class Bucket {
+
+        private long[] keys = new long[INITIAL_CAPACITY];
+        private long[] ids = new long[INITIAL_CAPACITY];
+        private int size;
+
+        void append(long key, long id) {
+            ensureCapacity();
+            keys[size] = key;
+            ids[size] = id;
+            size++;
+        }
+
+        void add(long key, long id) {
+            if (find(key, id) >= 0) {
+                return;
+            }
+            int position = insertionPoint(key, id);
+            ensureCapacity();
+            System.arraycopy(keys, position, keys, position + 1, size - position);
+            System.arraycopy(ids, position, ids, position + 1, size - position);
+            keys[position] = key;
+            ids[position] = id;
+            size++;
+        }
+
+        void remove(long key, long id) {
+            int position = find(key, id);
+            if (position < 0) {
+                return;
+            }
+            System.arraycopy(keys, position + 1, keys, position, size - position - 1);
+            System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+            size--;
+        }
+
+        void removeAll(Set<Long> removed) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (!removed.contains(ids[i])) {
+                    keys[kept] = keys[i];
+                    ids[kept] = ids[i];
+                    kept++;
+                }
+            }
+            size = kept;
+        }
+
+        private int find(long key, long id) {
+            for (int i = insertionPoint(key - CREATED_AT_TOLERANCE_MICROS, Long.MIN_VALUE);
+                 i < size && keys[i] <= key + CREATED_AT_TOLERANCE_MICROS; i++) {
+                if (ids[i] == id) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        private int insertionPoint(long key, long id) {
+            if (size == 0 || compare(keys[size - 1], ids[size - 1], key, id) < 0) {
+                return size;
+            }
+            int low = 0;
+            int high = size - 1;
+            while (low <= high) {
+                int middle = (low + high) >>> 1;
+                if (compare(keys[middle], ids[middle], key, id) < 0) {
+                    low = middle + 1;
+                } else {
+                    high = middle - 1;
+                }
+            }
+            return low;
+        }
+
+        private void ensureCapacity() {
+            if (size == keys.length) {
+                keys = Arrays.copyOf(keys, keys.length * 2);
+                ids = Arrays.copyOf(ids, ids.length * 2);
+            }
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.supporttickets.search;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketCursor;
+import com.example.supporttickets.repository.TicketFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+@Component
+public class TicketSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketSearchIndex.class);
+
+    private static final int GRAM_SIZE = 3;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+    private static final Duration UNINDEXED_MARGIN = Duration.ofMinutes(1);
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final TicketFilter NO_FILTER = new TicketFilter(null, null, null, null, null, null, null);
+
+    private final SupportTicketRepository supportTicketRepository;
+    private final boolean enabled;
+    private final int maxCandidates;
+    private final Clock clock;
+
+    private final Object changeLock = new Object();
+    private volatile Snapshot snapshot = new Snapshot(null);
+    private List<Object> changedDuringRebuild;
+    private volatile boolean ready;
+
+    @Autowired
+    public TicketSearchIndex(SupportTicketRepository supportTicketRepository,
+                             @Value("${tickets.search.enabled:true}") boolean enabled,
+                             @Value("${tickets.search.max-candidates:5000}") int maxCandidates) {
+        this(supportTicketRepository, enabled, maxCandidates, Clock.systemDefaultZone());
+    }
+
+    TicketSearchIndex(SupportTicketRepository supportTicketRepository, boolean enabled, int maxCandidates, Clock clock) {
+        this.supportTicketRepository = supportTicketRepository;
+        this.enabled = enabled;
+        this.maxCandidates = maxCandidates;
+        this.clock = clock;
+    }
+
+    public boolean isReady() {
+        return enabled && ready;
+    }
+
+    public int size() {
+        return snapshot.documents.size();
+    }
+
+    public LocalDateTime getIndexedUntil() {
+        return snapshot.indexedUntil;
+    }
+
+    public Set<Long> search(String q) {
+        Snapshot current = snapshot;
+        String query = normalize(q);
+        Set<Long> result = new HashSet<>();
+        if (query.length() < GRAM_SIZE) {
+            for (Map.Entry<Long, String[]> entry : current.documents.entrySet()) {
+                if (matches(entry.getValue(), query)) {
+                    result.add(entry.getKey());
+                    if (result.size() > maxCandidates) {
+                        return null;
+                    }
+                }
+            }
+            return result;
+        }
+
+        for (Long id : current.candidatesFor(query)) {
+            String[] fields = current.documents.get(id);
+            if (fields != null && matches(fields, query)) {
+                result.add(id);
+                if (result.size() > maxCandidates) {
+                    return null;
+                }
+            }
+        }
+        return result;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.search.resync-interval:5m}",
+            initialDelayString = "${tickets.search.resync-interval:5m}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        Snapshot fresh = new Snapshot(LocalDateTime.now(clock).minus(UNINDEXED_MARGIN));
+        synchronized (changeLock) {
+            changedDuringRebuild = new ArrayList<>();
+        }
+        try {
+            Sort.Order order = Sort.Order.asc("id");
+            TicketCursor after = null;
+            Slice<SupportTicket> batch;
+            do {
+                batch = supportTicketRepository.findWithFiltersAfter(NO_FILTER, order, after, REBUILD_BATCH_SIZE);
+                List<SupportTicket> tickets = batch.getContent();
+                for (SupportTicket ticket : tickets) {
+                    fresh.index(ticket.getId(), ticket.getTicketNumber(), ticket.getRequesterName(), ticket.getCategory());
+                }
+                if (!tickets.isEmpty()) {
+                    Long lastId = tickets.get(tickets.size() - 1).getId();
+                    after = new TicketCursor("id", Sort.Direction.ASC, lastId, lastId);
+                }
+            } while (batch.hasNext());
+        } catch (RuntimeException e) {
+            synchronized (changeLock) {
+                changedDuringRebuild = null;
+            }
+            log.warn("No fue posible reconstruir el índice de búsqueda; se usará la búsqueda en base de datos", e);
+            return;
+        }
+
+        synchronized (changeLock) {
+            for (Object event : changedDuringRebuild) {
+                apply(fresh, event);
+            }
+            changedDuringRebuild = null;
+            snapshot = fresh;
+            ready = true;
+        }
+        log.info("Índice de búsqueda reconstruido con {} tickets en {} ms", fresh.documents.size(), System.currentTimeMillis() - start);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        onChange(event);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsArchived(TicketsArchivedEvent event) {
+        onChange(event);
+    }
+
+    private void onChange(Object event) {
+        if (!enabled) {
+            return;
+        }
+        synchronized (changeLock) {
+            apply(snapshot, event);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.add(event);
+            }
+        }
+    }
+
+    private static void apply(Snapshot target, Object event) {
+        if (event instanceof TicketsArchivedEvent) {
+            for (Long id : ((TicketsArchivedEvent) event).getTicketIds()) {
+                target.remove(id);
+            }
+            return;
+        }
+        TicketChangedEvent change = (TicketChangedEvent) event;
+        if (change.isDeleted()) {
+            target.remove(change.getTicketId());
+            return;
+        }
+        SupportTicketResponse current = change.getCurrent();
+        target.index(current.getId(), current.getTicketNumber(), current.getRequesterName(), current.getCategory());
+    }
+
+    private static Set<String> gramsOf(String[] fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            addGrams(field, grams);
+        }
+        return grams;
+    }
+
+    private static void addGrams(String text, Set<String> grams) {
+        for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM_SIZE));
+        }
+    }
+
+    private static boolean matches(String[] fields, String query) {
+        for (String field : fields) {
+            if (field.contains(query)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(value.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private static final class Snapshot {
+
+        private final LocalDateTime indexedUntil;
+        private final Map<Long, String[]> documents = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        private Snapshot(LocalDateTime indexedUntil) {
+            this.indexedUntil = indexedUntil;
+        }
+
+        void index(Long id, String ticketNumber, String requesterName, String category) {
+            remove(id);
+            String[] fields = {normalize(ticketNumber), normalize(requesterName), normalize(category)};
+            documents.put(id, fields);
+            for (String gram : gramsOf(fields)) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+
+        void remove(Long id) {
+            String[] fields = documents.remove(id);
+            if (fields == null) {
+                return;
+            }
+            for (String gram : gramsOf(fields)) {
+                postings.computeIfPresent(gram, (key, ids) -> {
+                    ids.remove(id);
+                    return ids.isEmpty() ? null : ids;
+                });
+            }
+        }
+
+        Set<Long> candidatesFor(String query) {
+            Set<String> grams = new HashSet<>();
+            addGrams(query, grams);
+
+            Set<Long> smallest = null;
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids == null) {
+                    return Collections.emptySet();
+                }
+                if (smallest == null || ids.size() < smallest.size()) {
+                    smallest = ids;
+                }
+            }
+
+            Set<Long> candidates = new HashSet<>(smallest);
+            for (String gram : grams) {
+                Set<Long> ids = postings.get(gram);
+                if (ids != smallest) {
+                    if (ids == null) {
+                        return Collections.emptySet();
+                    }
+                    Iterator<Long> iterator = candidates.iterator();
+                    while (iterator.hasNext()) {
+                        if (!ids.contains(iterator.next())) {
+                            iterator.remove();
+                        }
+                    }
+                }
+            }
+            return candidates;
+        }
+    }
+}
@@ -0,0 +1,296 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.config.CacheConfig;
+import com.example.supporttickets.dto.BulkItemResult;
+import com.example.supporttickets.dto.BulkOperationResponse;
+import com.example.supporttickets.dto.SupportTicketBulkUpdateRequest;
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+public class SupportTicketBulkService {
+
+    private static final Logger log = LoggerFactory.getLogger(SupportTicketBulkService.class);
+
+    private static final String INVALID_ITEM = "Elemento vacío o JSON inválido";
+    private static final String NOT_FOUND = "Ticket no encontrado con ID: ";
+    private static final String CHUNK_FAILED = "Error al guardar el lote";
+
+    private final SupportTicketRepository supportTicketRepository;
+    private final TicketNumberAllocator ticketNumberAllocator;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final int chunkSize;
+    private final int maxItems;
+
+    @Autowired
+    public SupportTicketBulkService(SupportTicketRepository supportTicketRepository,
+                                    TicketNumberAllocator ticketNumberAllocator,
+                                    Validator validator,
+                                    PlatformTransactionManager transactionManager,
+                                    ApplicationEventPublisher eventPublisher,
+                                    CacheManager cacheManager,
+                                    @Value("${tickets.bulk.chunk-size:500}") int chunkSize,
+                                    @Value("${tickets.bulk.max-items:100000}") int maxItems) {
+        this.supportTicketRepository = supportTicketRepository;
+        this.ticketNumberAllocator = ticketNumberAllocator;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BulkOperationResponse createTickets(List<SupportTicketRequest> requests) {
+        validateItemCount(requests);
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<Integer> indexes = new ArrayList<>();
+            List<SupportTicket> tickets = new ArrayList<>();
+
+            for (int i = start; i < end; i++) {
+                SupportTicketRequest request = requests.get(i);
+                BulkItemResult invalid = validate(i, request);
+                if (invalid != null) {
+                    results[i] = invalid;
+                    continue;
+                }
+                indexes.add(i);
+                tickets.add(SupportTicketMapper.toNewTicket(ticketNumberAllocator.nextTicketNumber(), request));
+            }
+            if (tickets.isEmpty()) {
+                continue;
+            }
+
+            try {
+                List<SupportTicket> saved = transactionTemplate.execute(status -> {
+                    List<SupportTicket> persisted = supportTicketRepository.saveAll(tickets);
+                    for (SupportTicket ticket : persisted) {
+                        eventPublisher.publishEvent(TicketChangedEvent.created(SupportTicketMapper.toResponse(ticket)));
+                    }
+                    return persisted;
+                });
+                for (int i = 0; i < indexes.size(); i++) {
+                    SupportTicket ticket = saved.get(i);
+                    results[indexes.get(i)] = new BulkItemResult(indexes.get(i), HttpStatus.CREATED.value(),
+                            ticket.getId(), ticket.getTicketNumber(), null, null);
+                }
+            } catch (RuntimeException e) {
+                markChunkFailed(results, indexes, e);
+            }
+        }
+
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    public BulkOperationResponse updateTickets(List<SupportTicketBulkUpdateRequest> requests) {
+        return applyUpdates(requests, true, SupportTicketMapper::applyFull);
+    }
+
+    public BulkOperationResponse partialUpdateTickets(List<SupportTicketBulkUpdateRequest> requests) {
+        return applyUpdates(requests, false, SupportTicketMapper::applyPartial);
+    }
+
+    public BulkOperationResponse deleteTickets(List<Long> ids) {
+        validateItemCount(ids);
+        BulkItemResult[] results = new BulkItemResult[ids.size()];
+
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, ids.size());
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                if (ids.get(i) == null) {
+                    results[i] = new BulkItemResult(i, HttpStatus.BAD_REQUEST.value(), null, null, INVALID_ITEM, null);
+                } else {
+                    indexes.add(i);
+                }
+            }
+            if (indexes.isEmpty()) {
+                continue;
+            }
+
+            try {
+                Map<Integer, BulkItemResult> chunkResults = transactionTemplate.execute(status -> {
+                    List<Long> chunkIds = indexes.stream().map(ids::get).distinct().collect(Collectors.toList());
+                    Map<Long, SupportTicket> existing = supportTicketRepository.findAllById(chunkIds).stream()
+                            .collect(Collectors.toMap(SupportTicket::getId, Function.identity()));
+                    if (!existing.isEmpty()) {
+                        supportTicketRepository.deleteAllByIds(existing.keySet());
+                    }
+
+                    Cache cache = ticketCache();
+                    Map<Integer, BulkItemResult> pending = new HashMap<>();
+                    Set<Long> published = new HashSet<>();
+                    for (Integer index : indexes) {
+                        Long id = ids.get(index);
+                        if (!existing.containsKey(id)) {
+                            pending.put(index, notFound(index, id));
+                            continue;
+                        }
+                        if (published.add(id)) {
+                            cache.evict(id);
+                            eventPublisher.publishEvent(TicketChangedEvent.deleted(id, SupportTicketMapper.toResponse(existing.get(id))));
+                        }
+                        pending.put(index, new BulkItemResult(index, HttpStatus.NO_CONTENT.value(), id, null, null, null));
+                    }
+                    return pending;
+                });
+                chunkResults.forEach((index, result) -> results[index] = result);
+            } catch (RuntimeException e) {
+                markChunkFailed(results, indexes, e);
+            }
+        }
+
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    private BulkOperationResponse applyUpdates(List<SupportTicketBulkUpdateRequest> requests, boolean fullValidation,
+                                               BiConsumer<SupportTicket, SupportTicketRequest> changes) {
+        validateItemCount(requests);
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<Integer> indexes = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                SupportTicketBulkUpdateRequest request = requests.get(i);
+                BulkItemResult invalid = fullValidation ? validate(i, request) : validatePatch(i, request);
+                if (invalid != null) {
+                    results[i] = invalid;
+                } else {
+                    indexes.add(i);
+                }
+            }
+            if (indexes.isEmpty()) {
+                continue;
+            }
+
+            try {
+                Map<Integer, BulkItemResult> chunkResults = transactionTemplate.execute(status -> {
+                    List<Long> chunkIds = indexes.stream().map(i -> requests.get(i).getId()).distinct().collect(Collectors.toList());
+                    Map<Long, SupportTicket> tickets = supportTicketRepository.findAllById(chunkIds).stream()
+                            .collect(Collectors.toMap(SupportTicket::getId, Function.identity()));
+
+                    Cache cache = ticketCache();
+                    Map<Integer, BulkItemResult> pending = new HashMap<>();
+                    for (Integer index : indexes) {
+                        SupportTicketBulkUpdateRequest request = requests.get(index);
+                        SupportTicket ticket = tickets.get(request.getId());
+                        if (ticket == null) {
+                            pending.put(index, notFound(index, request.getId()));
+                            continue;
+                        }
+                        SupportTicketResponse previous = SupportTicketMapper.toResponse(ticket);
+                        changes.accept(ticket, request);
+                        cache.evict(ticket.getId());
+                        eventPublisher.publishEvent(TicketChangedEvent.updated(previous, SupportTicketMapper.toResponse(ticket)));
+                        pending.put(index, new BulkItemResult(index, HttpStatus.OK.value(),
+                                ticket.getId(), ticket.getTicketNumber(), null, null));
+                    }
+                    return pending;
+                });
+                chunkResults.forEach((index, result) -> results[index] = result);
+            } catch (RuntimeException e) {
+                markChunkFailed(results, indexes, e);
+            }
+        }
+
+        return new BulkOperationResponse(Arrays.asList(results));
+    }
+
+    private void validateItemCount(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("La operación masiva debe contener al menos un elemento");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("La operación masiva admite como máximo " + maxItems + " elementos");
+        }
+    }
+
+    private BulkItemResult validate(int index, Object request) {
+        if (request == null) {
+            return new BulkItemResult(index, HttpStatus.BAD_REQUEST.value(), null, null, INVALID_ITEM, null);
+        }
+        Set<ConstraintViolation<Object>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        Map<String, String> errors = new HashMap<>();
+        for (ConstraintViolation<Object> violation : violations) {
+            errors.put(violation.getPropertyPath().toString(), violation.getMessage());
+        }
+        return new BulkItemResult(index, HttpStatus.BAD_REQUEST.value(), null, null,
+                "Error de validación en los datos enviados", errors);
+    }
+
+    private BulkItemResult validateId(int index, SupportTicketBulkUpdateRequest request) {
+        if (request == null) {
+            return new BulkItemResult(index, HttpStatus.BAD_REQUEST.value(), null, null, INVALID_ITEM, null);
+        }
+        if (request.getId() == null) {
+            return new BulkItemResult(index, HttpStatus.BAD_REQUEST.value(), null, null,
+                    "Error de validación en los datos enviados", Map.of("id", "El ID del ticket es obligatorio"));
+        }
+        return null;
+    }
+
+    private BulkItemResult validatePatch(int index, SupportTicketBulkUpdateRequest request) {
+        BulkItemResult invalid = validateId(index, request);
+        if (invalid != null) {
+            return invalid;
+        }
+        try {
+            SupportTicketMapper.toPatch(request).validate();
+            return null;
+        } catch (IllegalArgumentException e) {
+            return new BulkItemResult(index, HttpStatus.BAD_REQUEST.value(), request.getId(), null, e.getMessage(), null);
+        }
+    }
+
+    private BulkItemResult notFound(int index, Long id) {
+        return new BulkItemResult(index, HttpStatus.NOT_FOUND.value(), id, null, NOT_FOUND + id, null);
+    }
+
+    private void markChunkFailed(BulkItemResult[] results, List<Integer> indexes, RuntimeException e) {
+        log.warn("{} ({} elementos desde el índice {})", CHUNK_FAILED, indexes.size(), indexes.get(0), e);
+        for (Integer index : indexes) {
+            results[index] = new BulkItemResult(index, HttpStatus.INTERNAL_SERVER_ERROR.value(), null, null, CHUNK_FAILED, null);
+        }
+    }
+
+    private Cache ticketCache() {
+        return cacheManager.getCache(CacheConfig.TICKETS_CACHE);
+    }
+}
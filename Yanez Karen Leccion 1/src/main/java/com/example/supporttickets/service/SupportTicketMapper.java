@@ -0,0 +1,97 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.TicketPatch;
+
+public final class SupportTicketMapper {
+
+    private SupportTicketMapper() {
+    }
+
+    public static SupportTicket toNewTicket(String ticketNumber, SupportTicketRequest request) {
+        SupportTicket ticket = new SupportTicket();
+        ticket.setTicketNumber(ticketNumber);
+        applyFull(ticket, request);
+        return ticket;
+    }
+
+    public static void applyFull(SupportTicket ticket, SupportTicketRequest request) {
+        ticket.setRequesterName(request.getRequesterName());
+        ticket.setStatus(request.getStatus());
+        ticket.setPriority(request.getPriority());
+        ticket.setCategory(request.getCategory());
+        ticket.setEstimatedCost(request.getEstimatedCost());
+        ticket.setCurrency(request.getCurrency());
+        ticket.setDueDate(request.getDueDate());
+    }
+
+    public static void applyPartial(SupportTicket ticket, SupportTicketRequest request) {
+        if (request.getRequesterName() != null) {
+            ticket.setRequesterName(request.getRequesterName());
+        }
+        if (request.getStatus() != null) {
+            ticket.setStatus(request.getStatus());
+        }
+        if (request.getPriority() != null) {
+            ticket.setPriority(request.getPriority());
+        }
+        if (request.getCategory() != null) {
+            ticket.setCategory(request.getCategory());
+        }
+        if (request.getEstimatedCost() != null) {
+            ticket.setEstimatedCost(request.getEstimatedCost());
+        }
+        if (request.getCurrency() != null) {
+            ticket.setCurrency(request.getCurrency());
+        }
+        if (request.getDueDate() != null) {
+            ticket.setDueDate(request.getDueDate());
+        }
+    }
+
+    public static TicketPatch toPatch(SupportTicketRequest request) {
+        return new TicketPatch(
+                request.getRequesterName(),
+                request.getStatus(),
+                request.getPriority(),
+                request.getCategory(),
+                request.getEstimatedCost(),
+                request.getCurrency(),
+                request.getDueDate()
+        );
+    }
+
+    public static SupportTicketResponse applyPatch(SupportTicketResponse previous, TicketPatch patch) {
+        return new SupportTicketResponse(
+                previous.getId(),
+                previous.getTicketNumber(),
+                patch.getRequesterName() != null ? patch.getRequesterName() : previous.getRequesterName(),
+                patch.getStatus() != null ? patch.getStatus() : previous.getStatus(),
+                patch.getPriority() != null ? patch.getPriority() : previous.getPriority(),
+                patch.getCategory() != null ? patch.getCategory() : previous.getCategory(),
+                patch.getEstimatedCost() != null ? patch.getEstimatedCost() : previous.getEstimatedCost(),
+                patch.getCurrency() != null ? patch.getCurrency() : previous.getCurrency(),
+                previous.getCreatedAt(),
+                patch.getDueDate() != null ? patch.getDueDate() : previous.getDueDate(),
+                previous.getVersion() + 1
+        );
+    }
+
+    public static SupportTicketResponse toResponse(SupportTicket ticket) {
+        return new SupportTicketResponse(
+                ticket.getId(),
+                ticket.getTicketNumber(),
+                ticket.getRequesterName(),
+                ticket.getStatus(),
+                ticket.getPriority(),
+                ticket.getCategory(),
+                ticket.getEstimatedCost(),
+                ticket.getCurrency(),
+                ticket.getCreatedAt(),
+                ticket.getDueDate(),
+                ticket.getVersion()
+        );
+    }
+}
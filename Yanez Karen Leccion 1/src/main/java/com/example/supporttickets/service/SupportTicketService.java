@@ -1,255 +1,361 @@
 package com.example.supporttickets.service;
 
+import com.example.supporttickets.config.CacheConfig;
+import com.example.supporttickets.dto.CursorPageResponse;
 import com.example.supporttickets.dto.SupportTicketRequest;
 import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
 import com.example.supporttickets.exception.InvalidFilterException;
+import com.example.supporttickets.exception.PreconditionFailedException;
 import com.example.supporttickets.exception.ResourceNotFoundException;
 import com.example.supporttickets.model.SupportTicket;
-import com.example.supporttickets.model.TicketStatus;
-import com.example.supporttickets.model.Currency;
 import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketCursor;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.repository.TicketPatch;
+import com.example.supporttickets.search.TicketEnumIndex;
+import com.example.supporttickets.search.TicketSearchIndex;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional
+@Timed(value = "tickets.service", histogram = true)
 public class SupportTicketService {
 
     private final SupportTicketRepository supportTicketRepository;
-    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+    private final TicketNumberAllocator ticketNumberAllocator;
+    private final TicketSearchIndex ticketSearchIndex;
+    private final TicketEnumIndex ticketEnumIndex;
+    private final TicketListCache ticketListCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final CacheManager cacheManager;
+    private final TransactionTemplate transactionTemplate;
+    private static final int MAX_CURSOR_PAGE_SIZE = 100;
+    private static final int MAX_WRITE_ATTEMPTS = 3;
 
     @Autowired
-    public SupportTicketService(SupportTicketRepository supportTicketRepository) {
+    public SupportTicketService(SupportTicketRepository supportTicketRepository,
+                                TicketNumberAllocator ticketNumberAllocator,
+                                TicketSearchIndex ticketSearchIndex,
+                                TicketEnumIndex ticketEnumIndex,
+                                TicketListCache ticketListCache,
+                                ApplicationEventPublisher eventPublisher,
+                                CacheManager cacheManager,
+                                PlatformTransactionManager transactionManager) {
         this.supportTicketRepository = supportTicketRepository;
+        this.ticketNumberAllocator = ticketNumberAllocator;
+        this.ticketSearchIndex = ticketSearchIndex;
+        this.ticketEnumIndex = ticketEnumIndex;
+        this.ticketListCache = ticketListCache;
+        this.eventPublisher = eventPublisher;
+        this.cacheManager = cacheManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public SupportTicketResponse createTicket(SupportTicketRequest request) {
-        String ticketNumber = generateTicketNumber();
-        
-        SupportTicket ticket = new SupportTicket();
-        ticket.setTicketNumber(ticketNumber);
-        ticket.setRequesterName(request.getRequesterName());
-        ticket.setStatus(request.getStatus());
-        ticket.setPriority(request.getPriority());
-        ticket.setCategory(request.getCategory());
-        ticket.setEstimatedCost(request.getEstimatedCost());
-        ticket.setCurrency(request.getCurrency());
-        ticket.setDueDate(request.getDueDate());
-        
-        SupportTicket savedTicket = supportTicketRepository.save(ticket);
-        return convertToResponse(savedTicket);
+        String ticketNumber = ticketNumberAllocator.nextTicketNumber();
+        SupportTicket ticket = SupportTicketMapper.toNewTicket(ticketNumber, request);
+
+        return transactionTemplate.execute(status -> {
+            SupportTicket savedTicket = supportTicketRepository.save(ticket);
+            SupportTicketResponse response = SupportTicketMapper.toResponse(savedTicket);
+            eventPublisher.publishEvent(TicketChangedEvent.created(response));
+            return response;
+        });
     }
 
+    @Transactional(readOnly = true)
     public Page<SupportTicketResponse> findTicketsWithFilters(
             String q, String status, String currency, 
             String minCost, String maxCost, String from, String to,
             int page, int size, String sort) {
+        return findTicketsWithFilters(q, status, currency, minCost, maxCost, from, to, page, size, sort, null);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SupportTicketResponse> findTicketsWithFilters(
+            String q, String status, String currency,
+            String minCost, String maxCost, String from, String to,
+            int page, int size, String sort, String fields) {
+        return findTicketsWithFilters(q, status, currency, minCost, maxCost, from, to, page, size, sort, fields, false);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<SupportTicketResponse> findTicketsWithFilters(
+            String q, String status, String currency,
+            String minCost, String maxCost, String from, String to,
+            int page, int size, String sort, String fields, boolean includeArchived) {
+
+        TicketFilter filter = TicketRequestParser.buildFilter(q, status, currency, minCost, maxCost, from, to)
+                .withArchived(includeArchived);
+        List<String> selectedFields = TicketRequestParser.parseFields(fields);
+
+        Pageable pageable = PageRequest.of(page, size, TicketRequestParser.parseSort(sort));
+
+        return ticketListCache.get(filter, pageable, selectedFields, () -> loadTickets(filter, pageable, selectedFields));
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponse<SupportTicketResponse> findTicketsAfterCursor(
+            String q, String status, String currency,
+            String minCost, String maxCost, String from, String to,
+            String cursor, int size, String sort) {
+
+        TicketFilter filter = TicketRequestParser.buildFilter(q, status, currency, minCost, maxCost, from, to);
+        validateCursorPageSize(size);
+
+        Sort.Order order = TicketRequestParser.parseSort(sort).iterator().next();
+        if (!TicketCursorCodec.supportsField(order.getProperty())) {
+            throw new InvalidFilterException("Campo de ordenamiento no soportado con cursor. Campos permitidos: id, ticketNumber, requesterName, category, estimatedCost, createdAt, dueDate");
+        }
+
+        TicketCursor after = null;
+        if (cursor != null && !cursor.trim().isEmpty()) {
+            after = TicketCursorCodec.decode(cursor.trim());
+            if (!after.getSortField().equals(order.getProperty()) || after.getDirection() != order.getDirection()) {
+                throw new InvalidFilterException("El cursor no corresponde al ordenamiento solicitado");
+            }
+        }
+
+        filter = applySearchIndex(filter);
+        if (filter.matchesNothing()) {
+            return new CursorPageResponse<>(List.of(), size, false, null);
+        }
+
+        Slice<SupportTicket> tickets = supportTicketRepository.findWithFiltersAfter(filter, order, after, size);
 
-        TicketStatus statusEnum = parseStatus(status);
-        Currency currencyEnum = parseCurrency(currency);
-        BigDecimal minCostDecimal = parseBigDecimal(minCost, "minCost");
-        BigDecimal maxCostDecimal = parseBigDecimal(maxCost, "maxCost");
-        LocalDateTime fromDateTime = parseDateTime(from, "from");
-        LocalDateTime toDateTime = parseDateTime(to, "to");
+        List<SupportTicketResponse> content = tickets.getContent().stream()
+                .map(SupportTicketMapper::toResponse)
+                .collect(Collectors.toList());
+        String nextCursor = tickets.hasNext()
+                ? TicketCursorCodec.encode(order, tickets.getContent().get(tickets.getNumberOfElements() - 1))
+                : null;
 
-        validateDateRange(fromDateTime, toDateTime);
-        validateCostRange(minCostDecimal, maxCostDecimal);
+        return new CursorPageResponse<>(content, size, tickets.hasNext(), nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    public TicketFilter resolveFilter(String q, String status, String currency,
+                                      String minCost, String maxCost, String from, String to) {
+        return applySearchIndex(TicketRequestParser.buildFilter(q, status, currency, minCost, maxCost, from, to));
+    }
 
-        Pageable pageable = PageRequest.of(page, size, parseSort(sort));
-        
-        Page<SupportTicket> tickets = supportTicketRepository.findWithFilters(
-                q, statusEnum, currencyEnum, minCostDecimal, maxCostDecimal, 
-                fromDateTime, toDateTime, pageable);
-        
-        return tickets.map(this::convertToResponse);
+    public Sort resolveSort(String sort) {
+        return TicketRequestParser.parseSort(sort);
     }
 
+    @Cacheable(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id",
+            unless = "T(com.example.supporttickets.config.ReplicaRoutingDataSource).isReadFromReplica()")
+    @Transactional(readOnly = true)
     public SupportTicketResponse findTicketById(Long id) {
         SupportTicket ticket = supportTicketRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket no encontrado con ID: " + id));
-        return convertToResponse(ticket);
+        return SupportTicketMapper.toResponse(ticket);
     }
 
-    public SupportTicketResponse updateTicket(Long id, SupportTicketRequest request) {
-        SupportTicket existingTicket = supportTicketRepository.findById(id)
+    @Transactional(readOnly = true)
+    public Long findTicketVersion(Long id) {
+        return supportTicketRepository.findVersionById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Ticket no encontrado con ID: " + id));
+    }
 
-        existingTicket.setRequesterName(request.getRequesterName());
-        existingTicket.setStatus(request.getStatus());
-        existingTicket.setPriority(request.getPriority());
-        existingTicket.setCategory(request.getCategory());
-        existingTicket.setEstimatedCost(request.getEstimatedCost());
-        existingTicket.setCurrency(request.getCurrency());
-        existingTicket.setDueDate(request.getDueDate());
+    @CacheEvict(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id")
+    public SupportTicketResponse updateTicket(Long id, SupportTicketRequest request) {
+        return updateTicket(id, request, null);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id")
+    public SupportTicketResponse updateTicket(Long id, SupportTicketRequest request, Set<Long> expectedVersions) {
+        SupportTicket existingTicket = findForWrite(id, expectedVersions);
+        SupportTicketResponse previous = SupportTicketMapper.toResponse(existingTicket);
 
-        SupportTicket updatedTicket = supportTicketRepository.save(existingTicket);
-        return convertToResponse(updatedTicket);
+        SupportTicketMapper.applyFull(existingTicket, request);
+
+        SupportTicket updatedTicket = writeChecked(id, expectedVersions,
+                () -> supportTicketRepository.saveAndFlush(existingTicket));
+        SupportTicketResponse response = SupportTicketMapper.toResponse(updatedTicket);
+        eventPublisher.publishEvent(TicketChangedEvent.updated(previous, response));
+        return response;
     }
 
+    @CachePut(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id")
     public SupportTicketResponse partialUpdateTicket(Long id, SupportTicketRequest request) {
-        SupportTicket existingTicket = supportTicketRepository.findById(id)
-                .orElseThrow(() -> new ResourceNotFoundException("Ticket no encontrado con ID: " + id));
+        return partialUpdateTicket(id, request, null);
+    }
 
-        if (request.getRequesterName() != null) {
-            existingTicket.setRequesterName(request.getRequesterName());
-        }
-        if (request.getStatus() != null) {
-            existingTicket.setStatus(request.getStatus());
-        }
-        if (request.getPriority() != null) {
-            existingTicket.setPriority(request.getPriority());
-        }
-        if (request.getCategory() != null) {
-            existingTicket.setCategory(request.getCategory());
-        }
-        if (request.getEstimatedCost() != null) {
-            existingTicket.setEstimatedCost(request.getEstimatedCost());
-        }
-        if (request.getCurrency() != null) {
-            existingTicket.setCurrency(request.getCurrency());
-        }
-        if (request.getDueDate() != null) {
-            existingTicket.setDueDate(request.getDueDate());
-        }
+    @CachePut(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id")
+    public SupportTicketResponse partialUpdateTicket(Long id, SupportTicketRequest request, Set<Long> expectedVersions) {
+        TicketPatch patch = SupportTicketMapper.toPatch(request);
+        patch.validate();
 
-        SupportTicket updatedTicket = supportTicketRepository.save(existingTicket);
-        return convertToResponse(updatedTicket);
+        SupportTicketResponse previous = cachedTicket(id);
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            if (previous == null || !matchesVersion(expectedVersions, previous.getVersion())) {
+                previous = currentTicket(id, expectedVersions);
+            }
+            if (patch.isEmpty()) {
+                return previous;
+            }
+            if (supportTicketRepository.applyPatch(id, previous.getCreatedAt(), previous.getVersion(), patch) == 1) {
+                SupportTicketResponse response = SupportTicketMapper.applyPatch(previous, patch);
+                eventPublisher.publishEvent(TicketChangedEvent.updated(previous, response));
+                return response;
+            }
+            previous = null;
+        }
+        throw concurrentModification(id, expectedVersions);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id")
     public void deleteTicket(Long id) {
-        if (!supportTicketRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Ticket no encontrado con ID: " + id);
+        deleteTicket(id, null);
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.TICKETS_CACHE, key = "#id")
+    public void deleteTicket(Long id, Set<Long> expectedVersions) {
+        SupportTicketResponse previous = cachedTicket(id);
+        for (int attempt = 1; attempt <= MAX_WRITE_ATTEMPTS; attempt++) {
+            if (previous == null || !matchesVersion(expectedVersions, previous.getVersion())) {
+                previous = currentTicket(id, expectedVersions);
+            }
+            if (supportTicketRepository.deleteIfVersion(id, previous.getCreatedAt(), previous.getVersion()) == 1) {
+                eventPublisher.publishEvent(TicketChangedEvent.deleted(id, previous));
+                return;
+            }
+            previous = null;
         }
-        supportTicketRepository.deleteById(id);
+        throw concurrentModification(id, expectedVersions);
     }
 
-    private String generateTicketNumber() {
-        String prefix = "ST-2025-";
-        int counter = 1;
-        String ticketNumber;
-        
-        do {
-            ticketNumber = String.format("%s%06d", prefix, counter);
-            counter++;
-        } while (supportTicketRepository.existsByTicketNumber(ticketNumber));
-        
-        return ticketNumber;
+    private SupportTicketResponse cachedTicket(Long id) {
+        Cache cache = cacheManager.getCache(CacheConfig.TICKETS_CACHE);
+        return cache != null ? cache.get(id, SupportTicketResponse.class) : null;
     }
 
-    private TicketStatus parseStatus(String status) {
-        if (status == null || status.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return TicketStatus.valueOf(status.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new InvalidFilterException("Estado inválido. Valores permitidos: OPEN, IN_PROGRESS, RESOLVED, CLOSED, CANCELLED");
+    private SupportTicketResponse currentTicket(Long id, Set<Long> expectedVersions) {
+        SupportTicketResponse current = supportTicketRepository.findReadOnlyById(id)
+                .map(SupportTicketMapper::toResponse)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket no encontrado con ID: " + id));
+        if (!matchesVersion(expectedVersions, current.getVersion())) {
+            throw new PreconditionFailedException("El ticket con ID " + id
+                    + " fue modificado por otra solicitud. Versión actual: " + current.getVersion());
         }
+        return current;
     }
 
-    private Currency parseCurrency(String currency) {
-        if (currency == null || currency.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return Currency.valueOf(currency.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new InvalidFilterException("Moneda inválida. Valores permitidos: USD, EUR");
+    private static RuntimeException concurrentModification(Long id, Set<Long> expectedVersions) {
+        if (expectedVersions != null) {
+            return new PreconditionFailedException("El ticket con ID " + id
+                    + " fue modificado por otra solicitud mientras se procesaba el cambio");
         }
+        return new ObjectOptimisticLockingFailureException(SupportTicket.class, id);
     }
 
-    private BigDecimal parseBigDecimal(String value, String fieldName) {
-        if (value == null || value.trim().isEmpty()) {
-            return null;
+    private static boolean matchesVersion(Set<Long> expectedVersions, Long version) {
+        return expectedVersions == null || expectedVersions.contains(version);
+    }
+
+    private SupportTicket findForWrite(Long id, Set<Long> expectedVersions) {
+        SupportTicket ticket = supportTicketRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket no encontrado con ID: " + id));
+        if (expectedVersions != null && !expectedVersions.contains(ticket.getVersion())) {
+            throw new PreconditionFailedException("El ticket con ID " + id
+                    + " fue modificado por otra solicitud. Versión actual: " + ticket.getVersion());
         }
+        return ticket;
+    }
+
+    private <T> T writeChecked(Long id, Set<Long> expectedVersions, Supplier<T> write) {
         try {
-            BigDecimal decimal = new BigDecimal(value);
-            if (decimal.compareTo(BigDecimal.ZERO) < 0) {
-                throw new InvalidFilterException(fieldName + " debe ser mayor o igual a 0");
+            return write.get();
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersions != null) {
+                throw new PreconditionFailedException("El ticket con ID " + id
+                        + " fue modificado por otra solicitud mientras se procesaba el cambio", e);
             }
-            return decimal;
-        } catch (NumberFormatException e) {
-            throw new InvalidFilterException(fieldName + " debe ser un número válido");
+            throw e;
         }
     }
 
-    private LocalDateTime parseDateTime(String dateTime, String fieldName) {
-        if (dateTime == null || dateTime.trim().isEmpty()) {
-            return null;
-        }
-        try {
-            return LocalDateTime.parse(dateTime, ISO_FORMATTER);
-        } catch (DateTimeParseException e) {
-            throw new InvalidFilterException(fieldName + " debe tener formato ISO-8601: yyyy-MM-dd'T'HH:mm:ss");
+    private Page<SupportTicketResponse> loadTickets(TicketFilter filter, Pageable pageable, List<String> fields) {
+        if (ticketEnumIndex.canServe(filter, pageable)) {
+            Page<SupportTicketResponse> indexed = loadFromEnumIndex(filter, pageable, fields);
+            if (indexed != null) {
+                return indexed;
+            }
         }
-    }
 
-    private void validateDateRange(LocalDateTime from, LocalDateTime to) {
-        if (from != null && to != null && from.isAfter(to)) {
-            throw new InvalidFilterException("La fecha 'from' debe ser anterior o igual a la fecha 'to'");
+        if (!filter.isIncludeArchived()) {
+            filter = applySearchIndex(filter);
+            if (filter.matchesNothing()) {
+                return Page.empty(pageable);
+            }
         }
+
+        return supportTicketRepository.findResponsesWithFilters(filter, pageable, fields);
     }
 
-    private void validateCostRange(BigDecimal minCost, BigDecimal maxCost) {
-        if (minCost != null && maxCost != null && minCost.compareTo(maxCost) > 0) {
-            throw new InvalidFilterException("minCost debe ser menor o igual a maxCost");
+    private Page<SupportTicketResponse> loadFromEnumIndex(TicketFilter filter, Pageable pageable, List<String> fields) {
+        Page<Long> ids = ticketEnumIndex.find(filter, pageable);
+        if (ids.getContent().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, ids.getTotalElements());
         }
+        Page<SupportTicketResponse> rows = supportTicketRepository.findResponsesWithFilters(
+                filter.withCandidateIds(ids.getContent()),
+                PageRequest.of(0, ids.getNumberOfElements() + 1, pageable.getSort()), fields);
+        if (rows.getNumberOfElements() != ids.getNumberOfElements()) {
+            return null;
+        }
+        Map<Long, SupportTicketResponse> tickets = rows.getContent().stream()
+                .collect(Collectors.toMap(SupportTicketResponse::getId, Function.identity()));
+        List<SupportTicketResponse> content = ids.getContent().stream()
+                .map(tickets::get)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, ids.getTotalElements());
     }
 
-    private Sort parseSort(String sort) {
-        if (sort == null || sort.trim().isEmpty()) {
-            return Sort.by("createdAt").descending();
-        }
-        
-        String[] parts = sort.split(",");
-        String field = parts[0].trim();
-        Sort.Direction direction = parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc") 
-                ? Sort.Direction.DESC : Sort.Direction.ASC;
-        
-        validateSortField(field);
-        return Sort.by(direction, field);
-    }
-
-    private void validateSortField(String field) {
-        switch (field) {
-            case "id":
-            case "ticketNumber":
-            case "requesterName":
-            case "status":
-            case "priority":
-            case "category":
-            case "estimatedCost":
-            case "currency":
-            case "createdAt":
-            case "dueDate":
-                break;
-            default:
-                throw new InvalidFilterException("Campo de ordenamiento inválido. Campos permitidos: id, ticketNumber, requesterName, status, priority, category, estimatedCost, currency, createdAt, dueDate");
+    private TicketFilter applySearchIndex(TicketFilter filter) {
+        String q = filter.getQ();
+        if (q == null || q.trim().isEmpty() || !ticketSearchIndex.isReady()) {
+            return filter;
         }
+        LocalDateTime indexedUntil = ticketSearchIndex.getIndexedUntil();
+        Set<Long> candidateIds = ticketSearchIndex.search(q);
+        return candidateIds != null ? filter.withSearchCandidates(candidateIds, indexedUntil) : filter;
     }
 
-    private SupportTicketResponse convertToResponse(SupportTicket ticket) {
-        return new SupportTicketResponse(
-                ticket.getId(),
-                ticket.getTicketNumber(),
-                ticket.getRequesterName(),
-                ticket.getStatus(),
-                ticket.getPriority(),
-                ticket.getCategory(),
-                ticket.getEstimatedCost(),
-                ticket.getCurrency(),
-                ticket.getCreatedAt(),
-                ticket.getDueDate()
-        );
+    private void validateCursorPageSize(int size) {
+        if (size < 1 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new InvalidFilterException("size debe estar entre 1 y " + MAX_CURSOR_PAGE_SIZE);
+        }
     }
 }
@@ -0,0 +1,98 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.exception.InvalidFilterException;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.TicketCursor;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+public final class TicketCursorCodec {
+
+    private static final String SEPARATOR = "|";
+    private static final String INVALID_CURSOR = "Cursor inválido";
+
+    private TicketCursorCodec() {
+    }
+
+    public static boolean supportsField(String field) {
+        switch (field) {
+            case "id":
+            case "ticketNumber":
+            case "requesterName":
+            case "category":
+            case "estimatedCost":
+            case "createdAt":
+            case "dueDate":
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public static String encode(Sort.Order order, SupportTicket last) {
+        String raw = order.getProperty() + SEPARATOR + order.getDirection().name() + SEPARATOR
+                + last.getId() + SEPARATOR + valueToString(order.getProperty(), last);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static TicketCursor decode(String token) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFilterException(INVALID_CURSOR);
+        }
+
+        String[] parts = raw.split("\\|", 4);
+        if (parts.length != 4 || !supportsField(parts[0])) {
+            throw new InvalidFilterException(INVALID_CURSOR);
+        }
+        try {
+            Sort.Direction direction = Sort.Direction.valueOf(parts[1]);
+            Long lastId = Long.valueOf(parts[2]);
+            return new TicketCursor(parts[0], direction, parseValue(parts[0], parts[3], lastId), lastId);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidFilterException(INVALID_CURSOR);
+        }
+    }
+
+    private static String valueToString(String field, SupportTicket ticket) {
+        switch (field) {
+            case "ticketNumber":
+                return ticket.getTicketNumber();
+            case "requesterName":
+                return ticket.getRequesterName();
+            case "category":
+                return ticket.getCategory();
+            case "estimatedCost":
+                return ticket.getEstimatedCost().toPlainString();
+            case "createdAt":
+                return ticket.getCreatedAt().toString();
+            case "dueDate":
+                return ticket.getDueDate().toString();
+            default:
+                return String.valueOf(ticket.getId());
+        }
+    }
+
+    private static Object parseValue(String field, String value, Long lastId) {
+        switch (field) {
+            case "estimatedCost":
+                return new BigDecimal(value);
+            case "createdAt":
+                return LocalDateTime.parse(value);
+            case "dueDate":
+                return LocalDate.parse(value);
+            case "id":
+                return lastId;
+            default:
+                return value;
+        }
+    }
+}
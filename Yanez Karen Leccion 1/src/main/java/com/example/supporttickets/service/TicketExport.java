@@ -0,0 +1,29 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.repository.TicketFilter;
+import org.springframework.data.domain.Sort;
+
+public final class TicketExport {
+
+    private final TicketFilter filter;
+    private final Sort sort;
+    private final TicketExportFormat format;
+
+    public TicketExport(TicketFilter filter, Sort sort, TicketExportFormat format) {
+        this.filter = filter;
+        this.sort = sort;
+        this.format = format;
+    }
+
+    public TicketFilter getFilter() {
+        return filter;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+
+    public TicketExportFormat getFormat() {
+        return format;
+    }
+}
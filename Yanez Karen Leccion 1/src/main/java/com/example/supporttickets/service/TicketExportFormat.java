@@ -0,0 +1,35 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.exception.InvalidFilterException;
+
+public enum TicketExportFormat {
+    NDJSON("application/x-ndjson", "ndjson"),
+    CSV("text/csv", "csv");
+
+    private final String contentType;
+    private final String extension;
+
+    TicketExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+
+    public static TicketExportFormat parse(String format) {
+        if (format == null || format.trim().isEmpty()) {
+            return NDJSON;
+        }
+        try {
+            return TicketExportFormat.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFilterException("Formato de exportación inválido. Valores permitidos: ndjson, csv");
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class TicketExportService {
+
+    private static final String CSV_HEADER = "id,ticketNumber,requesterName,status,priority,category,estimatedCost,currency,createdAt,dueDate";
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
+
+    private final SupportTicketService supportTicketService;
+    private final SupportTicketRepository supportTicketRepository;
+    private final ObjectWriter jsonWriter;
+    private final int fetchSize;
+    private final int flushInterval;
+
+    @Autowired
+    public TicketExportService(SupportTicketService supportTicketService,
+                               SupportTicketRepository supportTicketRepository,
+                               ObjectMapper objectMapper,
+                               @Value("${tickets.export.fetch-size:500}") int fetchSize,
+                               @Value("${tickets.export.flush-interval:1000}") int flushInterval) {
+        this.supportTicketService = supportTicketService;
+        this.supportTicketRepository = supportTicketRepository;
+        this.jsonWriter = objectMapper.writerFor(SupportTicketResponse.class);
+        this.fetchSize = fetchSize;
+        this.flushInterval = flushInterval;
+    }
+
+    public TicketExport prepareExport(String q, String status, String currency,
+                                      String minCost, String maxCost, String from, String to,
+                                      String sort, String format) {
+        TicketExportFormat exportFormat = TicketExportFormat.parse(format);
+        return new TicketExport(
+                supportTicketService.resolveFilter(q, status, currency, minCost, maxCost, from, to),
+                supportTicketService.resolveSort(sort),
+                exportFormat);
+    }
+
+    @Transactional(readOnly = true)
+    public long writeExport(TicketExport export, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        if (export.getFormat() == TicketExportFormat.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long rows = 0;
+        if (!export.getFilter().matchesNothing()) {
+            try (Stream<SupportTicket> tickets = supportTicketRepository.streamWithFilters(
+                    export.getFilter(), export.getSort(), fetchSize)) {
+                Iterator<SupportTicket> iterator = tickets.iterator();
+                while (iterator.hasNext()) {
+                    SupportTicketResponse ticket = SupportTicketMapper.toResponse(iterator.next());
+                    if (export.getFormat() == TicketExportFormat.CSV) {
+                        writeCsvRow(writer, ticket);
+                    } else {
+                        writer.write(jsonWriter.writeValueAsString(ticket));
+                        writer.write('\n');
+                    }
+                    if (++rows % flushInterval == 0) {
+                        writer.flush();
+                    }
+                }
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private void writeCsvRow(Writer writer, SupportTicketResponse ticket) throws IOException {
+        writer.write(String.valueOf(ticket.getId()));
+        writer.write(',');
+        writeCsvValue(writer, ticket.getTicketNumber());
+        writer.write(',');
+        writeCsvValue(writer, ticket.getRequesterName());
+        writer.write(',');
+        writeCsvValue(writer, ticket.getStatus() != null ? ticket.getStatus().name() : null);
+        writer.write(',');
+        writeCsvValue(writer, ticket.getPriority() != null ? ticket.getPriority().name() : null);
+        writer.write(',');
+        writeCsvValue(writer, ticket.getCategory());
+        writer.write(',');
+        writeCsvValue(writer, ticket.getEstimatedCost() != null ? ticket.getEstimatedCost().toPlainString() : null);
+        writer.write(',');
+        writeCsvValue(writer, ticket.getCurrency() != null ? ticket.getCurrency().name() : null);
+        writer.write(',');
+        writeCsvValue(writer, ticket.getCreatedAt() != null ? DATE_TIME_FORMATTER.format(ticket.getCreatedAt()) : null);
+        writer.write(',');
+        writeCsvValue(writer, ticket.getDueDate() != null ? ticket.getDueDate().toString() : null);
+        writer.write('\n');
+    }
+
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.config.ReplicaRoutingDataSource;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.repository.TicketFilter;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Component
+public class TicketListCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final AsyncCache<ListingKey, Page<SupportTicketResponse>> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    @Autowired
+    public TicketListCache(@Value("${tickets.cache.listings.enabled:true}") boolean enabled,
+                           @Value("${tickets.cache.listings.max-size:1000}") long maxSize,
+                           @Value("${tickets.cache.listings.ttl:5s}") Duration ttl) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .buildAsync();
+    }
+
+    public Page<SupportTicketResponse> get(TicketFilter filter, Pageable pageable,
+                                           Supplier<Page<SupportTicketResponse>> loader) {
+        return get(filter, pageable, null, loader);
+    }
+
+    public Page<SupportTicketResponse> get(TicketFilter filter, Pageable pageable, List<String> fields,
+                                           Supplier<Page<SupportTicketResponse>> loader) {
+        if (!enabled || ReplicaRoutingDataSource.isPinnedToPrimary()) {
+            return loader.get();
+        }
+
+        ListingKey key = new ListingKey(filter, pageable, fields, generation.get());
+        CompletableFuture<Page<SupportTicketResponse>> pending = new CompletableFuture<>();
+        CompletableFuture<Page<SupportTicketResponse>> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            return await(existing);
+        }
+
+        try {
+            Page<SupportTicketResponse> page = loader.get();
+            if (ReplicaRoutingDataSource.isReadFromReplica()) {
+                cache.asMap().remove(key, pending);
+            }
+            pending.complete(page);
+            return page;
+        } catch (RuntimeException e) {
+            cache.asMap().remove(key, pending);
+            pending.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    public long getGeneration() {
+        return generation.get();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsArchived(TicketsArchivedEvent event) {
+        generation.incrementAndGet();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "ticketListings");
+        FunctionCounter.builder("tickets.cache.listings.invalidations", generation, AtomicLong::get)
+                .description("Invalidaciones del cache de listados por cambios en tickets")
+                .register(registry);
+    }
+
+    private static Page<SupportTicketResponse> await(CompletableFuture<Page<SupportTicketResponse>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static final class ListingKey {
+
+        private final TicketFilter filter;
+        private final Pageable pageable;
+        private final List<String> fields;
+        private final long generation;
+
+        private ListingKey(TicketFilter filter, Pageable pageable, List<String> fields, long generation) {
+            this.filter = filter;
+            this.pageable = pageable;
+            this.fields = fields;
+            this.generation = generation;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof ListingKey)) {
+                return false;
+            }
+            ListingKey that = (ListingKey) o;
+            return generation == that.generation
+                    && filter.equals(that.filter)
+                    && pageable.equals(that.pageable)
+                    && Objects.equals(fields, that.fields);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(filter, pageable, fields, generation);
+        }
+    }
+}
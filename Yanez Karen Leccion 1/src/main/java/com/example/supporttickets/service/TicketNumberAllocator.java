@@ -0,0 +1,141 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.model.TicketNumberSequence;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketNumberSequenceRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+@Component
+public class TicketNumberAllocator {
+
+    private static final String PREFIX = "ST-";
+    private static final int NUMBER_DIGITS = 6;
+    private static final int MAX_RESERVE_ATTEMPTS = 3;
+
+    private final TicketNumberSequenceRepository sequenceRepository;
+    private final SupportTicketRepository supportTicketRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Clock clock;
+    private final int blockSize;
+
+    private final AtomicReference<NumberRange> currentRange = new AtomicReference<>(NumberRange.EMPTY);
+    private final ReentrantLock refillLock = new ReentrantLock();
+
+    @Autowired
+    public TicketNumberAllocator(TicketNumberSequenceRepository sequenceRepository,
+                                 SupportTicketRepository supportTicketRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tickets.number.block-size:50}") int blockSize) {
+        this(sequenceRepository, supportTicketRepository, transactionManager, blockSize, Clock.systemDefaultZone());
+    }
+
+    TicketNumberAllocator(TicketNumberSequenceRepository sequenceRepository,
+                          SupportTicketRepository supportTicketRepository,
+                          PlatformTransactionManager transactionManager,
+                          int blockSize, Clock clock) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("tickets.number.block-size debe ser mayor o igual a 1");
+        }
+        this.sequenceRepository = sequenceRepository;
+        this.supportTicketRepository = supportTicketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        this.clock = clock;
+    }
+
+    public String nextTicketNumber() {
+        int year = Year.now(clock).getValue();
+        while (true) {
+            NumberRange range = currentRange.get();
+            if (range.year == year) {
+                long value = range.next.getAndIncrement();
+                if (value < range.limit) {
+                    return format(year, value);
+                }
+            }
+            refill(range, year);
+        }
+    }
+
+    private void refill(NumberRange exhausted, int year) {
+        refillLock.lock();
+        try {
+            if (currentRange.get() != exhausted) {
+                return;
+            }
+            long first = reserveBlock(year);
+            currentRange.set(new NumberRange(year, first, first + blockSize));
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    private long reserveBlock(int year) {
+        DataAccessException lastFailure = null;
+        for (int attempt = 0; attempt < MAX_RESERVE_ATTEMPTS; attempt++) {
+            try {
+                Long first = transactionTemplate.execute(status -> {
+                    TicketNumberSequence sequence = sequenceRepository.findByYearForUpdate(year)
+                            .orElseGet(() -> new TicketNumberSequence(year, initialValue(year)));
+                    long start = sequence.getNextValue();
+                    sequence.setNextValue(start + blockSize);
+                    sequenceRepository.save(sequence);
+                    return start;
+                });
+                return first;
+            } catch (DataIntegrityViolationException | ConcurrencyFailureException e) {
+                lastFailure = e;
+            }
+        }
+        throw new IllegalStateException("No fue posible reservar números de ticket para el año " + year, lastFailure);
+    }
+
+    private long initialValue(int year) {
+        Long lastValue = supportTicketRepository.findMaxTicketSequenceWithPrefix(prefixFor(year));
+        return lastValue != null ? lastValue + 1 : 1L;
+    }
+
+    private static String prefixFor(int year) {
+        return PREFIX + year + "-";
+    }
+
+    private static String format(int year, long value) {
+        String digits = Long.toString(value);
+        StringBuilder builder = new StringBuilder(PREFIX.length() + 5 + Math.max(NUMBER_DIGITS, digits.length()));
+        builder.append(PREFIX).append(year).append('-');
+        for (int i = digits.length(); i < NUMBER_DIGITS; i++) {
+            builder.append('0');
+        }
+        return builder.append(digits).toString();
+    }
+
+    private static final class NumberRange {
+
+        private static final NumberRange EMPTY = new NumberRange(Integer.MIN_VALUE, 0, 0);
+
+        private final int year;
+        private final AtomicLong next;
+        private final long limit;
+
+        private NumberRange(int year, long first, long limit) {
+            this.year = year;
+            this.next = new AtomicLong(first);
+            this.limit = limit;
+        }
+    }
+}
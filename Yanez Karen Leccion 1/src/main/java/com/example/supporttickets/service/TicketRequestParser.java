@@ -0,0 +1,157 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.exception.InvalidFilterException;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.repository.TicketProjection;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public final class TicketRequestParser {
+
+    private static final DateTimeFormatter ISO_FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private TicketRequestParser() {
+    }
+
+    private static TicketStatus parseStatus(String status) {
+        if (status == null || status.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return TicketStatus.valueOf(status.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFilterException("Estado inválido. Valores permitidos: OPEN, IN_PROGRESS, RESOLVED, CLOSED, CANCELLED");
+        }
+    }
+
+    private static Currency parseCurrency(String currency) {
+        if (currency == null || currency.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Currency.valueOf(currency.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new InvalidFilterException("Moneda inválida. Valores permitidos: USD, EUR");
+        }
+    }
+
+    private static BigDecimal parseBigDecimal(String value, String fieldName) {
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            BigDecimal decimal = new BigDecimal(value);
+            if (decimal.compareTo(BigDecimal.ZERO) < 0) {
+                throw new InvalidFilterException(fieldName + " debe ser mayor o igual a 0");
+            }
+            return decimal;
+        } catch (NumberFormatException e) {
+            throw new InvalidFilterException(fieldName + " debe ser un número válido");
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String dateTime, String fieldName) {
+        if (dateTime == null || dateTime.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(dateTime, ISO_FORMATTER);
+        } catch (DateTimeParseException e) {
+            throw new InvalidFilterException(fieldName + " debe tener formato ISO-8601: yyyy-MM-dd'T'HH:mm:ss");
+        }
+    }
+
+    public static TicketFilter buildFilter(String q, String status, String currency,
+                                            String minCost, String maxCost, String from, String to) {
+        TicketStatus statusEnum = parseStatus(status);
+        Currency currencyEnum = parseCurrency(currency);
+        BigDecimal minCostDecimal = parseBigDecimal(minCost, "minCost");
+        BigDecimal maxCostDecimal = parseBigDecimal(maxCost, "maxCost");
+        LocalDateTime fromDateTime = parseDateTime(from, "from");
+        LocalDateTime toDateTime = parseDateTime(to, "to");
+
+        validateDateRange(fromDateTime, toDateTime);
+        validateCostRange(minCostDecimal, maxCostDecimal);
+
+        return new TicketFilter(q, statusEnum, currencyEnum, minCostDecimal, maxCostDecimal, fromDateTime, toDateTime);
+    }
+
+    private static void validateDateRange(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null && from.isAfter(to)) {
+            throw new InvalidFilterException("La fecha 'from' debe ser anterior o igual a la fecha 'to'");
+        }
+    }
+
+    private static void validateCostRange(BigDecimal minCost, BigDecimal maxCost) {
+        if (minCost != null && maxCost != null && minCost.compareTo(maxCost) > 0) {
+            throw new InvalidFilterException("minCost debe ser menor o igual a maxCost");
+        }
+    }
+
+    public static Sort parseSort(String sort) {
+        if (sort == null || sort.trim().isEmpty()) {
+            return Sort.by("createdAt").descending();
+        }
+        
+        String[] parts = sort.split(",");
+        String field = parts[0].trim();
+        Sort.Direction direction = parts.length > 1 && parts[1].trim().equalsIgnoreCase("desc") 
+                ? Sort.Direction.DESC : Sort.Direction.ASC;
+        
+        validateSortField(field);
+        return Sort.by(direction, field);
+    }
+
+    private static void validateSortField(String field) {
+        switch (field) {
+            case "id":
+            case "ticketNumber":
+            case "requesterName":
+            case "status":
+            case "priority":
+            case "category":
+            case "estimatedCost":
+            case "currency":
+            case "createdAt":
+            case "dueDate":
+                break;
+            default:
+                throw new InvalidFilterException("Campo de ordenamiento inválido. Campos permitidos: id, ticketNumber, requesterName, status, priority, category, estimatedCost, currency, createdAt, dueDate");
+        }
+    }
+
+    public static List<String> parseFields(String fields) {
+        if (fields == null || fields.trim().isEmpty()) {
+            return TicketProjection.FIELDS;
+        }
+
+        Set<String> requested = new HashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (!TicketProjection.FIELDS.contains(name)) {
+                throw new InvalidFilterException("Campo inválido en fields. Campos permitidos: "
+                        + String.join(", ", TicketProjection.FIELDS));
+            }
+            requested.add(name);
+        }
+        requested.add("id");
+
+        List<String> selected = new ArrayList<>();
+        for (String field : TicketProjection.FIELDS) {
+            if (requested.contains(field)) {
+                selected.add(field);
+            }
+        }
+        return selected;
+    }
+}
@@ -0,0 +1,250 @@
+package com.example.supporttickets.stats;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.dto.TicketStatsResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketAggregate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+@Component
+public class TicketStatsStore {
+
+    private static final Logger log = LoggerFactory.getLogger(TicketStatsStore.class);
+
+    private static final int COST_SCALE = 2;
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final SupportTicketRepository supportTicketRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ReentrantReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final ReentrantLock reconcileLock = new ReentrantLock();
+    private volatile Counters counters = new Counters();
+    private volatile Counters pendingDelta;
+    private volatile LocalDateTime reconciledAt;
+    private final AtomicLong changeSequence = new AtomicLong();
+
+    @Autowired
+    public TicketStatsStore(SupportTicketRepository supportTicketRepository,
+                            PlatformTransactionManager transactionManager) {
+        this.supportTicketRepository = supportTicketRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    public TicketStatsResponse getStatistics() {
+        if (reconciledAt == null) {
+            reconcile();
+        }
+        return counters.toResponse(reconciledAt);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reconcile();
+    }
+
+    @Scheduled(fixedDelayString = "${tickets.stats.reconcile-interval:5m}",
+            initialDelayString = "${tickets.stats.reconcile-interval:5m}")
+    public void reconcile() {
+        reconcileLock.lock();
+        try {
+            for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+                long sequence;
+                swapLock.writeLock().lock();
+                try {
+                    pendingDelta = new Counters();
+                    sequence = changeSequence.get();
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+
+                Counters fresh;
+                try {
+                    fresh = snapshot();
+                } catch (RuntimeException e) {
+                    pendingDelta = null;
+                    throw e;
+                }
+
+                swapLock.writeLock().lock();
+                try {
+                    boolean quiet = changeSequence.get() == sequence;
+                    if (quiet || (reconciledAt == null && attempt == MAX_RECONCILE_ATTEMPTS)) {
+                        if (!quiet) {
+                            fresh.merge(pendingDelta);
+                        }
+                        long drift = fresh.total.sum() - counters.total.sum();
+                        if (reconciledAt != null && drift != 0) {
+                            log.warn("Estadísticas de tickets desfasadas en {} tickets; se corrigieron con la base de datos", drift);
+                        }
+                        counters = fresh;
+                        reconciledAt = LocalDateTime.now();
+                        return;
+                    }
+                } finally {
+                    pendingDelta = null;
+                    swapLock.writeLock().unlock();
+                }
+            }
+            log.debug("Se omitió la conciliación de estadísticas: hubo cambios de tickets durante cada consulta");
+        } finally {
+            reconcileLock.unlock();
+        }
+    }
+
+    private Counters snapshot() {
+        return transactionTemplate.execute(status -> {
+            Counters fresh = new Counters();
+            for (TicketAggregate aggregate : supportTicketRepository.aggregateStatistics()) {
+                fresh.add(aggregate.getStatus(), aggregate.getPriority(), aggregate.getCategory(),
+                        aggregate.getCurrency(), aggregate.getTicketCount(), toCents(aggregate.getEstimatedCostSum()));
+            }
+            return fresh;
+        });
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketChanged(TicketChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            apply(counters, event);
+            Counters delta = pendingDelta;
+            if (delta != null) {
+                apply(delta, event);
+            }
+            changeSequence.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTicketsArchived(TicketsArchivedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            subtract(counters, event.getRemoved());
+            Counters delta = pendingDelta;
+            if (delta != null) {
+                subtract(delta, event.getRemoved());
+            }
+            changeSequence.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private static void apply(Counters target, TicketChangedEvent event) {
+        if (event.getPrevious() != null) {
+            target.add(event.getPrevious(), -1);
+        }
+        if (event.getCurrent() != null) {
+            target.add(event.getCurrent(), 1);
+        }
+    }
+
+    private static void subtract(Counters target, List<TicketAggregate> removed) {
+        for (TicketAggregate aggregate : removed) {
+            target.add(aggregate.getStatus(), aggregate.getPriority(), aggregate.getCategory(),
+                    aggregate.getCurrency(), -aggregate.getTicketCount(), -toCents(aggregate.getEstimatedCostSum()));
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0L;
+        }
+        return amount.setScale(COST_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private static final class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final Map<TicketStatus, LongAdder> byStatus = enumCounters(TicketStatus.class);
+        private final Map<TicketPriority, LongAdder> byPriority = enumCounters(TicketPriority.class);
+        private final Map<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+        private final Map<Currency, LongAdder> costCentsByCurrency = enumCounters(Currency.class);
+
+        private void add(SupportTicketResponse ticket, int sign) {
+            add(ticket.getStatus(), ticket.getPriority(), ticket.getCategory(), ticket.getCurrency(),
+                    sign, sign * toCents(ticket.getEstimatedCost()));
+        }
+
+        private void add(TicketStatus status, TicketPriority priority, String category, Currency currency,
+                         long count, long costCents) {
+            total.add(count);
+            if (status != null) {
+                byStatus.get(status).add(count);
+            }
+            if (priority != null) {
+                byPriority.get(priority).add(count);
+            }
+            if (category != null) {
+                byCategory.computeIfAbsent(category, key -> new LongAdder()).add(count);
+            }
+            if (currency != null) {
+                costCentsByCurrency.get(currency).add(costCents);
+            }
+        }
+
+        private void merge(Counters other) {
+            total.add(other.total.sum());
+            other.byStatus.forEach((status, adder) -> byStatus.get(status).add(adder.sum()));
+            other.byPriority.forEach((priority, adder) -> byPriority.get(priority).add(adder.sum()));
+            other.byCategory.forEach((category, adder) ->
+                    byCategory.computeIfAbsent(category, key -> new LongAdder()).add(adder.sum()));
+            other.costCentsByCurrency.forEach((currency, adder) -> costCentsByCurrency.get(currency).add(adder.sum()));
+        }
+
+        private TicketStatsResponse toResponse(LocalDateTime reconciledAt) {
+            Map<TicketStatus, Long> statuses = new EnumMap<>(TicketStatus.class);
+            byStatus.forEach((status, adder) -> statuses.put(status, adder.sum()));
+            Map<TicketPriority, Long> priorities = new EnumMap<>(TicketPriority.class);
+            byPriority.forEach((priority, adder) -> priorities.put(priority, adder.sum()));
+            Map<String, Long> categories = new TreeMap<>();
+            byCategory.forEach((category, adder) -> {
+                long count = adder.sum();
+                if (count != 0) {
+                    categories.put(category, count);
+                }
+            });
+            Map<Currency, BigDecimal> costs = new EnumMap<>(Currency.class);
+            costCentsByCurrency.forEach((currency, adder) -> costs.put(currency, BigDecimal.valueOf(adder.sum(), COST_SCALE)));
+            return new TicketStatsResponse(total.sum(), statuses, priorities, categories, costs, reconciledAt);
+        }
+
+        private static <E extends Enum<E>> Map<E, LongAdder> enumCounters(Class<E> type) {
+            Map<E, LongAdder> counters = new EnumMap<>(type);
+            for (E value : type.getEnumConstants()) {
+                counters.put(value, new LongAdder());
+            }
+            return counters;
+        }
+    }
+}
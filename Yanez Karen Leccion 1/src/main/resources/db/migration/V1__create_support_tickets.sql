@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS support_tickets (
+    id BIGINT NOT NULL AUTO_INCREMENT,
+    ticket_number VARCHAR(50) NOT NULL,
+    requester_name VARCHAR(200) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    estimated_cost DECIMAL(10, 2),
+    currency VARCHAR(3) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    due_date DATE NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_support_tickets_ticket_number UNIQUE (ticket_number)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ticket_number_sequences (
+    sequence_year INT NOT NULL,
+    next_value BIGINT NOT NULL,
+    PRIMARY KEY (sequence_year)
+) ENGINE = InnoDB;
@@ -0,0 +1,7 @@
+CREATE INDEX idx_tickets_created_at ON support_tickets (created_at, id);
+CREATE INDEX idx_tickets_status_created_at ON support_tickets (status, created_at, id);
+CREATE INDEX idx_tickets_currency_created_at ON support_tickets (currency, created_at, id);
+CREATE INDEX idx_tickets_status_currency_created_at ON support_tickets (status, currency, created_at, id);
+CREATE INDEX idx_tickets_currency_cost ON support_tickets (currency, estimated_cost);
+CREATE INDEX idx_tickets_cost ON support_tickets (estimated_cost, id);
+CREATE INDEX idx_tickets_due_date ON support_tickets (due_date, id);
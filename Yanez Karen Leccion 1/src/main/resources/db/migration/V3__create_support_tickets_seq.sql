@@ -0,0 +1,6 @@
+CREATE TABLE IF NOT EXISTS support_tickets_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO support_tickets_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 1 FROM support_tickets;
@@ -0,0 +1,2 @@
+ALTER TABLE support_tickets
+    ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,26 @@
+CREATE TABLE IF NOT EXISTS ticket_outbox (
+    id BIGINT NOT NULL,
+    ticket_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    payload TEXT NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    position BIGINT NULL,
+    published_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_ticket_outbox_position UNIQUE (position),
+    INDEX idx_ticket_outbox_published_at (published_at, id)
+) ENGINE = InnoDB;
+
+CREATE TABLE IF NOT EXISTS ticket_outbox_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO ticket_outbox_seq (next_val) VALUES (1);
+
+CREATE TABLE IF NOT EXISTS ticket_outbox_position (
+    id INT NOT NULL,
+    last_position BIGINT NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+INSERT INTO ticket_outbox_position (id, last_position) VALUES (1, 0);
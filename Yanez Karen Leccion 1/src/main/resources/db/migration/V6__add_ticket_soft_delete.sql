@@ -0,0 +1,16 @@
+ALTER TABLE support_tickets
+    ADD COLUMN deleted_at DATETIME(6) NULL,
+    DROP INDEX idx_tickets_created_at,
+    ADD INDEX idx_tickets_created_at (created_at, id, deleted_at),
+    DROP INDEX idx_tickets_status_created_at,
+    ADD INDEX idx_tickets_status_created_at (status, created_at, id, deleted_at),
+    DROP INDEX idx_tickets_currency_created_at,
+    ADD INDEX idx_tickets_currency_created_at (currency, created_at, id, deleted_at),
+    DROP INDEX idx_tickets_status_currency_created_at,
+    ADD INDEX idx_tickets_status_currency_created_at (status, currency, created_at, id, deleted_at),
+    DROP INDEX idx_tickets_currency_cost,
+    ADD INDEX idx_tickets_currency_cost (currency, estimated_cost, deleted_at),
+    DROP INDEX idx_tickets_cost,
+    ADD INDEX idx_tickets_cost (estimated_cost, id, deleted_at),
+    DROP INDEX idx_tickets_due_date,
+    ADD INDEX idx_tickets_due_date (due_date, id, deleted_at);
@@ -0,0 +1,20 @@
+CREATE TABLE IF NOT EXISTS support_tickets_archive (
+    id BIGINT NOT NULL,
+    ticket_number VARCHAR(50) NOT NULL,
+    requester_name VARCHAR(200) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    priority VARCHAR(20) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    estimated_cost DECIMAL(10, 2),
+    currency VARCHAR(3) NOT NULL,
+    created_at DATETIME(6) NOT NULL,
+    due_date DATE NOT NULL,
+    version BIGINT NOT NULL,
+    archived_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_support_tickets_archive_ticket_number UNIQUE (ticket_number)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_tickets_archive_created_at ON support_tickets_archive (created_at, id);
+CREATE INDEX idx_tickets_archive_status_created_at ON support_tickets_archive (status, created_at, id);
+CREATE INDEX idx_tickets_archive_currency_created_at ON support_tickets_archive (currency, created_at, id);
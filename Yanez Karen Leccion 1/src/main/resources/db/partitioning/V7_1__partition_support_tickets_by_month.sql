@@ -0,0 +1,24 @@
+SET SESSION group_concat_max_len = 1048576;
+SET SESSION cte_max_recursion_depth = 10000;
+
+WITH RECURSIVE months (month_start) AS (
+    SELECT CAST(DATE_FORMAT(COALESCE(MIN(created_at), NOW()), '%Y-%m-01') AS DATE) FROM support_tickets
+    UNION ALL
+    SELECT month_start + INTERVAL 1 MONTH FROM months
+    WHERE month_start < CAST(DATE_FORMAT(NOW(), '%Y-%m-01') AS DATE) + INTERVAL 3 MONTH
+)
+SELECT GROUP_CONCAT(CONCAT('PARTITION p', DATE_FORMAT(month_start, '%Y%m'),
+                           ' VALUES LESS THAN (''', month_start + INTERVAL 1 MONTH, ''')')
+                    ORDER BY month_start SEPARATOR ', ')
+INTO @ticket_partitions
+FROM months;
+
+SET @ticket_partition_ddl = CONCAT(
+    'ALTER TABLE support_tickets ',
+    'DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at), ',
+    'DROP INDEX uk_support_tickets_ticket_number, ADD INDEX idx_tickets_ticket_number (ticket_number) ',
+    'PARTITION BY RANGE COLUMNS (created_at) (', @ticket_partitions, ', PARTITION p_max VALUES LESS THAN (MAXVALUE))');
+
+PREPARE ticket_partition_stmt FROM @ticket_partition_ddl;
+EXECUTE ticket_partition_stmt;
+DEALLOCATE PREPARE ticket_partition_stmt;
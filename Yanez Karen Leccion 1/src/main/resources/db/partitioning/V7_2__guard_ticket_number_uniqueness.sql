@@ -0,0 +1,21 @@
+CREATE TABLE IF NOT EXISTS support_ticket_numbers (
+    ticket_number VARCHAR(50) NOT NULL,
+    PRIMARY KEY (ticket_number)
+) ENGINE = InnoDB;
+
+INSERT IGNORE INTO support_ticket_numbers (ticket_number)
+SELECT ticket_number FROM support_tickets;
+
+INSERT IGNORE INTO support_ticket_numbers (ticket_number)
+SELECT ticket_number FROM support_tickets_archive;
+
+CREATE TRIGGER trg_support_tickets_ticket_number_insert
+    BEFORE INSERT ON support_tickets
+    FOR EACH ROW
+    INSERT INTO support_ticket_numbers (ticket_number) VALUES (NEW.ticket_number);
+
+CREATE TRIGGER trg_support_tickets_ticket_number_update
+    BEFORE UPDATE ON support_tickets
+    FOR EACH ROW
+    INSERT INTO support_ticket_numbers (ticket_number)
+    SELECT NEW.ticket_number FROM DUAL WHERE NEW.ticket_number <> OLD.ticket_number;
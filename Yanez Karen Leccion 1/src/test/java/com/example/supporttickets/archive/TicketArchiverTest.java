@@ -0,0 +1,100 @@
+package com.example.supporttickets.archive;
+
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.TicketArchiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketArchiverTest {
+
+    @Mock
+    private TicketArchiveRepository archiveRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ConcurrentMapCache ticketCache = new ConcurrentMapCache("tickets");
+    private TicketArchiver archiver;
+
+    @BeforeEach
+    void setUp() {
+        archiver = new TicketArchiver(archiveRepository, transactionManager, eventPublisher, cacheManager, jdbcTemplate,
+                meterRegistry, true, Duration.ofDays(365), 2, Duration.ZERO, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void archive_ShouldMoveChunksUntilNoArchivableTicketsRemain() {
+        when(cacheManager.getCache("tickets")).thenReturn(ticketCache);
+        ticketCache.put(1L, "cached");
+        when(archiveRepository.lockArchivableIds(eq("CLOSED"), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L))
+                .thenReturn(List.of(3L));
+        when(archiveRepository.lockArchivableIds(eq("CANCELLED"), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of());
+
+        archiver.archive();
+
+        verify(archiveRepository).copyToArchive(eq(List.of(1L, 2L)), any(LocalDateTime.class), any(LocalDateTime.class));
+        verify(archiveRepository).deleteLiveTickets(eq(List.of(1L, 2L)), any(LocalDateTime.class));
+        verify(archiveRepository).deleteLiveTickets(eq(List.of(3L)), any(LocalDateTime.class));
+        verify(archiveRepository, times(2)).lockArchivableIds(eq("CLOSED"), any(LocalDateTime.class), eq(2));
+        assertNull(ticketCache.get(1L));
+        assertEquals(3.0, meterRegistry.get("tickets.archive.rows").counter().count());
+        assertEquals(3.0, meterRegistry.get("tickets.archive.run.rows").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("tickets.archive.chunk.lock.time").timer().count());
+
+        ArgumentCaptor<TicketsArchivedEvent> events = ArgumentCaptor.forClass(TicketsArchivedEvent.class);
+        verify(eventPublisher, times(2)).publishEvent(events.capture());
+        assertEquals(List.of(3L), events.getAllValues().get(1).getTicketIds());
+    }
+
+    @Test
+    void archive_WhenDisabled_ShouldNotTouchDatabase() {
+        TicketArchiver disabled = new TicketArchiver(archiveRepository, transactionManager, eventPublisher, cacheManager,
+                jdbcTemplate, meterRegistry, false, Duration.ofDays(365), 2, Duration.ZERO, Duration.ofMinutes(1));
+
+        disabled.archive();
+
+        verifyNoInteractions(archiveRepository, jdbcTemplate);
+    }
+
+    @Test
+    void archiveChunk_WithNothingToArchive_ShouldNotWrite() {
+        when(archiveRepository.lockArchivableIds(eq("CANCELLED"), any(LocalDateTime.class), eq(2))).thenReturn(List.of());
+
+        assertEquals(0, archiver.archiveChunk(TicketStatus.CANCELLED, LocalDateTime.now()));
+
+        verify(archiveRepository, never()).copyToArchive(anyCollection(), any(), any());
+        verifyNoInteractions(eventPublisher);
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.supporttickets.archive;
+
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.repository.TicketArchiveRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketPartitionMaintainerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TicketArchiveRepository archiveRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void maintain_ShouldSplitCatchAllPartitionIntoMissingMonths() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class)))
+                .thenReturn(List.of("p202609", "p202610", "p202611", "p_max"));
+
+        maintainer(0).maintain();
+
+        verify(jdbcTemplate).execute("ALTER TABLE support_tickets REORGANIZE PARTITION p_max INTO ("
+                + "PARTITION p202612 VALUES LESS THAN ('2027-01-01'), "
+                + "PARTITION p202701 VALUES LESS THAN ('2027-02-01'), "
+                + "PARTITION p_max VALUES LESS THAN (MAXVALUE))");
+        assertEquals(2.0, meterRegistry.get("tickets.partitions.added").counter().count());
+        verifyNoInteractions(archiveRepository, eventPublisher);
+    }
+
+    @Test
+    void maintain_WithRetention_ShouldDropExpiredPartitionsOneAtATimeAndPublishRemovedTickets() {
+        ConcurrentMapCache ticketCache = new ConcurrentMapCache("tickets");
+        ticketCache.put(7L, "cached");
+        when(cacheManager.getCache("tickets")).thenReturn(ticketCache);
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "p202606", "p202607", "p202608", "p202609", "p202610", "p202611", "p202612", "p202701", "p_max"));
+        String juneIds = "SELECT id FROM support_tickets PARTITION (p202606) WHERE id > ? ORDER BY id LIMIT ?";
+        String julyIds = "SELECT id FROM support_tickets PARTITION (p202607) WHERE id > ? ORDER BY id LIMIT ?";
+        when(jdbcTemplate.queryForList(juneIds, Long.class, 0L, 2)).thenReturn(List.of(7L, 8L));
+        when(jdbcTemplate.queryForList(juneIds, Long.class, 8L, 2)).thenReturn(List.of(10L));
+        when(jdbcTemplate.queryForList(julyIds, Long.class, 0L, 2)).thenReturn(List.of(9L));
+        when(archiveRepository.aggregateTicketsCreatedBefore(any(LocalDateTime.class))).thenReturn(List.of());
+
+        maintainer(2).maintain();
+
+        InOrder inOrder = inOrder(jdbcTemplate, archiveRepository, eventPublisher);
+        inOrder.verify(jdbcTemplate).queryForList(juneIds, Long.class, 8L, 2);
+        inOrder.verify(archiveRepository).aggregateTicketsCreatedBefore(LocalDateTime.of(2026, 7, 1, 0, 0));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE support_tickets DROP PARTITION p202606");
+        inOrder.verify(eventPublisher).publishEvent(argThat((TicketsArchivedEvent event) ->
+                event.getTicketIds().equals(List.of(7L, 8L, 10L))));
+        inOrder.verify(jdbcTemplate).queryForList(julyIds, Long.class, 0L, 2);
+        inOrder.verify(archiveRepository).aggregateTicketsCreatedBefore(LocalDateTime.of(2026, 8, 1, 0, 0));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE support_tickets DROP PARTITION p202607");
+        inOrder.verify(eventPublisher).publishEvent(argThat((TicketsArchivedEvent event) ->
+                event.getTicketIds().equals(List.of(9L))));
+        verify(jdbcTemplate, never()).execute(startsWith("ALTER TABLE support_tickets REORGANIZE"));
+        verify(jdbcTemplate, never()).queryForList(julyIds, Long.class, 9L, 2);
+        assertNull(ticketCache.get(7L));
+        assertEquals(2.0, meterRegistry.get("tickets.partitions.dropped").counter().count());
+    }
+
+    @Test
+    void maintain_WhenDropFails_ShouldKeepLaterPartitions() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of(
+                "p202606", "p202607", "p202608", "p202609", "p202610", "p202611", "p202612", "p202701", "p_max"));
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyLong(), anyInt())).thenReturn(List.of(7L));
+        doThrow(new DataAccessResourceFailureException("lock wait timeout"))
+                .when(jdbcTemplate).execute("ALTER TABLE support_tickets DROP PARTITION p202606");
+
+        maintainer(2).maintain();
+
+        verify(jdbcTemplate, never()).execute("ALTER TABLE support_tickets DROP PARTITION p202607");
+        verifyNoInteractions(eventPublisher);
+        assertEquals(0.0, meterRegistry.get("tickets.partitions.dropped").counter().count());
+    }
+
+    @Test
+    void maintain_WhenTableIsNotPartitioned_ShouldNotAlterIt() {
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class))).thenReturn(List.of());
+
+        maintainer(3).maintain();
+
+        verify(jdbcTemplate, never()).execute(anyString());
+        verifyNoInteractions(archiveRepository, eventPublisher);
+    }
+
+    private TicketPartitionMaintainer maintainer(int retentionMonths) {
+        return new TicketPartitionMaintainer(jdbcTemplate, archiveRepository, eventPublisher, cacheManager,
+                meterRegistry, true, 3, retentionMonths, 2, CLOCK);
+    }
+}
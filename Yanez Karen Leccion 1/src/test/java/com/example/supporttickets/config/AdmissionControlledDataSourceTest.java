@@ -0,0 +1,105 @@
+package com.example.supporttickets.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionControlledDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Test
+    void getConnection_WhenAllPermitsTaken_ShouldTimeOut() throws Exception {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+        Connection first = dataSource.getConnection();
+
+        ExecutionException timeout = assertThrows(ExecutionException.class,
+                () -> CompletableFuture.supplyAsync(() -> {
+                    try {
+                        return dataSource.getConnection();
+                    } catch (SQLException e) {
+                        throw new IllegalStateException(e);
+                    }
+                }).get());
+        assertInstanceOf(SQLTransientConnectionException.class, timeout.getCause().getCause());
+        assertEquals(0, dataSource.getAvailablePermits());
+
+        first.close();
+        first.close();
+
+        assertEquals(1, dataSource.getAvailablePermits());
+        assertTrue(first.isClosed());
+        verify(connection, times(1)).close();
+        verify(connection, never()).isClosed();
+    }
+
+    @Test
+    void getConnection_WhenThreadAlreadyHoldsPermit_ShouldNotWaitForAnother() throws Exception {
+        Connection nested = mock(Connection.class);
+        when(targetDataSource.getConnection()).thenReturn(connection, nested);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+        Connection outer = dataSource.getConnection();
+        Connection inner = dataSource.getConnection();
+
+        assertEquals(0, dataSource.getAvailablePermits());
+        inner.close();
+        assertEquals(0, dataSource.getAvailablePermits());
+        outer.close();
+        assertEquals(1, dataSource.getAvailablePermits());
+        verify(nested).close();
+    }
+
+    @Test
+    void close_ShouldCloseTargetPool() throws Exception {
+        HikariDataSource pool = mock(HikariDataSource.class);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(pool, 1, Duration.ofMillis(50));
+
+        dataSource.close();
+
+        verify(pool).close();
+    }
+
+    @Test
+    void getConnection_WhenTargetFails_ShouldReleasePermit() throws Exception {
+        when(targetDataSource.getConnection()).thenThrow(new SQLException("pool agotado"));
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(targetDataSource, 2, Duration.ofMillis(50));
+
+        assertThrows(SQLException.class, dataSource::getConnection);
+
+        assertEquals(2, dataSource.getAvailablePermits());
+    }
+
+    @Test
+    void getConnection_ShouldDelegateCallsToTargetConnection() throws Exception {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.getAutoCommit()).thenReturn(true);
+        AdmissionControlledDataSource dataSource = new AdmissionControlledDataSource(targetDataSource, 1, Duration.ofMillis(50));
+
+        try (Connection admitted = dataSource.getConnection()) {
+            assertTrue(admitted.getAutoCommit());
+        }
+
+        assertEquals(1, dataSource.getAvailablePermits());
+    }
+}
@@ -0,0 +1,43 @@
+package com.example.supporttickets.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.mock.env.MockEnvironment;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionAdmissionConfigTest {
+
+    private final BeanPostProcessor postProcessor = ConnectionAdmissionConfig.connectionAdmissionPostProcessor(
+            new MockEnvironment().withProperty("tickets.admission.max-concurrent", "4"));
+
+    @Test
+    void postProcessor_ShouldWrapPrimaryPool() {
+        HikariDataSource pool = new HikariDataSource();
+
+        Object wrapped = postProcessor.postProcessAfterInitialization(new QueryInspectingDataSource(pool), "dataSource");
+
+        AdmissionControlledDataSource admission = DataSourceUnwrapper.unwrap((DataSource) wrapped, AdmissionControlledDataSource.class);
+        assertNotNull(admission);
+        assertEquals(4, admission.getMaxConcurrent());
+        assertSame(wrapped, postProcessor.postProcessAfterInitialization(wrapped, "dataSource"));
+    }
+
+    @Test
+    void postProcessor_ShouldNotWrapReplicaRouting() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, Map.of("replica-1", mock(DataSource.class)),
+                Duration.ZERO, Duration.ofSeconds(1), Duration.ofSeconds(30));
+
+        assertSame(routing, postProcessor.postProcessAfterInitialization(routing, "dataSource"));
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.supporttickets.config;
+
+import com.example.supporttickets.controller.SupportTicketController;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.service.SupportTicketService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = SupportTicketController.class, properties = "tickets.query-budget.fail-on-exceed=true")
+class QueryBudgetResponseAdviceTest {
+
+    private static final SimpleMeterRegistry METER_REGISTRY = new SimpleMeterRegistry();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private SupportTicketService supportTicketService;
+
+    @Test
+    void getTicketById_WhenQueryBudgetExceeded_ShouldFailBeforeWritingBody() throws Exception {
+        when(supportTicketService.findTicketById(7L)).thenAnswer(invocation -> {
+            for (int i = 0; i < 3; i++) {
+                RequestQueryStats.current().recordStatement(1);
+            }
+            return createResponse();
+        });
+
+        mockMvc.perform(get("/api/v1/support-tickets/7"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.message", containsString("getTicketById ejecutó 3 sentencias SQL")))
+                .andExpect(jsonPath("$.ticketNumber").doesNotExist());
+
+        assertEquals(1.0, METER_REGISTRY.get("tickets.request.query.budget.exceeded")
+                .tag("uri", "/api/v1/support-tickets/{id}").counter().count());
+    }
+
+    @Test
+    void getTicketById_WhenWithinQueryBudget_ShouldReturnTicket() throws Exception {
+        when(supportTicketService.findTicketById(7L)).thenAnswer(invocation -> {
+            RequestQueryStats.current().recordStatement(1);
+            return createResponse();
+        });
+
+        mockMvc.perform(get("/api/v1/support-tickets/7"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.ticketNumber").value("ST-2026-000007"));
+    }
+
+    private SupportTicketResponse createResponse() {
+        return new SupportTicketResponse(7L, "ST-2026-000007", "Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDateTime.now(), LocalDate.of(2026, 12, 31));
+    }
+
+    @TestConfiguration
+    static class QueryStatsConfig {
+
+        @Bean
+        RequestQueryMetricsFilter requestQueryMetricsFilter() {
+            return new RequestQueryMetricsFilter(METER_REGISTRY, false);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.supporttickets.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class QueryInspectingDataSourceTest {
+
+    @Mock
+    private DataSource targetDataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @AfterEach
+    void tearDown() {
+        RequestQueryStats.stop();
+    }
+
+    @Test
+    void getConnection_InsideRequest_ShouldCountStatementsAndRows() throws Exception {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(statement.executeUpdate()).thenReturn(1);
+        when(resultSet.next()).thenReturn(true, true, false);
+        QueryInspectingDataSource dataSource = new QueryInspectingDataSource(targetDataSource);
+        RequestQueryStats stats = RequestQueryStats.start();
+
+        try (Connection inspected = dataSource.getConnection()) {
+            PreparedStatement select = inspected.prepareStatement("select * from support_tickets where status=?");
+            try (ResultSet rows = select.executeQuery()) {
+                while (rows.next()) {
+                    assertNotSame(resultSet, rows);
+                }
+            }
+            inspected.prepareStatement("delete from support_tickets where id=?").executeUpdate();
+        }
+
+        assertEquals(2, stats.getQueries());
+        assertEquals(3, stats.getRows());
+        assertTrue(stats.getNanos() >= 0);
+        verify(connection).close();
+    }
+
+    @Test
+    void getConnection_OutsideRequest_ShouldReturnTargetConnection() throws Exception {
+        when(targetDataSource.getConnection()).thenReturn(connection);
+        QueryInspectingDataSource dataSource = new QueryInspectingDataSource(targetDataSource);
+
+        assertSame(connection, dataSource.getConnection());
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.supporttickets.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+
+    @Mock
+    private DataSource replica;
+
+    @Mock
+    private Connection primaryConnection;
+
+    @Mock
+    private Connection replicaConnection;
+
+    private ReplicaRoutingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        dataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", replica),
+                Duration.ZERO, Duration.ofSeconds(1), Duration.ZERO);
+        clearInvocations(primary);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        ReplicaRoutingDataSource.releasePin();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        beginTransaction(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(replica).getConnection();
+        verify(primary, never()).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_AfterWriteInSameRequest_ShouldStickToPrimary() throws Exception {
+        Runnable onPrimaryWrite = mock(Runnable.class);
+        ReplicaRoutingDataSource.bindRequest(false, onPrimaryWrite);
+        beginTransaction(false);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        beginTransaction(true);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        assertTrue(ReplicaRoutingDataSource.isPinnedToPrimary());
+        verify(primary, times(2)).getConnection();
+        verify(replica, never()).getConnection();
+        verify(onPrimaryWrite).run();
+    }
+
+    @Test
+    void writeTransaction_OutsideRequest_ShouldReleasePinWhenTransactionCompletes() throws Exception {
+        TransactionSynchronizationManager.initSynchronization();
+        beginTransaction(false);
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        assertTrue(ReplicaRoutingDataSource.isPinnedToPrimary());
+
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+
+        assertFalse(ReplicaRoutingDataSource.isPinnedToPrimary());
+    }
+
+    @Test
+    void readOnlyTransaction_FromReplica_ShouldBeFlaggedUntilRelease() throws Exception {
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        beginTransaction(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        assertTrue(ReplicaRoutingDataSource.isReadFromReplica());
+        ReplicaRoutingDataSource.releasePin();
+        assertFalse(ReplicaRoutingDataSource.isReadFromReplica());
+    }
+
+    @Test
+    void readOnlyTransaction_WhenReplicaFails_ShouldFallBackToPrimaryUntilHealthCheckPasses() throws Exception {
+        when(replica.getConnection()).thenThrow(new SQLException("réplica caída"));
+        beginTransaction(true);
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.createStatement();
+        }
+
+        verify(primary).getConnection();
+        assertEquals(0, dataSource.getHealthyReplicaCount());
+
+        reset(replica);
+        when(replica.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(1)).thenReturn(true);
+        dataSource.checkReplicas();
+
+        assertEquals(1, dataSource.getHealthyReplicaCount());
+    }
+
+    private static void beginTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
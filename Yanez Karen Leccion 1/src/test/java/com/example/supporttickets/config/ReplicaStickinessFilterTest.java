@@ -0,0 +1,80 @@
+package com.example.supporttickets.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ReplicaStickinessFilterTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-17T10:00:00Z"), ZoneOffset.UTC);
+
+    private final ReplicaStickinessFilter filter = new ReplicaStickinessFilter(Duration.ofSeconds(30), CLOCK);
+
+    @Test
+    void doFilter_WithUnexpiredCookie_ShouldPinRequestToPrimary() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/support-tickets/7");
+        request.setCookies(new Cookie(ReplicaStickinessFilter.PRIMARY_UNTIL_COOKIE,
+                Long.toString(CLOCK.millis() + 1000)));
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned.set(ReplicaRoutingDataSource.isPinnedToPrimary()));
+
+        assertTrue(pinned.get());
+        assertFalse(ReplicaRoutingDataSource.isPinnedToPrimary());
+    }
+
+    @Test
+    void doFilter_WithExpiredCookie_ShouldReadFromReplicas() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/support-tickets/7");
+        request.setCookies(new Cookie(ReplicaStickinessFilter.PRIMARY_UNTIL_COOKIE, Long.toString(CLOCK.millis())));
+        AtomicBoolean pinned = new AtomicBoolean(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(),
+                (req, res) -> pinned.set(ReplicaRoutingDataSource.isPinnedToPrimary()));
+
+        assertFalse(pinned.get());
+    }
+
+    @Test
+    void doFilter_WhenRequestWritesToPrimary_ShouldSetStickinessCookie() throws Exception {
+        DataSource primary = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, Map.of("replica-1", mock(DataSource.class)),
+                Duration.ZERO, Duration.ofSeconds(1), Duration.ZERO);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        try {
+            filter.doFilter(new MockHttpServletRequest("PUT", "/api/v1/support-tickets/7"), response, (req, res) -> {
+                TransactionSynchronizationManager.setActualTransactionActive(true);
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.createStatement();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+        } finally {
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+        }
+
+        Cookie cookie = response.getCookie(ReplicaStickinessFilter.PRIMARY_UNTIL_COOKIE);
+        assertNotNull(cookie);
+        assertEquals(Long.toString(CLOCK.millis() + 30_000), cookie.getValue());
+        assertEquals(30, cookie.getMaxAge());
+    }
+}
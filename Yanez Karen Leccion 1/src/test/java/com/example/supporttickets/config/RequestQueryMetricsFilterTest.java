@@ -0,0 +1,131 @@
+package com.example.supporttickets.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import com.example.supporttickets.exception.QueryBudgetExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestQueryMetricsFilterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void doFilter_ShouldRecordStatementsExecutedByRequest() throws Exception {
+        RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(meterRegistry, false);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/support-tickets/7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(request, response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/support-tickets/{id}");
+            RequestQueryStats.current().recordStatement(TimeUnit.MILLISECONDS.toNanos(3));
+            RequestQueryStats.current().recordStatement(TimeUnit.MILLISECONDS.toNanos(2));
+            RequestQueryStats.current().recordRows(1);
+        });
+
+        DistributionSummary queries = meterRegistry.get("tickets.request.queries")
+                .tag("uri", "/api/v1/support-tickets/{id}")
+                .tag("method", "GET")
+                .summary();
+        assertEquals(1, queries.count());
+        assertEquals(2.0, queries.totalAmount());
+        assertEquals(1.0, meterRegistry.get("tickets.request.rows").summary().totalAmount());
+        assertEquals(5.0, meterRegistry.get("tickets.request.query.time").timer().totalTime(TimeUnit.MILLISECONDS));
+        assertNull(response.getHeader(RequestQueryStats.QUERY_COUNT_HEADER));
+        assertNull(RequestQueryStats.current());
+    }
+
+    @Test
+    void doFilter_WithHeadersEnabled_ShouldExposeQueryStats() throws Exception {
+        RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(meterRegistry, true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/support-tickets/7"), response,
+                (req, res) -> RequestQueryStats.current().recordStatement(TimeUnit.MILLISECONDS.toNanos(4)));
+
+        assertEquals("1", response.getHeader(RequestQueryStats.QUERY_COUNT_HEADER));
+        assertEquals("0", response.getHeader(RequestQueryStats.QUERY_ROWS_HEADER));
+        assertEquals("4", response.getHeader(RequestQueryStats.QUERY_TIME_HEADER));
+    }
+
+    @Test
+    void doFilter_WhenBudgetExceeded_ShouldCountViolationWithoutFailingCommittedResponse() throws Exception {
+        RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(meterRegistry, false);
+        HandlerMethod handler = new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("delete"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/support-tickets/7"), response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+            RequestQueryStats.current().recordStatement(1);
+            RequestQueryStats.current().recordStatement(1);
+            res.flushBuffer();
+        });
+
+        assertTrue(response.isCommitted());
+        assertEquals(1.0, meterRegistry.get("tickets.request.query.budget.exceeded").counter().count());
+    }
+
+    @Test
+    void doFilter_WhenWithinBudget_ShouldNotCountViolation() throws Exception {
+        RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(meterRegistry, false);
+        HandlerMethod handler = new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("delete"));
+
+        filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/support-tickets/7"), new MockHttpServletResponse(),
+                (req, res) -> {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+                    RequestQueryStats.current().recordStatement(1);
+                });
+
+        assertNull(meterRegistry.find("tickets.request.query.budget.exceeded").counter());
+    }
+
+    @Test
+    void doFilter_WhenFailingOnExceedAndBodylessResponseExceedsBudget_ShouldFailBeforeCommitting() throws Exception {
+        RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(meterRegistry, false, true);
+        HandlerMethod handler = new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("delete"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        QueryBudgetExceededException exceeded = assertThrows(QueryBudgetExceededException.class, () ->
+                filter.doFilter(new MockHttpServletRequest("DELETE", "/api/v1/support-tickets/7"), response, (req, res) -> {
+                    req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+                    RequestQueryStats.current().recordStatement(1);
+                    RequestQueryStats.current().recordStatement(1);
+                    ((HttpServletResponse) res).setStatus(204);
+                    res.flushBuffer();
+                }));
+
+        assertTrue(exceeded.getMessage().contains("ejecutó 2 sentencias SQL; el presupuesto declarado es 1"));
+        assertFalse(response.isCommitted());
+        assertEquals(200, response.getStatus());
+    }
+
+    @Test
+    void doFilter_WhenFailingOnExceedAndWithinBudget_ShouldCopyBufferedBody() throws Exception {
+        RequestQueryMetricsFilter filter = new RequestQueryMetricsFilter(meterRegistry, false, true);
+        HandlerMethod handler = new HandlerMethod(new BudgetedHandler(), BudgetedHandler.class.getMethod("delete"));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/v1/support-tickets/7"), response, (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+            RequestQueryStats.current().recordStatement(1);
+            res.getWriter().write("{\"id\":7}");
+        });
+
+        assertEquals("{\"id\":7}", response.getContentAsString());
+    }
+
+    static class BudgetedHandler {
+
+        @QueryBudget(1)
+        public void delete() {
+        }
+    }
+}
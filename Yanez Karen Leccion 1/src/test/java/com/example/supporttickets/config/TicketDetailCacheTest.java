@@ -0,0 +1,76 @@
+package com.example.supporttickets.config;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketDetailCacheTest {
+
+    private final TicketDetailCache cache = new TicketDetailCache("tickets",
+            Caffeine.newBuilder().recordStats().build(), Duration.ofMinutes(1));
+
+    @Test
+    void put_WithOlderVersion_ShouldKeepNewerTicket() {
+        cache.put(1L, ticket(TicketStatus.RESOLVED, 4L));
+
+        cache.put(1L, ticket(TicketStatus.OPEN, 3L));
+
+        SupportTicketResponse cached = cache.get(1L, SupportTicketResponse.class);
+        assertEquals(4L, cached.getVersion());
+        assertEquals(TicketStatus.RESOLVED, cached.getStatus());
+    }
+
+    @Test
+    void put_WithNewerVersion_ShouldReplaceTicket() {
+        cache.put(1L, ticket(TicketStatus.OPEN, 3L));
+
+        cache.put(1L, ticket(TicketStatus.RESOLVED, 4L));
+
+        assertEquals(4L, cache.get(1L, SupportTicketResponse.class).getVersion());
+    }
+
+    @Test
+    void put_AfterEvict_ShouldIgnoreSlowReadFinishingLate() {
+        cache.put(1L, ticket(TicketStatus.OPEN, 3L));
+
+        cache.evict(1L);
+        cache.put(1L, ticket(TicketStatus.OPEN, 3L));
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void putIfAbsent_AfterEvict_ShouldNotStoreTicket() {
+        cache.evictIfPresent(1L);
+
+        assertNull(cache.putIfAbsent(1L, ticket(TicketStatus.OPEN, 3L)));
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void put_AfterTombstoneExpired_ShouldStoreTicket() {
+        TicketDetailCache withoutTombstones = new TicketDetailCache("tickets",
+                Caffeine.newBuilder().build(), Duration.ZERO);
+
+        withoutTombstones.evict(1L);
+        withoutTombstones.put(1L, ticket(TicketStatus.OPEN, 3L));
+
+        assertEquals(3L, withoutTombstones.get(1L, SupportTicketResponse.class).getVersion());
+    }
+
+    private static SupportTicketResponse ticket(TicketStatus status, long version) {
+        return new SupportTicketResponse(1L, "ST-2025-000001", "Juan Pérez", status,
+                TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDateTime.of(2025, 1, 15, 10, 30), LocalDate.of(2025, 12, 31), version);
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.supporttickets.controller;
 
+import com.example.supporttickets.dto.CursorPageResponse;
 import com.example.supporttickets.dto.SupportTicketRequest;
 import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.exception.PreconditionFailedException;
 import com.example.supporttickets.model.TicketStatus;
 import com.example.supporttickets.model.TicketPriority;
 import com.example.supporttickets.model.Currency;
@@ -13,6 +15,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -21,8 +24,11 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -82,7 +88,7 @@ class SupportTicketControllerTest {
 
         when(supportTicketService.findTicketsWithFilters(
                 anyString(), anyString(), anyString(), anyString(), anyString(),
-                anyString(), anyString(), anyInt(), anyInt(), anyString()))
+                anyString(), anyString(), anyInt(), anyInt(), anyString(), isNull(), eq(false)))
                 .thenReturn(page);
 
         mockMvc.perform(get("/api/v1/support-tickets"))
@@ -105,7 +111,7 @@ class SupportTicketControllerTest {
 
         when(supportTicketService.findTicketsWithFilters(
                 eq("juan"), eq("OPEN"), eq("USD"), eq("50"), eq("300"),
-                anyString(), anyString(), eq(0), eq(10), eq("createdAt,desc")))
+                anyString(), anyString(), eq(0), eq(10), eq("createdAt,desc"), isNull(), eq(false)))
                 .thenReturn(page);
 
         mockMvc.perform(get("/api/v1/support-tickets")
@@ -122,4 +128,74 @@ class SupportTicketControllerTest {
                 .andExpect(jsonPath("$.content[0].status").value("OPEN"))
                 .andExpect(jsonPath("$.content[0].currency").value("USD"));
     }
+
+    @Test
+    void scrollTickets_ShouldReturnCursorPage() throws Exception {
+        List<SupportTicketResponse> tickets = Arrays.asList(
+                new SupportTicketResponse(1L, "ST-2025-000001", "Juan Pérez", TicketStatus.OPEN,
+                        TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"),
+                        Currency.USD, LocalDateTime.now(), LocalDate.of(2025, 12, 31))
+        );
+
+        when(supportTicketService.findTicketsAfterCursor(
+                isNull(), eq("OPEN"), isNull(), isNull(), isNull(),
+                isNull(), isNull(), isNull(), eq(1), eq("createdAt,desc")))
+                .thenReturn(new CursorPageResponse<>(tickets, 1, true, "abc123"));
+
+        mockMvc.perform(get("/api/v1/support-tickets/scroll")
+                        .param("status", "OPEN")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content.length()").value(1))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("abc123"));
+    }
+
+    @Test
+    void getTicketById_ShouldReturnStrongETag() throws Exception {
+        SupportTicketResponse response = new SupportTicketResponse(
+                1L, "ST-2025-000001", "Juan Pérez", TicketStatus.OPEN,
+                TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"),
+                Currency.USD, LocalDateTime.now(), LocalDate.of(2025, 12, 31), 3L
+        );
+
+        when(supportTicketService.findTicketById(1L)).thenReturn(response);
+
+        mockMvc.perform(get("/api/v1/support-tickets/1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(jsonPath("$.version").value(3));
+    }
+
+    @Test
+    void getTicketById_WithMatchingIfNoneMatch_ShouldReturnNotModifiedWithoutLoadingTicket() throws Exception {
+        when(supportTicketService.findTicketVersion(1L)).thenReturn(3L);
+
+        mockMvc.perform(get("/api/v1/support-tickets/1")
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""))
+                .andExpect(content().string(""));
+
+        verify(supportTicketService, never()).findTicketById(anyLong());
+    }
+
+    @Test
+    void updateTicket_WithStaleIfMatch_ShouldReturnPreconditionFailed() throws Exception {
+        SupportTicketRequest request = new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.CLOSED, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDate.of(2025, 12, 31)
+        );
+
+        when(supportTicketService.updateTicket(eq(1L), any(SupportTicketRequest.class), eq(Set.of(2L))))
+                .thenThrow(new PreconditionFailedException("El ticket con ID 1 fue modificado por otra solicitud. Versión actual: 3"));
+
+        mockMvc.perform(put("/api/v1/support-tickets/1")
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.status").value(412));
+    }
 }
@@ -0,0 +1,115 @@
+package com.example.supporttickets.controller;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.service.SupportTicketService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=${TICKETS_IT_DATABASE_URL}",
+        "tickets.query-budget.fail-on-exceed=true"
+})
+@AutoConfigureMockMvc
+@EnabledIfEnvironmentVariable(named = "TICKETS_IT_DATABASE_URL", matches = ".+")
+class SupportTicketQueryBudgetIntegrationTest {
+
+    private static final String BASE_URL = "/api/v1/support-tickets";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private SupportTicketService supportTicketService;
+
+    private SupportTicketRequest request;
+    private SupportTicketResponse ticket;
+
+    @BeforeEach
+    void setUp() {
+        request = new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDate.now().plusDays(30)
+        );
+        ticket = supportTicketService.createTicket(request);
+    }
+
+    @Test
+    void createTicket_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(post(BASE_URL)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void getTickets_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(get(BASE_URL).param("status", "OPEN").param("currency", "USD"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void scrollTickets_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/scroll").param("status", "OPEN"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getTicketById_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{id}", ticket.getId()))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void getTicketById_WithMatchingIfNoneMatch_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(get(BASE_URL + "/{id}", ticket.getId())
+                        .header(HttpHeaders.IF_NONE_MATCH, TicketETags.format(ticket.getVersion())))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void updateTicket_ShouldStayWithinQueryBudget() throws Exception {
+        request.setStatus(TicketStatus.IN_PROGRESS);
+
+        mockMvc.perform(put(BASE_URL + "/{id}", ticket.getId())
+                        .header(HttpHeaders.IF_MATCH, TicketETags.format(ticket.getVersion()))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void partialUpdateTicket_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(patch(BASE_URL + "/{id}", ticket.getId())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\":\"RESOLVED\"}"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void deleteTicket_ShouldStayWithinQueryBudget() throws Exception {
+        mockMvc.perform(delete(BASE_URL + "/{id}", ticket.getId()))
+                .andExpect(status().isNoContent());
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.exception.IntakeQueueFullException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketIntakeLogTest {
+
+    private static final long NO_WAIT = 0L;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void take_ShouldReturnAppendedRecordsInOrderUntilCommitted() throws Exception {
+        try (TicketIntakeLog log = TicketIntakeLog.open(directory.resolve("intake.log"), 4096, false)) {
+            log.append(bytes("ST-1"));
+            log.append(bytes("ST-2"));
+
+            List<TicketIntakeLog.Entry> entries = log.take(10, NO_WAIT, NO_WAIT);
+
+            assertEquals(List.of("ST-1", "ST-2"), texts(entries));
+            assertEquals(2, log.depth());
+
+            log.commit(entries.get(1).getOffset(), 2);
+
+            assertEquals(0, log.depth());
+            assertTrue(log.take(10, NO_WAIT, NO_WAIT).isEmpty());
+        }
+    }
+
+    @Test
+    void open_ShouldRecoverRecordsThatWereNotCommitted() throws Exception {
+        Path file = directory.resolve("intake.log");
+        try (TicketIntakeLog log = TicketIntakeLog.open(file, 4096, true)) {
+            log.append(bytes("ST-1"));
+            log.append(bytes("ST-2"));
+            log.append(bytes("ST-3"));
+            List<TicketIntakeLog.Entry> entries = log.take(1, NO_WAIT, NO_WAIT);
+            log.commit(entries.get(0).getOffset(), 1);
+        }
+
+        try (TicketIntakeLog log = TicketIntakeLog.open(file, 4096, true)) {
+            List<String> pending = new ArrayList<>();
+            log.forEachPending(payload -> pending.add(new String(payload, StandardCharsets.UTF_8)));
+
+            assertEquals(List.of("ST-2", "ST-3"), pending);
+            assertEquals(2, log.depth());
+            assertEquals(List.of("ST-2", "ST-3"), texts(log.take(10, NO_WAIT, NO_WAIT)));
+        }
+    }
+
+    @Test
+    void append_WhenLogIsFull_ShouldRejectUntilRecordsAreCommitted() throws Exception {
+        try (TicketIntakeLog log = TicketIntakeLog.open(directory.resolve("intake.log"), 64, false)) {
+            log.append(new byte[20]);
+
+            assertThrows(IntakeQueueFullException.class, () -> log.append(new byte[20]));
+
+            List<TicketIntakeLog.Entry> entries = log.take(10, NO_WAIT, NO_WAIT);
+            log.commit(entries.get(0).getOffset(), 1);
+            log.append(new byte[20]);
+
+            assertEquals(1, log.depth());
+        }
+    }
+
+    @Test
+    void rewind_ShouldDeliverUncommittedRecordsAgain() throws Exception {
+        try (TicketIntakeLog log = TicketIntakeLog.open(directory.resolve("intake.log"), 4096, false)) {
+            log.append(bytes("ST-1"));
+            log.append(bytes("ST-2"));
+            log.take(10, NO_WAIT, NO_WAIT);
+
+            log.rewind();
+
+            assertEquals(List.of("ST-1", "ST-2"), texts(log.take(10, NO_WAIT, NO_WAIT)));
+        }
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> texts(List<TicketIntakeLog.Entry> entries) {
+        List<String> texts = new ArrayList<>();
+        for (TicketIntakeLog.Entry entry : entries) {
+            texts.add(new String(entry.getPayload(), StandardCharsets.UTF_8));
+        }
+        return texts;
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=${TICKETS_IT_DATABASE_URL}",
+        "tickets.query-budget.fail-on-exceed=true",
+        "tickets.intake.enabled=true",
+        "tickets.intake.log-file=${java.io.tmpdir}/support-tickets-it/intake.log"
+})
+@AutoConfigureMockMvc
+@EnabledIfEnvironmentVariable(named = "TICKETS_IT_DATABASE_URL", matches = ".+")
+class TicketIntakeQueryBudgetIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void createAndGetIntakeStatus_ShouldStayWithinQueryBudget() throws Exception {
+        SupportTicketRequest request = new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDate.now().plusDays(30)
+        );
+
+        MvcResult accepted = mockMvc.perform(post("/api/v1/support-tickets")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isAccepted())
+                .andReturn();
+
+        mockMvc.perform(get(accepted.getResponse().getHeader(HttpHeaders.LOCATION)))
+                .andExpect(status().isOk());
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.supporttickets.intake;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketIntakeWriterTest {
+
+    @Mock
+    private TicketIntakeQueue intakeQueue;
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private SimpleMeterRegistry meterRegistry;
+    private TicketIntakeWriter writer;
+
+    private final TicketIntakeLog.Entry first = new TicketIntakeLog.Entry(new byte[]{1}, 100L);
+    private final TicketIntakeLog.Entry second = new TicketIntakeLog.Entry(new byte[]{2}, 200L);
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new TicketIntakeWriter(intakeQueue, supportTicketRepository, transactionManager, eventPublisher,
+                meterRegistry, 500, Duration.ofMillis(20), Duration.ofSeconds(1));
+        when(intakeQueue.decode(first.getPayload())).thenReturn(record("ST-2025-000001"));
+        when(intakeQueue.decode(second.getPayload())).thenReturn(record("ST-2025-000002"));
+    }
+
+    @Test
+    void drain_ShouldSaveBatchInOneTransactionAndCommitLog() {
+        when(supportTicketRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        assertTrue(writer.drain(List.of(first, second)));
+
+        verify(supportTicketRepository, times(1)).saveAll(argThat(tickets -> ((List<?>) tickets).size() == 2));
+        verify(transactionManager, times(1)).commit(any());
+        verify(eventPublisher, times(2)).publishEvent(any(TicketChangedEvent.class));
+        verify(intakeQueue).commit(200L, 2);
+        verify(intakeQueue).completed("ST-2025-000001");
+        verify(intakeQueue).completed("ST-2025-000002");
+        assertEquals(2.0, meterRegistry.get("tickets.intake.commit.batch.size").summary().totalAmount());
+        assertEquals(2, meterRegistry.get("tickets.intake.latency").timer().count());
+    }
+
+    @Test
+    void drain_WhenDatabaseUnavailable_ShouldRewindWithoutCommittingLog() {
+        when(supportTicketRepository.saveAll(anyList())).thenThrow(new DataAccessResourceFailureException("sin conexión"));
+
+        assertFalse(writer.drain(List.of(first, second)));
+
+        verify(intakeQueue).rewind();
+        verify(intakeQueue, never()).commit(anyLong(), anyInt());
+        verify(intakeQueue, never()).failed(anyString(), anyString());
+    }
+
+    @Test
+    void drain_WhenOneTicketIsRejected_ShouldFailOnlyThatTicket() {
+        when(supportTicketRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicado"))
+                .thenAnswer(invocation -> invocation.getArgument(0))
+                .thenThrow(new DataIntegrityViolationException("duplicado"));
+
+        assertTrue(writer.drain(List.of(first, second)));
+
+        verify(intakeQueue).completed("ST-2025-000001");
+        verify(intakeQueue).failed(eq("ST-2025-000002"), anyString());
+        verify(intakeQueue).commit(100L, 1);
+        verify(intakeQueue).commit(200L, 1);
+        assertEquals(1.0, meterRegistry.get("tickets.intake.failed").counter().count());
+    }
+
+    private static TicketIntakeRecord record(String ticketNumber) {
+        SupportTicketRequest request = new SupportTicketRequest("Ana Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "HARDWARE", new BigDecimal("150.00"), Currency.USD, LocalDate.now().plusDays(3));
+        return new TicketIntakeRecord(ticketNumber, LocalDateTime.now().minusSeconds(1), request);
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.supporttickets.outbox;
+
+import com.example.supporttickets.dto.TicketChangeResponse;
+import com.example.supporttickets.model.TicketChangeType;
+import com.example.supporttickets.model.TicketOutboxEvent;
+import com.example.supporttickets.model.TicketOutboxPosition;
+import com.example.supporttickets.repository.TicketOutboxPositionRepository;
+import com.example.supporttickets.repository.TicketOutboxRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketOutboxRelayTest {
+
+    @Mock
+    private TicketOutboxRepository outboxRepository;
+
+    @Mock
+    private TicketOutboxPositionRepository positionRepository;
+
+    @Mock
+    private TicketChangeFeed changeFeed;
+
+    @Mock
+    private TicketChangeSink sink;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketOutboxRelay relay;
+    private TicketOutboxPosition cursor;
+
+    @BeforeEach
+    void setUp() {
+        relay = new TicketOutboxRelay(outboxRepository, positionRepository, changeFeed, List.of(sink),
+                transactionManager, true, 10, Duration.ofDays(7));
+        cursor = new TicketOutboxPosition(TicketOutboxPosition.RELAY_ID, 40L);
+        when(positionRepository.findByIdForUpdate(TicketOutboxPosition.RELAY_ID)).thenReturn(Optional.of(cursor));
+    }
+
+    @Test
+    void relay_ShouldAssignConsecutivePositionsAndPublishBatch() {
+        TicketOutboxEvent created = pending(7L, TicketChangeType.CREATED);
+        TicketOutboxEvent updated = pending(7L, TicketChangeType.UPDATED);
+        when(outboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(created, updated));
+
+        relay.relay();
+
+        assertEquals(41L, created.getPosition());
+        assertEquals(42L, updated.getPosition());
+        assertNotNull(created.getPublishedAt());
+        assertEquals(42L, cursor.getLastPosition());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TicketChangeResponse>> captor = ArgumentCaptor.forClass(List.class);
+        verify(sink).publish(captor.capture());
+        assertEquals(List.of(41L, 42L), captor.getValue().stream().map(TicketChangeResponse::getPosition).toList());
+        verify(changeFeed).wakeUp();
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void relay_WhenSinkFails_ShouldRollbackAndKeepEventsPending() {
+        TicketOutboxEvent created = pending(7L, TicketChangeType.CREATED);
+        when(outboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of(created));
+        doThrow(new IllegalStateException("broker caído")).when(sink).publish(any());
+
+        relay.relay();
+
+        verify(transactionManager).rollback(any());
+        verify(transactionManager, never()).commit(any());
+        verify(changeFeed, never()).wakeUp();
+    }
+
+    @Test
+    void relay_WhenNothingPending_ShouldNotPublish() {
+        when(outboxRepository.findUnpublished(any(Pageable.class))).thenReturn(List.of());
+
+        relay.relay();
+
+        assertEquals(40L, cursor.getLastPosition());
+        verifyNoInteractions(sink, changeFeed);
+    }
+
+    private static TicketOutboxEvent pending(Long ticketId, TicketChangeType type) {
+        return new TicketOutboxEvent(ticketId, type, "{\"id\":" + ticketId + "}", LocalDateTime.now());
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.supporttickets.repository;
+
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TicketQueryBuilderTest {
+
+    @Test
+    void forFilter_WithoutFilters_ShouldNotEmitWhereClause() {
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(
+                new TicketFilter(null, null, null, null, null, null, null));
+
+        assertEquals("SELECT t FROM SupportTicket t ORDER BY t.createdAt DESC",
+                builder.selectJpql(Sort.by(Sort.Direction.DESC, "createdAt")));
+        assertEquals("SELECT COUNT(t) FROM SupportTicket t", builder.countJpql());
+        assertTrue(builder.getParameters().isEmpty());
+    }
+
+    @Test
+    void forFilter_ShouldEmitOnlyPresentPredicates() {
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(new TicketFilter(
+                null, TicketStatus.OPEN, null, new BigDecimal("50"), null,
+                LocalDateTime.of(2025, 1, 1, 0, 0), null));
+
+        assertEquals("SELECT COUNT(t) FROM SupportTicket t WHERE t.status = :status"
+                + " AND t.estimatedCost >= :minCost AND t.createdAt >= :from", builder.countJpql());
+        assertEquals(3, builder.getParameters().size());
+        assertEquals(TicketStatus.OPEN, builder.getParameters().get("status"));
+    }
+
+    @Test
+    void forFilter_WithQuery_ShouldSearchSameFieldsAsSearchIndex() {
+        TicketQueryBuilder builder = TicketQueryBuilder.forFilter(
+                new TicketFilter("network", null, null, null, null, null, null));
+
+        assertEquals("SELECT COUNT(t) FROM SupportTicket t WHERE (LOWER(t.ticketNumber) LIKE LOWER(CONCAT('%', :q, '%'))"
+                + " OR LOWER(t.requesterName) LIKE LOWER(CONCAT('%', :q, '%'))"
+                + " OR LOWER(t.category) LIKE LOWER(CONCAT('%', :q, '%')))", builder.countJpql());
+        assertEquals("network", builder.getParameters().get("q"));
+    }
+
+    @Test
+    void forFilter_WithSearchCandidates_ShouldAlsoSearchTicketsCreatedAfterIndex() {
+        LocalDateTime indexedUntil = LocalDateTime.of(2025, 6, 1, 10, 0);
+        TicketFilter filter = new TicketFilter("network", TicketStatus.OPEN, null, null, null, null, null);
+
+        TicketQueryBuilder withMatches = TicketQueryBuilder.forFilter(
+                filter.withSearchCandidates(List.of(1L, 2L), indexedUntil));
+        TicketQueryBuilder withoutMatches = TicketQueryBuilder.forFilter(
+                filter.withSearchCandidates(List.of(), indexedUntil));
+
+        String search = "(LOWER(t.ticketNumber) LIKE LOWER(CONCAT('%', :q, '%'))"
+                + " OR LOWER(t.requesterName) LIKE LOWER(CONCAT('%', :q, '%'))"
+                + " OR LOWER(t.category) LIKE LOWER(CONCAT('%', :q, '%')))";
+        assertEquals("SELECT COUNT(t) FROM SupportTicket t WHERE (t.id IN :ids OR (t.createdAt >= :unindexedSince AND "
+                + search + ")) AND t.status = :status", withMatches.countJpql());
+        assertEquals("SELECT COUNT(t) FROM SupportTicket t WHERE (t.createdAt >= :unindexedSince AND "
+                + search + ") AND t.status = :status", withoutMatches.countJpql());
+        assertEquals(indexedUntil, withoutMatches.getParameters().get("unindexedSince"));
+        assertFalse(withoutMatches.getParameters().containsKey("ids"));
+    }
+
+    @Test
+    void forFilter_WithSameShape_ShouldProduceSameJpql() {
+        TicketQueryBuilder first = TicketQueryBuilder.forFilter(
+                new TicketFilter(null, null, Currency.USD, null, null, null, null));
+        TicketQueryBuilder second = TicketQueryBuilder.forFilter(
+                new TicketFilter(null, null, Currency.EUR, null, null, null, null));
+
+        Sort sort = Sort.by(Sort.Direction.ASC, "estimatedCost");
+        assertEquals(first.selectJpql(sort), second.selectJpql(sort));
+    }
+
+    @Test
+    void property_WithInvalidName_ShouldThrowException() {
+        assertThrows(IllegalArgumentException.class, () -> TicketQueryBuilder.property("id; DROP TABLE x"));
+    }
+
+    @Test
+    void forArchive_ShouldApplySameFiltersToArchiveTable() {
+        TicketQueryBuilder builder = TicketQueryBuilder.forArchive(new TicketFilter(
+                null, TicketStatus.CLOSED, Currency.USD, null, null, null, null).withArchived(true));
+
+        assertEquals("SELECT t.id, t.status FROM ArchivedSupportTicket t WHERE t.status = :status"
+                        + " AND t.currency = :currency ORDER BY t.id ASC",
+                builder.selectJpql(List.of("id", "status"), Sort.by("id")));
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.supporttickets.search;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.event.TicketsArchivedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketEnumIndexTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2026, 1, 1, 9, 0);
+    private static final TicketFilter OPEN = new TicketFilter(null, TicketStatus.OPEN, null, null, null, null, null);
+    private static final TicketFilter CLOSED_USD = new TicketFilter(null, TicketStatus.CLOSED, Currency.USD, null, null, null, null);
+    private static final PageRequest NEWEST_FIRST = PageRequest.of(0, 20, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private Clock clock;
+
+    private TicketEnumIndex enumIndex;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenReturn(0L);
+        when(supportTicketRepository.findWithFiltersAfter(any(), any(), any(), anyInt()))
+                .thenReturn(new SliceImpl<>(List.of(
+                        createTicket(1L, TicketStatus.OPEN, Currency.USD, 1),
+                        createTicket(2L, TicketStatus.OPEN, Currency.EUR, 2),
+                        createTicket(3L, TicketStatus.CLOSED, Currency.USD, 3),
+                        createTicket(4L, TicketStatus.OPEN, Currency.USD, 4)),
+                        PageRequest.of(0, 1000), false));
+
+        enumIndex = new TicketEnumIndex(supportTicketRepository, true, 100, Duration.ofSeconds(5), clock);
+        enumIndex.rebuild();
+    }
+
+    @Test
+    void find_WithStatusFilter_ShouldMergeCurrenciesInCreatedAtOrder() {
+        Page<Long> newest = enumIndex.find(OPEN, PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt")));
+        Page<Long> oldest = enumIndex.find(OPEN, PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "createdAt")));
+
+        assertTrue(enumIndex.isReady());
+        assertEquals(List.of(4L, 2L), newest.getContent());
+        assertEquals(3, newest.getTotalElements());
+        assertEquals(List.of(4L), oldest.getContent());
+        assertEquals(4, enumIndex.size());
+    }
+
+    @Test
+    void onTicketChanged_ShouldMoveCreateAndRemoveTickets() {
+        SupportTicketResponse open = createResponse(1L, TicketStatus.OPEN, 1);
+        SupportTicketResponse closed = createResponse(1L, TicketStatus.CLOSED, 1);
+
+        enumIndex.onTicketChanged(TicketChangedEvent.updated(open, closed));
+        enumIndex.onTicketChanged(TicketChangedEvent.created(createResponse(5L, TicketStatus.CLOSED, 5)));
+
+        assertEquals(List.of(5L, 3L, 1L), enumIndex.find(CLOSED_USD, NEWEST_FIRST).getContent());
+        assertEquals(List.of(4L, 2L), enumIndex.find(OPEN, NEWEST_FIRST).getContent());
+
+        enumIndex.onTicketChanged(TicketChangedEvent.deleted(5L, createResponse(5L, TicketStatus.CLOSED, 5)));
+        enumIndex.onTicketsArchived(new TicketsArchivedEvent(List.of(3L), List.of()));
+
+        assertEquals(List.of(1L), enumIndex.find(CLOSED_USD, NEWEST_FIRST).getContent());
+        assertEquals(3, enumIndex.size());
+    }
+
+    @Test
+    void canServe_ShouldOnlyAcceptEnumFiltersSortedByCreatedAtWithinWindow() {
+        TicketFilter withCost = new TicketFilter(null, TicketStatus.OPEN, null, new BigDecimal("10"), null, null, null);
+
+        assertTrue(enumIndex.canServe(OPEN, NEWEST_FIRST));
+        assertFalse(enumIndex.canServe(withCost, NEWEST_FIRST));
+        assertFalse(enumIndex.canServe(OPEN.withArchived(true), NEWEST_FIRST));
+        assertFalse(enumIndex.canServe(OPEN, PageRequest.of(0, 20, Sort.by("estimatedCost"))));
+        assertFalse(enumIndex.canServe(OPEN, PageRequest.of(5, 20, Sort.by(Sort.Direction.DESC, "createdAt"))));
+    }
+
+    @Test
+    void canServe_WhenLastSyncIsOlderThanTwoIntervals_ShouldWaitForNextSync() {
+        when(clock.millis()).thenReturn(11_000L);
+        when(supportTicketRepository.findMaxCreatedAt()).thenReturn(BASE.plusHours(4));
+
+        assertFalse(enumIndex.canServe(OPEN, NEWEST_FIRST));
+
+        enumIndex.sync();
+
+        assertTrue(enumIndex.canServe(OPEN, NEWEST_FIRST));
+        verify(supportTicketRepository, times(1)).findWithFiltersAfter(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void sync_WhenDatabaseHasNewerTickets_ShouldCatchUpFromHighWater() {
+        when(supportTicketRepository.findMaxCreatedAt()).thenReturn(BASE.plusHours(6));
+        when(supportTicketRepository.findWithFiltersAfter(argThat(filter -> filter.getFrom() != null), any(), any(), anyInt()))
+                .thenReturn(new SliceImpl<>(List.of(
+                        createTicket(4L, TicketStatus.CLOSED, Currency.USD, 4),
+                        createTicket(6L, TicketStatus.OPEN, Currency.USD, 6)),
+                        PageRequest.of(0, 1000), false));
+
+        enumIndex.sync();
+
+        assertEquals(List.of(6L, 2L, 1L), enumIndex.find(OPEN, NEWEST_FIRST).getContent());
+        assertEquals(List.of(4L, 3L), enumIndex.find(CLOSED_USD, NEWEST_FIRST).getContent());
+        verify(supportTicketRepository).findWithFiltersAfter(
+                argThat(filter -> BASE.plusHours(4).minusMinutes(1).equals(filter.getFrom())), any(), any(), anyInt());
+    }
+
+    private SupportTicket createTicket(Long id, TicketStatus status, Currency currency, int hours) {
+        SupportTicket ticket = new SupportTicket("ST-2026-00000" + id, "Juan Pérez", status, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), currency, LocalDate.of(2026, 12, 31));
+        ticket.setId(id);
+        ticket.setCreatedAt(BASE.plusHours(hours));
+        return ticket;
+    }
+
+    private SupportTicketResponse createResponse(Long id, TicketStatus status, int hours) {
+        return new SupportTicketResponse(id, "ST-2026-00000" + id, "Juan Pérez", status, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, BASE.plusHours(hours), LocalDate.of(2026, 12, 31));
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.supporttickets.search;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketSearchIndexTest {
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    private TicketSearchIndex searchIndex;
+
+    @BeforeEach
+    void setUp() {
+        when(supportTicketRepository.findWithFiltersAfter(any(), any(), any(), anyInt()))
+                .thenReturn(new SliceImpl<>(List.of(
+                        createTicket(1L, "ST-2025-000001", "Juan Pérez", "NETWORK"),
+                        createTicket(2L, "ST-2025-000002", "María García", "SOFTWARE")),
+                        PageRequest.of(0, 1000), false));
+
+        searchIndex = new TicketSearchIndex(supportTicketRepository, true, 100);
+        searchIndex.rebuild();
+    }
+
+    @Test
+    void search_ShouldMatchSubstringsIgnoringCaseAndAccents() {
+        assertTrue(searchIndex.isReady());
+        assertEquals(Set.of(1L), searchIndex.search("perez"));
+        assertEquals(Set.of(2L), searchIndex.search("GARC"));
+        assertEquals(Set.of(1L, 2L), searchIndex.search("2025-0000"));
+        assertEquals(Set.of(2L), searchIndex.search("soft"));
+    }
+
+    @Test
+    void search_WithShortQuery_ShouldScanDocuments() {
+        assertEquals(Set.of(2L), searchIndex.search("ía"));
+    }
+
+    @Test
+    void onTicketChanged_ShouldReindexUpdatedAndRemoveDeletedTickets() {
+        SupportTicketResponse previous = createResponse(1L, "ST-2025-000001", "Juan Pérez");
+        SupportTicketResponse current = createResponse(1L, "ST-2025-000001", "Pedro Gómez");
+
+        searchIndex.onTicketChanged(TicketChangedEvent.updated(previous, current));
+
+        assertTrue(searchIndex.search("juan").isEmpty());
+        assertEquals(Set.of(1L), searchIndex.search("gomez"));
+
+        searchIndex.onTicketChanged(TicketChangedEvent.deleted(1L, null));
+
+        assertTrue(searchIndex.search("gomez").isEmpty());
+        assertEquals(1, searchIndex.size());
+    }
+
+    @Test
+    void search_WithTooManyMatches_ShouldReturnNull() {
+        TicketSearchIndex smallIndex = new TicketSearchIndex(supportTicketRepository, true, 1);
+        smallIndex.rebuild();
+
+        assertNull(smallIndex.search("st-2025"));
+    }
+
+    @Test
+    void rebuild_ShouldPickUpChangesMadeByOtherProcesses() {
+        when(supportTicketRepository.findWithFiltersAfter(any(), any(), any(), anyInt()))
+                .thenReturn(new SliceImpl<>(List.of(
+                        createTicket(2L, "ST-2025-000002", "María Gómez", "SOFTWARE"),
+                        createTicket(3L, "ST-2025-000003", "Luis Ramírez", "PRINTER")),
+                        PageRequest.of(0, 1000), false));
+
+        searchIndex.rebuild();
+
+        assertTrue(searchIndex.search("perez").isEmpty());
+        assertTrue(searchIndex.search("garcia").isEmpty());
+        assertEquals(Set.of(2L), searchIndex.search("gomez"));
+        assertEquals(Set.of(3L), searchIndex.search("ramirez"));
+        assertEquals(2, searchIndex.size());
+    }
+
+    @Test
+    void rebuild_ShouldReportTimeFromWhichTicketsMayBeMissing() {
+        Clock clock = Clock.fixed(Instant.parse("2025-06-01T10:00:00Z"), ZoneOffset.UTC);
+        TicketSearchIndex index = new TicketSearchIndex(supportTicketRepository, true, 100, clock);
+
+        index.rebuild();
+
+        assertEquals(LocalDateTime.of(2025, 6, 1, 9, 59), index.getIndexedUntil());
+    }
+
+    private SupportTicket createTicket(Long id, String ticketNumber, String requesterName, String category) {
+        SupportTicket ticket = new SupportTicket(ticketNumber, requesterName, TicketStatus.OPEN, TicketPriority.HIGH,
+                category, new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31));
+        ticket.setId(id);
+        ticket.setCreatedAt(LocalDateTime.now());
+        return ticket;
+    }
+
+    private SupportTicketResponse createResponse(Long id, String ticketNumber, String requesterName) {
+        return new SupportTicketResponse(id, ticketNumber, requesterName, TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDateTime.now(), LocalDate.of(2025, 12, 31));
+    }
+}
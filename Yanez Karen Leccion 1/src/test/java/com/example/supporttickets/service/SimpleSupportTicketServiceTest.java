@@ -8,17 +8,24 @@ import com.example.supporttickets.model.TicketStatus;
 import com.example.supporttickets.model.TicketPriority;
 import com.example.supporttickets.model.Currency;
 import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.search.TicketEnumIndex;
+import com.example.supporttickets.search.TicketSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -34,6 +41,24 @@ class SimpleSupportTicketServiceTest {
     @Mock
     private SupportTicketRepository supportTicketRepository;
 
+    @Mock
+    private TicketNumberAllocator ticketNumberAllocator;
+
+    @Mock
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Mock
+    private TicketEnumIndex ticketEnumIndex;
+
+    @Spy
+    private TicketListCache ticketListCache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private SupportTicketService supportTicketService;
 
@@ -62,7 +87,7 @@ class SimpleSupportTicketServiceTest {
         savedTicket.setDueDate(sampleRequest.getDueDate());
         savedTicket.setCreatedAt(LocalDateTime.now());
 
-        when(supportTicketRepository.existsByTicketNumber(anyString())).thenReturn(false);
+        when(ticketNumberAllocator.nextTicketNumber()).thenReturn("ST-2025-000001");
         when(supportTicketRepository.save(any(SupportTicket.class))).thenReturn(savedTicket);
 
         SupportTicketResponse result = supportTicketService.createTicket(sampleRequest);
@@ -79,9 +104,9 @@ class SimpleSupportTicketServiceTest {
         List<SupportTicket> tickets = Arrays.asList(createSampleTicket());
         Page<SupportTicket> ticketPage = new PageImpl<>(tickets);
 
-        when(supportTicketRepository.findWithFilters(
-                anyString(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
-                .thenReturn(ticketPage);
+        when(ticketEnumIndex.canServe(any(TicketFilter.class), any(Pageable.class))).thenReturn(false);
+        when(supportTicketRepository.findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList()))
+                .thenReturn(ticketPage.map(SupportTicketMapper::toResponse));
 
         Page<SupportTicketResponse> result = supportTicketService.findTicketsWithFilters(
                 "juan", "OPEN", "USD", "50", "300", 
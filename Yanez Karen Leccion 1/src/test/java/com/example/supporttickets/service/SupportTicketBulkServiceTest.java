@@ -0,0 +1,173 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.config.CacheConfig;
+import com.example.supporttickets.dto.BulkOperationResponse;
+import com.example.supporttickets.dto.SupportTicketBulkUpdateRequest;
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SupportTicketBulkServiceTest {
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private TicketNumberAllocator ticketNumberAllocator;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache ticketCache;
+
+    private SupportTicketBulkService bulkService;
+
+    @BeforeEach
+    void setUp() {
+        bulkService = new SupportTicketBulkService(supportTicketRepository, ticketNumberAllocator,
+                Validation.buildDefaultValidatorFactory().getValidator(), transactionManager,
+                eventPublisher, cacheManager, 2, 10);
+    }
+
+    @Test
+    void createTickets_ShouldReportResultPerItem() {
+        when(ticketNumberAllocator.nextTicketNumber()).thenReturn("ST-2025-000001", "ST-2025-000002");
+        when(supportTicketRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<SupportTicket> tickets = invocation.getArgument(0);
+            long id = 1;
+            for (SupportTicket ticket : tickets) {
+                ticket.setId(id++);
+            }
+            return tickets;
+        });
+
+        SupportTicketRequest invalid = createRequest();
+        invalid.setRequesterName("");
+
+        BulkOperationResponse response = bulkService.createTickets(
+                Arrays.asList(createRequest(), invalid, null, createRequest()));
+
+        assertEquals(4, response.getTotal());
+        assertEquals(2, response.getSucceeded());
+        assertEquals(2, response.getFailed());
+        assertEquals(201, response.getItems().get(0).getStatus());
+        assertEquals("ST-2025-000001", response.getItems().get(0).getTicketNumber());
+        assertEquals(400, response.getItems().get(1).getStatus());
+        assertTrue(response.getItems().get(1).getValidationErrors().containsKey("requesterName"));
+        assertEquals(400, response.getItems().get(2).getStatus());
+        assertEquals(201, response.getItems().get(3).getStatus());
+        verify(supportTicketRepository, times(2)).saveAll(anyList());
+        verify(eventPublisher, times(2)).publishEvent(any(TicketChangedEvent.class));
+    }
+
+    @Test
+    void createTickets_WhenChunkFails_ShouldMarkOnlyThatChunkAsFailed() {
+        when(ticketNumberAllocator.nextTicketNumber()).thenReturn("ST-2025-000001", "ST-2025-000002", "ST-2025-000003");
+        when(supportTicketRepository.saveAll(anyList()))
+                .thenThrow(new DataIntegrityViolationException("duplicado"))
+                .thenAnswer(invocation -> invocation.getArgument(0));
+
+        BulkOperationResponse response = bulkService.createTickets(
+                List.of(createRequest(), createRequest(), createRequest()));
+
+        assertEquals(500, response.getItems().get(0).getStatus());
+        assertEquals(500, response.getItems().get(1).getStatus());
+        assertEquals(201, response.getItems().get(2).getStatus());
+    }
+
+    @Test
+    void deleteTickets_ShouldDeleteExistingIdsInOneStatement() {
+        when(cacheManager.getCache(CacheConfig.TICKETS_CACHE)).thenReturn(ticketCache);
+        SupportTicket existing = new SupportTicket();
+        existing.setId(1L);
+        when(supportTicketRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(existing));
+
+        BulkOperationResponse response = bulkService.deleteTickets(List.of(1L, 2L));
+
+        assertEquals(204, response.getItems().get(0).getStatus());
+        assertEquals(404, response.getItems().get(1).getStatus());
+        verify(supportTicketRepository).deleteAllByIds(Set.of(1L));
+        verify(ticketCache).evict(1L);
+    }
+
+    @Test
+    void partialUpdateTickets_WithoutId_ShouldFailValidation() {
+        BulkOperationResponse response = bulkService.partialUpdateTickets(List.of(new SupportTicketBulkUpdateRequest()));
+
+        assertEquals(400, response.getItems().get(0).getStatus());
+        verifyNoInteractions(supportTicketRepository);
+    }
+
+    @Test
+    void partialUpdateTickets_WithInvalidFields_ShouldRejectOnlyThatItem() {
+        when(cacheManager.getCache(CacheConfig.TICKETS_CACHE)).thenReturn(ticketCache);
+        SupportTicket ticket = new SupportTicket("ST-2025-000001", "Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31));
+        ticket.setId(1L);
+        when(supportTicketRepository.findAllById(List.of(1L))).thenReturn(List.of(ticket));
+        SupportTicketBulkUpdateRequest valid = new SupportTicketBulkUpdateRequest();
+        valid.setId(1L);
+        valid.setCategory("HARDWARE");
+        SupportTicketBulkUpdateRequest blankName = new SupportTicketBulkUpdateRequest();
+        blankName.setId(2L);
+        blankName.setRequesterName(" ");
+        SupportTicketBulkUpdateRequest negativeCost = new SupportTicketBulkUpdateRequest();
+        negativeCost.setId(3L);
+        negativeCost.setEstimatedCost(new BigDecimal("-1"));
+
+        BulkOperationResponse response = bulkService.partialUpdateTickets(List.of(valid, blankName, negativeCost));
+
+        assertEquals(200, response.getItems().get(0).getStatus());
+        assertEquals("HARDWARE", ticket.getCategory());
+        assertEquals(400, response.getItems().get(1).getStatus());
+        assertEquals("El nombre del solicitante es obligatorio", response.getItems().get(1).getMessage());
+        assertEquals(400, response.getItems().get(2).getStatus());
+        assertEquals("El costo estimado debe ser positivo", response.getItems().get(2).getMessage());
+    }
+
+    @Test
+    void createTickets_WithTooManyItems_ShouldThrowException() {
+        List<SupportTicketRequest> requests = Collections.nCopies(11, createRequest());
+
+        assertThrows(IllegalArgumentException.class, () -> bulkService.createTickets(requests));
+    }
+
+    private SupportTicketRequest createRequest() {
+        return new SupportTicketRequest("Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31));
+    }
+}
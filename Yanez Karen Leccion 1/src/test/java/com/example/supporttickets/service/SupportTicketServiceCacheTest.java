@@ -0,0 +1,157 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.config.CacheConfig;
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketPatch;
+import com.example.supporttickets.search.TicketEnumIndex;
+import com.example.supporttickets.search.TicketSearchIndex;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.cache.CacheMetricsAutoConfiguration;
+import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest(classes = {CacheConfig.class, SupportTicketService.class},
+        properties = "tickets.cache.tickets.tombstone-ttl=0s")
+@ImportAutoConfiguration({
+        MetricsAutoConfiguration.class,
+        CompositeMeterRegistryAutoConfiguration.class,
+        SimpleMetricsExportAutoConfiguration.class,
+        CacheMetricsAutoConfiguration.class
+})
+class SupportTicketServiceCacheTest {
+
+    @MockBean
+    private SupportTicketRepository supportTicketRepository;
+
+    @MockBean
+    private TicketNumberAllocator ticketNumberAllocator;
+
+    @MockBean
+    private TicketSearchIndex ticketSearchIndex;
+
+    @MockBean
+    private TicketEnumIndex ticketEnumIndex;
+
+    @MockBean
+    private TicketListCache ticketListCache;
+
+    @MockBean
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SupportTicketService supportTicketService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = cacheManager.getCache(CacheConfig.TICKETS_CACHE);
+        cache.clear();
+        when(supportTicketRepository.findById(1L)).thenAnswer(invocation -> Optional.of(createTicket(3L)));
+    }
+
+    @Test
+    void findTicketById_ShouldServeRepeatedReadsFromCache() {
+        double hits = cacheGets("hit");
+        double misses = cacheGets("miss");
+
+        supportTicketService.findTicketById(1L);
+        SupportTicketResponse second = supportTicketService.findTicketById(1L);
+
+        assertEquals(3L, second.getVersion());
+        verify(supportTicketRepository, times(1)).findById(1L);
+        assertEquals(hits + 1, cacheGets("hit"));
+        assertEquals(misses + 1, cacheGets("miss"));
+    }
+
+    @Test
+    void updateTicket_ShouldEvictCachedTicket() {
+        supportTicketService.findTicketById(1L);
+        when(supportTicketRepository.saveAndFlush(any(SupportTicket.class))).thenReturn(createTicket(4L));
+
+        supportTicketService.updateTicket(1L, new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.IN_PROGRESS, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31)));
+
+        assertNull(cache.get(1L));
+    }
+
+    @Test
+    void partialUpdateTicket_ShouldReplaceCachedTicketWithNewVersion() {
+        supportTicketService.findTicketById(1L);
+        when(supportTicketRepository.applyPatch(eq(1L), any(), eq(3L), any(TicketPatch.class))).thenReturn(1);
+        SupportTicketRequest statusOnly = new SupportTicketRequest();
+        statusOnly.setStatus(TicketStatus.RESOLVED);
+
+        supportTicketService.partialUpdateTicket(1L, statusOnly);
+
+        SupportTicketResponse cached = cache.get(1L, SupportTicketResponse.class);
+        assertEquals(4L, cached.getVersion());
+        assertEquals(TicketStatus.RESOLVED, cached.getStatus());
+    }
+
+    @Test
+    void deleteTicket_ShouldEvictCachedTicket() {
+        supportTicketService.findTicketById(1L);
+        when(supportTicketRepository.deleteIfVersion(eq(1L), any(), eq(3L))).thenReturn(1);
+
+        supportTicketService.deleteTicket(1L);
+
+        assertNull(cache.get(1L));
+    }
+
+    private double cacheGets(String result) {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", CacheConfig.TICKETS_CACHE)
+                .tag("result", result)
+                .functionCounter()
+                .count();
+    }
+
+    private static SupportTicket createTicket(long version) {
+        SupportTicket ticket = new SupportTicket();
+        ticket.setId(1L);
+        ticket.setTicketNumber("ST-2025-000001");
+        ticket.setRequesterName("Juan Pérez");
+        ticket.setStatus(TicketStatus.OPEN);
+        ticket.setPriority(TicketPriority.HIGH);
+        ticket.setCategory("NETWORK");
+        ticket.setEstimatedCost(new BigDecimal("150.50"));
+        ticket.setCurrency(Currency.USD);
+        ticket.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 30));
+        ticket.setDueDate(LocalDate.of(2025, 12, 31));
+        ticket.setVersion(version);
+        return ticket;
+    }
+}
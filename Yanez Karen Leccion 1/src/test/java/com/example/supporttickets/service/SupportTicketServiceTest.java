@@ -1,28 +1,55 @@
 package com.example.supporttickets.service;
 
+import com.example.supporttickets.dto.CursorPageResponse;
 import com.example.supporttickets.dto.SupportTicketRequest;
 import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
 import com.example.supporttickets.exception.InvalidFilterException;
+import com.example.supporttickets.exception.PreconditionFailedException;
+import com.example.supporttickets.exception.ResourceNotFoundException;
 import com.example.supporttickets.model.SupportTicket;
 import com.example.supporttickets.model.TicketStatus;
 import com.example.supporttickets.model.TicketPriority;
 import com.example.supporttickets.model.Currency;
 import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketCursor;
+import com.example.supporttickets.repository.TicketFilter;
+import com.example.supporttickets.repository.TicketPatch;
+import com.example.supporttickets.repository.TicketProjection;
+import com.example.supporttickets.search.TicketEnumIndex;
+import com.example.supporttickets.search.TicketSearchIndex;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -34,6 +61,27 @@ class SupportTicketServiceTest {
     @Mock
     private SupportTicketRepository supportTicketRepository;
 
+    @Mock
+    private TicketNumberAllocator ticketNumberAllocator;
+
+    @Mock
+    private TicketSearchIndex ticketSearchIndex;
+
+    @Mock
+    private TicketEnumIndex ticketEnumIndex;
+
+    @Spy
+    private TicketListCache ticketListCache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private SupportTicketService supportTicketService;
 
@@ -62,7 +110,7 @@ class SupportTicketServiceTest {
         savedTicket.setDueDate(sampleRequest.getDueDate());
         savedTicket.setCreatedAt(LocalDateTime.now());
 
-        when(supportTicketRepository.existsByTicketNumber(anyString())).thenReturn(false);
+        when(ticketNumberAllocator.nextTicketNumber()).thenReturn("ST-2025-000001");
         when(supportTicketRepository.save(any(SupportTicket.class))).thenReturn(savedTicket);
 
         SupportTicketResponse result = supportTicketService.createTicket(sampleRequest);
@@ -72,6 +120,108 @@ class SupportTicketServiceTest {
         assertEquals("Juan Pérez", result.getRequesterName());
         assertEquals(TicketStatus.OPEN, result.getStatus());
         verify(supportTicketRepository).save(any(SupportTicket.class));
+        verify(eventPublisher).publishEvent(any(TicketChangedEvent.class));
+    }
+
+    @Test
+    void createTicket_ShouldReserveNumberBeforeOpeningTransaction() {
+        when(ticketNumberAllocator.nextTicketNumber()).thenReturn("ST-2025-000051");
+        when(supportTicketRepository.save(any(SupportTicket.class))).thenAnswer(invocation -> {
+            SupportTicket ticket = invocation.getArgument(0);
+            ticket.setId(51L);
+            return ticket;
+        });
+
+        SupportTicketResponse result = supportTicketService.createTicket(sampleRequest);
+
+        assertEquals("ST-2025-000051", result.getTicketNumber());
+        InOrder inOrder = inOrder(ticketNumberAllocator, transactionManager, supportTicketRepository);
+        inOrder.verify(ticketNumberAllocator).nextTicketNumber();
+        inOrder.verify(transactionManager).getTransaction(any());
+        inOrder.verify(supportTicketRepository).save(any(SupportTicket.class));
+        inOrder.verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void findTicketsWithFilters_WithReadySearchIndex_ShouldQueryOnlyMatchingIds() {
+        Page<SupportTicket> ticketPage = new PageImpl<>(List.of(createSampleTicket()));
+
+        LocalDateTime indexedUntil = LocalDateTime.of(2025, 6, 1, 10, 0);
+        when(ticketSearchIndex.isReady()).thenReturn(true);
+        when(ticketSearchIndex.getIndexedUntil()).thenReturn(indexedUntil);
+        when(ticketSearchIndex.search("juan")).thenReturn(Set.of(1L));
+        when(supportTicketRepository.findResponsesWithFilters(
+                argThat(filter -> Set.of(1L).equals(filter.getIds())
+                        && "juan".equals(filter.getQ())
+                        && indexedUntil.equals(filter.getUnindexedSince())
+                        && filter.getStatus() == TicketStatus.OPEN),
+                any(Pageable.class), eq(TicketProjection.FIELDS)))
+                .thenReturn(ticketPage.map(SupportTicketMapper::toResponse));
+
+        Page<SupportTicketResponse> result = supportTicketService.findTicketsWithFilters(
+                "juan", "OPEN", null, null, null, null, null, 0, 20, "createdAt,desc");
+
+        assertEquals(1, result.getTotalElements());
+    }
+
+    @Test
+    void findTicketsWithFilters_WithNoIndexedMatches_ShouldStillSearchTicketsCreatedAfterIndex() {
+        LocalDateTime indexedUntil = LocalDateTime.of(2025, 6, 1, 10, 0);
+        when(ticketSearchIndex.isReady()).thenReturn(true);
+        when(ticketSearchIndex.getIndexedUntil()).thenReturn(indexedUntil);
+        when(ticketSearchIndex.search("zzz")).thenReturn(Set.of());
+        when(supportTicketRepository.findResponsesWithFilters(
+                argThat(filter -> filter.getIds().isEmpty()
+                        && "zzz".equals(filter.getQ())
+                        && indexedUntil.equals(filter.getUnindexedSince())),
+                any(Pageable.class), eq(TicketProjection.FIELDS)))
+                .thenReturn(Page.empty());
+
+        Page<SupportTicketResponse> result = supportTicketService.findTicketsWithFilters(
+                "zzz", null, null, null, null, null, null, 0, 20, "createdAt,desc");
+
+        assertEquals(0, result.getTotalElements());
+    }
+
+    @Test
+    void findTicketsWithFilters_WithEnumOnlyFilter_ShouldLoadIndexedPageThroughProjection() {
+        SupportTicket older = createSampleTicket();
+        SupportTicket newer = createSampleTicket();
+        newer.setId(2L);
+        when(ticketEnumIndex.canServe(any(TicketFilter.class), any(Pageable.class))).thenReturn(true);
+        when(ticketEnumIndex.find(any(TicketFilter.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), PageRequest.of(0, 2), 7));
+        when(supportTicketRepository.findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList()))
+                .thenReturn(new PageImpl<>(List.of(SupportTicketMapper.toResponse(older), SupportTicketMapper.toResponse(newer))));
+
+        Page<SupportTicketResponse> result = supportTicketService.findTicketsWithFilters(
+                null, "OPEN", "USD", null, null, null, null, 0, 2, "createdAt,desc");
+
+        assertEquals(7, result.getTotalElements());
+        assertEquals(List.of(2L, 1L), result.getContent().stream().map(SupportTicketResponse::getId).collect(Collectors.toList()));
+        ArgumentCaptor<TicketFilter> filter = ArgumentCaptor.forClass(TicketFilter.class);
+        verify(supportTicketRepository).findResponsesWithFilters(filter.capture(), any(Pageable.class), anyList());
+        assertEquals(List.of(2L, 1L), filter.getValue().getIds());
+        assertEquals(TicketStatus.OPEN, filter.getValue().getStatus());
+        verify(supportTicketRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void findTicketsWithFilters_WhenEnumIndexIsStale_ShouldFallBackToDatabase() {
+        SupportTicketResponse stillOpen = SupportTicketMapper.toResponse(createSampleTicket());
+        when(ticketEnumIndex.canServe(any(TicketFilter.class), any(Pageable.class))).thenReturn(true);
+        when(ticketEnumIndex.find(any(TicketFilter.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(2L, 1L), PageRequest.of(0, 2), 7));
+        when(supportTicketRepository.findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList()))
+                .thenReturn(new PageImpl<>(List.of(stillOpen)));
+
+        Page<SupportTicketResponse> result = supportTicketService.findTicketsWithFilters(
+                null, "OPEN", "USD", null, null, null, null, 0, 2, "createdAt,desc");
+
+        assertEquals(List.of(stillOpen), result.getContent());
+        ArgumentCaptor<TicketFilter> filters = ArgumentCaptor.forClass(TicketFilter.class);
+        verify(supportTicketRepository, times(2)).findResponsesWithFilters(filters.capture(), any(Pageable.class), anyList());
+        assertNull(filters.getAllValues().get(1).getIds());
     }
 
     @Test
@@ -79,9 +229,8 @@ class SupportTicketServiceTest {
         List<SupportTicket> tickets = Arrays.asList(createSampleTicket());
         Page<SupportTicket> ticketPage = new PageImpl<>(tickets);
 
-        when(supportTicketRepository.findWithFilters(
-                anyString(), any(), any(), any(), any(), any(), any(), any(Pageable.class)))
-                .thenReturn(ticketPage);
+        when(supportTicketRepository.findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList()))
+                .thenReturn(ticketPage.map(SupportTicketMapper::toResponse));
 
         Page<SupportTicketResponse> result = supportTicketService.findTicketsWithFilters(
                 "juan", "OPEN", "USD", "50", "300", 
@@ -93,6 +242,45 @@ class SupportTicketServiceTest {
         assertEquals("Juan Pérez", result.getContent().get(0).getRequesterName());
     }
 
+    @Test
+    void findTicketsWithFilters_ShouldServeRepeatedListingsFromCacheUntilATicketChanges() {
+        Page<SupportTicket> ticketPage = new PageImpl<>(List.of(createSampleTicket()));
+        when(supportTicketRepository.findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList()))
+                .thenReturn(ticketPage.map(SupportTicketMapper::toResponse));
+
+        supportTicketService.findTicketsWithFilters(null, "open", null, "50", null, null, null, 0, 20, "createdAt,desc");
+        supportTicketService.findTicketsWithFilters(null, "OPEN", null, "50.00", null, null, null, 0, 20, "createdAt,desc");
+
+        verify(supportTicketRepository, times(1)).findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList());
+
+        ticketListCache.onTicketChanged(TicketChangedEvent.deleted(1L, null));
+        supportTicketService.findTicketsWithFilters(null, "OPEN", null, "50", null, null, null, 0, 20, "createdAt,desc");
+
+        verify(supportTicketRepository, times(2)).findResponsesWithFilters(any(TicketFilter.class), any(Pageable.class), anyList());
+    }
+
+    @Test
+    void findTicketsWithFilters_WithFields_ShouldProjectOnlyRequestedColumnsPlusId() {
+        when(supportTicketRepository.findResponsesWithFilters(
+                any(TicketFilter.class), any(Pageable.class), eq(List.of("id", "status", "dueDate"))))
+                .thenReturn(Page.empty());
+
+        supportTicketService.findTicketsWithFilters(
+                null, null, null, null, null, null, null, 0, 20, "createdAt,desc", "dueDate, status");
+
+        verify(supportTicketRepository).findResponsesWithFilters(
+                any(TicketFilter.class), any(Pageable.class), eq(List.of("id", "status", "dueDate")));
+    }
+
+    @Test
+    void findTicketsWithFilters_WithUnknownField_ShouldThrowException() {
+        InvalidFilterException exception = assertThrows(InvalidFilterException.class, () ->
+                supportTicketService.findTicketsWithFilters(
+                        null, null, null, null, null, null, null, 0, 20, "createdAt,desc", "status,password"));
+
+        assertTrue(exception.getMessage().contains("Campo inválido en fields"));
+    }
+
     @Test
     void findTicketsWithFilters_WithInvalidStatus_ShouldThrowException() {
         InvalidFilterException exception = assertThrows(InvalidFilterException.class, () ->
@@ -148,6 +336,47 @@ class SupportTicketServiceTest {
         assertTrue(exception.getMessage().contains("minCost debe ser menor o igual a maxCost"));
     }
 
+    @Test
+    void findTicketsAfterCursor_ShouldReturnNextCursorWhenMoreRowsExist() {
+        Slice<SupportTicket> slice = new SliceImpl<>(List.of(createSampleTicket()), PageRequest.of(0, 1), true);
+
+        when(supportTicketRepository.findWithFiltersAfter(
+                any(TicketFilter.class), any(Sort.Order.class), isNull(), eq(1)))
+                .thenReturn(slice);
+
+        CursorPageResponse<SupportTicketResponse> result = supportTicketService.findTicketsAfterCursor(
+                null, "OPEN", null, null, null, null, null, null, 1, "createdAt,desc");
+
+        assertTrue(result.isHasNext());
+        assertNotNull(result.getNextCursor());
+        assertEquals(1, result.getNumberOfElements());
+
+        TicketCursor cursor = TicketCursorCodec.decode(result.getNextCursor());
+        assertEquals("createdAt", cursor.getSortField());
+        assertEquals(Sort.Direction.DESC, cursor.getDirection());
+        assertEquals(1L, cursor.getLastId());
+    }
+
+    @Test
+    void findTicketsAfterCursor_WithCursorForDifferentSort_ShouldThrowException() {
+        String cursor = TicketCursorCodec.encode(Sort.Order.asc("id"), createSampleTicket());
+
+        InvalidFilterException exception = assertThrows(InvalidFilterException.class, () ->
+                supportTicketService.findTicketsAfterCursor(
+                        null, null, null, null, null, null, null, cursor, 20, "createdAt,desc"));
+
+        assertTrue(exception.getMessage().contains("El cursor no corresponde"));
+    }
+
+    @Test
+    void findTicketsAfterCursor_WithEnumSortField_ShouldThrowException() {
+        InvalidFilterException exception = assertThrows(InvalidFilterException.class, () ->
+                supportTicketService.findTicketsAfterCursor(
+                        null, null, null, null, null, null, null, null, 20, "status,asc"));
+
+        assertTrue(exception.getMessage().contains("no soportado con cursor"));
+    }
+
     private SupportTicket createSampleTicket() {
         SupportTicket ticket = new SupportTicket();
         ticket.setId(1L);
@@ -162,4 +391,122 @@ class SupportTicketServiceTest {
         ticket.setDueDate(LocalDate.of(2025, 12, 31));
         return ticket;
     }
+
+    @Test
+    void updateTicket_WithStaleExpectedVersion_ShouldThrowPreconditionFailedWithoutWriting() {
+        SupportTicket existing = new SupportTicket();
+        existing.setId(1L);
+        existing.setVersion(3L);
+        when(supportTicketRepository.findById(1L)).thenReturn(Optional.of(existing));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> supportTicketService.updateTicket(1L, sampleRequest, Set.of(2L)));
+
+        verify(supportTicketRepository, never()).saveAndFlush(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void updateTicket_WithConcurrentWriteAndExpectedVersion_ShouldThrowPreconditionFailed() {
+        SupportTicket existing = new SupportTicket();
+        existing.setId(1L);
+        existing.setVersion(3L);
+        when(supportTicketRepository.findById(1L)).thenReturn(Optional.of(existing));
+        when(supportTicketRepository.saveAndFlush(existing))
+                .thenThrow(new ObjectOptimisticLockingFailureException(SupportTicket.class, 1L));
+
+        assertThrows(PreconditionFailedException.class,
+                () -> supportTicketService.updateTicket(1L, sampleRequest, Set.of(3L)));
+    }
+
+    @Test
+    void partialUpdateTicket_WithCachedTicket_ShouldIssueSingleTargetedUpdate() {
+        Cache cache = new ConcurrentMapCache("tickets");
+        cache.put(1L, new SupportTicketResponse(1L, "ST-2025-000001", "Juan Pérez", TicketStatus.OPEN,
+                TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDateTime.now(), LocalDate.of(2025, 12, 31), 4L));
+        when(cacheManager.getCache("tickets")).thenReturn(cache);
+        when(supportTicketRepository.applyPatch(eq(1L), any(), eq(4L), any(TicketPatch.class))).thenReturn(1);
+
+        SupportTicketRequest statusOnly = new SupportTicketRequest();
+        statusOnly.setStatus(TicketStatus.RESOLVED);
+        SupportTicketResponse result = supportTicketService.partialUpdateTicket(1L, statusOnly);
+
+        assertEquals(TicketStatus.RESOLVED, result.getStatus());
+        assertEquals("Juan Pérez", result.getRequesterName());
+        assertEquals(5L, result.getVersion());
+        verify(supportTicketRepository, never()).findReadOnlyById(anyLong());
+        verify(supportTicketRepository, never()).save(any());
+        verify(eventPublisher).publishEvent(any(TicketChangedEvent.class));
+    }
+
+    @Test
+    void partialUpdateTicket_WithStaleVersion_ShouldReloadAndRetry() {
+        SupportTicket stale = new SupportTicket();
+        stale.setId(1L);
+        stale.setStatus(TicketStatus.OPEN);
+        stale.setVersion(4L);
+        SupportTicket current = new SupportTicket();
+        current.setId(1L);
+        current.setStatus(TicketStatus.IN_PROGRESS);
+        current.setVersion(5L);
+        when(supportTicketRepository.findReadOnlyById(1L)).thenReturn(Optional.of(stale), Optional.of(current));
+        when(supportTicketRepository.applyPatch(eq(1L), any(), eq(4L), any(TicketPatch.class))).thenReturn(0);
+        when(supportTicketRepository.applyPatch(eq(1L), any(), eq(5L), any(TicketPatch.class))).thenReturn(1);
+
+        SupportTicketRequest statusOnly = new SupportTicketRequest();
+        statusOnly.setStatus(TicketStatus.RESOLVED);
+        SupportTicketResponse result = supportTicketService.partialUpdateTicket(1L, statusOnly);
+
+        assertEquals(TicketStatus.RESOLVED, result.getStatus());
+        assertEquals(6L, result.getVersion());
+        verify(supportTicketRepository, times(2)).findReadOnlyById(1L);
+    }
+
+    @Test
+    void partialUpdateTicket_WithNonPositiveCost_ShouldThrowWithoutQuerying() {
+        SupportTicketRequest invalid = new SupportTicketRequest();
+        invalid.setEstimatedCost(new BigDecimal("-1"));
+
+        assertThrows(IllegalArgumentException.class, () -> supportTicketService.partialUpdateTicket(1L, invalid));
+        verifyNoInteractions(supportTicketRepository);
+    }
+
+    @Test
+    void deleteTicket_WithCachedTicket_ShouldIssueSingleDelete() {
+        Cache cache = new ConcurrentMapCache("tickets");
+        SupportTicketResponse cached = new SupportTicketResponse(1L, "ST-2025-000001", "Juan Pérez", TicketStatus.CANCELLED,
+                TicketPriority.LOW, "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDateTime.now(), LocalDate.of(2025, 12, 31), 4L);
+        cache.put(1L, cached);
+        when(cacheManager.getCache("tickets")).thenReturn(cache);
+        when(supportTicketRepository.deleteIfVersion(1L, cached.getCreatedAt(), 4L)).thenReturn(1);
+
+        supportTicketService.deleteTicket(1L);
+
+        verify(supportTicketRepository, never()).findReadOnlyById(anyLong());
+        verify(supportTicketRepository, never()).findById(anyLong());
+        verify(eventPublisher).publishEvent(argThat((TicketChangedEvent event) -> event.isDeleted() && event.getPrevious() == cached));
+    }
+
+    @Test
+    void deleteTicket_WhenNothingWasDeleted_ShouldThrowNotFound() {
+        SupportTicket stale = createSampleTicket();
+        stale.setVersion(4L);
+        when(supportTicketRepository.findReadOnlyById(1L)).thenReturn(Optional.of(stale), Optional.empty());
+        when(supportTicketRepository.deleteIfVersion(eq(1L), any(), eq(4L))).thenReturn(0);
+
+        assertThrows(ResourceNotFoundException.class, () -> supportTicketService.deleteTicket(1L));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void deleteTicket_WithStaleExpectedVersion_ShouldThrowPreconditionFailedWithoutDeleting() {
+        SupportTicket current = createSampleTicket();
+        current.setVersion(5L);
+        when(supportTicketRepository.findReadOnlyById(1L)).thenReturn(Optional.of(current));
+
+        assertThrows(PreconditionFailedException.class, () -> supportTicketService.deleteTicket(1L, Set.of(4L)));
+        verify(supportTicketRepository, never()).deleteIfVersion(anyLong(), any(), anyLong());
+    }
 }
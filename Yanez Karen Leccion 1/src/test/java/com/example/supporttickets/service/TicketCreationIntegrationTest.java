@@ -0,0 +1,49 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.dto.SupportTicketRequest;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=${TICKETS_IT_DATABASE_URL}",
+        "spring.datasource.hikari.maximum-pool-size=1",
+        "spring.datasource.hikari.connection-timeout=5000",
+        "tickets.number.block-size=2"
+})
+@EnabledIfEnvironmentVariable(named = "TICKETS_IT_DATABASE_URL", matches = ".+")
+class TicketCreationIntegrationTest {
+
+    @Autowired
+    private SupportTicketService supportTicketService;
+
+    @Test
+    void createTicket_WithSingleConnectionPool_ShouldCrossBlockBoundaries() {
+        SupportTicketRequest request = new SupportTicketRequest(
+                "Juan Pérez", TicketStatus.OPEN, TicketPriority.HIGH,
+                "NETWORK", new BigDecimal("150.50"), Currency.USD,
+                LocalDate.now().plusDays(30)
+        );
+        Set<String> numbers = new HashSet<>();
+
+        assertTimeout(Duration.ofSeconds(10), () -> {
+            for (int i = 0; i < 5; i++) {
+                numbers.add(supportTicketService.createTicket(request).getTicketNumber());
+            }
+        });
+
+        assertEquals(5, numbers.size());
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.exception.InvalidFilterException;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.SupportTicket;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Sort;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketExportServiceTest {
+
+    @Mock
+    private SupportTicketService supportTicketService;
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    private TicketExportService ticketExportService;
+
+    private final TicketFilter filter = new TicketFilter(null, null, null, null, null, null, null);
+
+    @BeforeEach
+    void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        ticketExportService = new TicketExportService(supportTicketService, supportTicketRepository, objectMapper, 500, 1);
+    }
+
+    @Test
+    void writeExport_AsCsv_ShouldWriteHeaderAndEscapedRows() throws Exception {
+        when(supportTicketRepository.streamWithFilters(eq(filter), any(Sort.class), eq(500)))
+                .thenReturn(Stream.of(ticket(1L, "Pérez, Juan"), ticket(2L, "Ana \"QA\"")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = ticketExportService.writeExport(
+                new TicketExport(filter, Sort.by("id"), TicketExportFormat.CSV), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(3, lines.length);
+        assertTrue(lines[0].startsWith("id,ticketNumber,requesterName"));
+        assertEquals("1,ST-2025-000001,\"Pérez, Juan\",OPEN,HIGH,NETWORK,150.50,USD,2025-01-15T10:30:00,2025-12-31", lines[1]);
+        assertTrue(lines[2].contains("\"Ana \"\"QA\"\"\""));
+    }
+
+    @Test
+    void writeExport_AsNdjson_ShouldWriteOneObjectPerLine() throws Exception {
+        when(supportTicketRepository.streamWithFilters(eq(filter), any(Sort.class), eq(500)))
+                .thenReturn(Stream.of(ticket(1L, "Juan Pérez"), ticket(2L, "María García")));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ticketExportService.writeExport(new TicketExport(filter, Sort.by("id"), TicketExportFormat.NDJSON), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].contains("\"requesterName\":\"María García\""));
+    }
+
+    @Test
+    void writeExport_WithNoSearchCandidates_ShouldNotQueryRepository() throws Exception {
+        TicketFilter noMatches = filter.withCandidateIds(List.of());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long rows = ticketExportService.writeExport(new TicketExport(noMatches, Sort.by("id"), TicketExportFormat.CSV), out);
+
+        assertEquals(0, rows);
+        assertEquals(1, out.toString(StandardCharsets.UTF_8).split("\n").length);
+        verifyNoInteractions(supportTicketRepository);
+    }
+
+    @Test
+    void prepareExport_WithInvalidFormat_ShouldThrowException() {
+        assertThrows(InvalidFilterException.class, () -> ticketExportService.prepareExport(
+                null, null, null, null, null, null, null, "id,asc", "xml"));
+    }
+
+    private SupportTicket ticket(Long id, String requesterName) {
+        SupportTicket ticket = new SupportTicket(String.format("ST-2025-%06d", id), requesterName, TicketStatus.OPEN,
+                TicketPriority.HIGH, "NETWORK", new BigDecimal("150.50"), Currency.USD, LocalDate.of(2025, 12, 31));
+        ticket.setId(id);
+        ticket.setCreatedAt(LocalDateTime.of(2025, 1, 15, 10, 30));
+        return ticket;
+    }
+}
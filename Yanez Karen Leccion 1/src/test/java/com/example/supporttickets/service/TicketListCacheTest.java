@@ -0,0 +1,159 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.config.ReplicaRoutingDataSource;
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.repository.TicketFilter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TicketListCacheTest {
+
+    private final TicketFilter filter = new TicketFilter(null, null, null, null, null, null, null);
+    private final Pageable pageable = PageRequest.of(0, 20);
+
+    @Test
+    void get_WithConcurrentIdenticalMisses_ShouldRunLoaderOnce() throws Exception {
+        TicketListCache cache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<Page<SupportTicketResponse>>> futures = new ArrayList<>();
+            futures.add(executor.submit(() -> cache.get(filter, pageable, () -> {
+                loads.incrementAndGet();
+                loaderStarted.countDown();
+                await(releaseLoader);
+                return new PageImpl<>(List.of());
+            })));
+            assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 3; i++) {
+                futures.add(executor.submit(() -> cache.get(filter, pageable, () -> {
+                    loads.incrementAndGet();
+                    return new PageImpl<>(List.of());
+                })));
+            }
+            releaseLoader.countDown();
+
+            Page<SupportTicketResponse> first = futures.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<Page<SupportTicketResponse>> future : futures) {
+                assertSame(first, future.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_AfterGenerationBump_ShouldReload() {
+        TicketListCache cache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(filter, pageable, () -> countedPage(loads));
+        cache.get(filter, pageable, () -> countedPage(loads));
+        cache.onTicketChanged(null);
+        cache.get(filter, pageable, () -> countedPage(loads));
+
+        assertEquals(2, loads.get());
+        assertEquals(1, cache.getGeneration());
+    }
+
+    @Test
+    void get_WhenLoaderFails_ShouldNotCacheFailure() {
+        TicketListCache cache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> cache.get(filter, pageable, () -> {
+            throw new IllegalStateException("fallo");
+        }));
+        cache.get(filter, pageable, () -> countedPage(loads));
+
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void get_WhenPinnedToPrimary_ShouldBypassCachedPage() {
+        TicketListCache cache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.get(filter, pageable, () -> countedPage(loads));
+        ReplicaRoutingDataSource.pinToPrimary();
+        try {
+            cache.get(filter, pageable, () -> countedPage(loads));
+        } finally {
+            ReplicaRoutingDataSource.releasePin();
+        }
+        cache.get(filter, pageable, () -> countedPage(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void get_WhenPageWasReadFromReplica_ShouldNotCacheIt() throws Exception {
+        TicketListCache cache = new TicketListCache(true, 100, Duration.ofMinutes(1));
+        AtomicInteger loads = new AtomicInteger();
+        DataSource primary = mock(DataSource.class);
+        DataSource replica = mock(DataSource.class);
+        when(primary.getConnection()).thenReturn(mock(Connection.class));
+        when(replica.getConnection()).thenReturn(mock(Connection.class));
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary,
+                Map.of("replica-1", replica), Duration.ZERO, Duration.ofSeconds(1), Duration.ZERO);
+
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+        try {
+            cache.get(filter, pageable, () -> {
+                try (Connection connection = dataSource.getConnection()) {
+                    connection.createStatement();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+                return countedPage(loads);
+            });
+        } finally {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            TransactionSynchronizationManager.setActualTransactionActive(false);
+            ReplicaRoutingDataSource.releasePin();
+        }
+        cache.get(filter, pageable, () -> countedPage(loads));
+
+        assertEquals(2, loads.get());
+    }
+
+    private static Page<SupportTicketResponse> countedPage(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return new PageImpl<>(List.of());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
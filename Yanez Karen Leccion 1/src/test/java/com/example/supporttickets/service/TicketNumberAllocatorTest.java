@@ -0,0 +1,135 @@
+package com.example.supporttickets.service;
+
+import com.example.supporttickets.model.TicketNumberSequence;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketNumberSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketNumberAllocatorTest {
+
+    @Mock
+    private TicketNumberSequenceRepository sequenceRepository;
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final Map<Integer, TicketNumberSequence> sequences = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(sequenceRepository.findByYearForUpdate(anyInt()))
+                .thenAnswer(invocation -> Optional.ofNullable(sequences.get(invocation.<Integer>getArgument(0))));
+        lenient().when(sequenceRepository.save(any(TicketNumberSequence.class)))
+                .thenAnswer(invocation -> {
+                    TicketNumberSequence sequence = invocation.getArgument(0);
+                    sequences.put(sequence.getYear(), sequence);
+                    return sequence;
+                });
+    }
+
+    @Test
+    void nextTicketNumber_ShouldReserveOneBlockForConsecutiveNumbers() {
+        TicketNumberAllocator allocator = allocatorAt("2025-06-01T10:00:00Z", 10);
+
+        assertEquals("ST-2025-000001", allocator.nextTicketNumber());
+        assertEquals("ST-2025-000002", allocator.nextTicketNumber());
+        assertEquals("ST-2025-000003", allocator.nextTicketNumber());
+
+        verify(sequenceRepository, times(1)).findByYearForUpdate(2025);
+        assertEquals(11L, sequences.get(2025).getNextValue());
+    }
+
+    @Test
+    void nextTicketNumber_ShouldContinueFromLastExistingTicketWhenSequenceIsMissing() {
+        when(supportTicketRepository.findMaxTicketSequenceWithPrefix("ST-2025-")).thenReturn(1_000_145L);
+        TicketNumberAllocator allocator = allocatorAt("2025-06-01T10:00:00Z", 10);
+
+        assertEquals("ST-2025-1000146", allocator.nextTicketNumber());
+    }
+
+    @Test
+    void nextTicketNumber_WhenBlockReservationHitsLockConflict_ShouldRetry() {
+        when(sequenceRepository.findByYearForUpdate(2025))
+                .thenThrow(new CannotAcquireLockException("Lock wait timeout exceeded"))
+                .thenThrow(new ObjectOptimisticLockingFailureException(TicketNumberSequence.class, 2025))
+                .thenReturn(Optional.empty());
+        TicketNumberAllocator allocator = allocatorAt("2025-06-01T10:00:00Z", 10);
+
+        assertEquals("ST-2025-000001", allocator.nextTicketNumber());
+        verify(sequenceRepository, times(3)).findByYearForUpdate(2025);
+    }
+
+    @Test
+    void nextTicketNumber_ShouldRollPrefixWhenYearChanges() {
+        Clock clock = mock(Clock.class);
+        when(clock.getZone()).thenReturn(ZoneOffset.UTC);
+        when(clock.instant()).thenReturn(
+                Instant.parse("2025-12-31T23:59:59Z"),
+                Instant.parse("2026-01-01T00:00:01Z"));
+        TicketNumberAllocator allocator = new TicketNumberAllocator(
+                sequenceRepository, supportTicketRepository, transactionManager, 10, clock);
+
+        assertEquals("ST-2025-000001", allocator.nextTicketNumber());
+        assertEquals("ST-2026-000001", allocator.nextTicketNumber());
+    }
+
+    @Test
+    void nextTicketNumber_ShouldHandOutUniqueNumbersUnderConcurrentLoad() throws Exception {
+        TicketNumberAllocator allocator = allocatorAt("2025-06-01T10:00:00Z", 50);
+        int threads = 8;
+        int perThread = 500;
+        Set<String> numbers = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < threads; i++) {
+                futures.add(executor.submit(() -> {
+                    for (int j = 0; j < perThread; j++) {
+                        numbers.add(allocator.nextTicketNumber());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(threads * perThread, numbers.size());
+        verify(sequenceRepository, times(threads * perThread / 50)).findByYearForUpdate(2025);
+    }
+
+    private TicketNumberAllocator allocatorAt(String instant, int blockSize) {
+        Clock clock = Clock.fixed(Instant.parse(instant), ZoneOffset.UTC);
+        return new TicketNumberAllocator(sequenceRepository, supportTicketRepository, transactionManager, blockSize, clock);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.supporttickets.stats;
+
+import com.example.supporttickets.dto.SupportTicketResponse;
+import com.example.supporttickets.dto.TicketStatsResponse;
+import com.example.supporttickets.event.TicketChangedEvent;
+import com.example.supporttickets.model.Currency;
+import com.example.supporttickets.model.TicketPriority;
+import com.example.supporttickets.model.TicketStatus;
+import com.example.supporttickets.repository.SupportTicketRepository;
+import com.example.supporttickets.repository.TicketAggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketStatsStoreTest {
+
+    @Mock
+    private SupportTicketRepository supportTicketRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketStatsStore statsStore;
+
+    @BeforeEach
+    void setUp() {
+        statsStore = new TicketStatsStore(supportTicketRepository, transactionManager);
+    }
+
+    @Test
+    void reconcile_ShouldLoadTotalsFromGroupByQuery() {
+        when(supportTicketRepository.aggregateStatistics()).thenReturn(List.of(
+                aggregate(TicketStatus.OPEN, TicketPriority.HIGH, "NETWORK", Currency.USD, 3, "300.75"),
+                aggregate(TicketStatus.CLOSED, TicketPriority.LOW, "HARDWARE", Currency.EUR, 2, "50.00")));
+
+        statsStore.reconcile();
+        TicketStatsResponse stats = statsStore.getStatistics();
+
+        assertEquals(5, stats.getTotal());
+        assertEquals(3L, stats.getByStatus().get(TicketStatus.OPEN));
+        assertEquals(0L, stats.getByStatus().get(TicketStatus.RESOLVED));
+        assertEquals(2L, stats.getByCategory().get("HARDWARE"));
+        assertEquals(new BigDecimal("300.75"), stats.getEstimatedCostByCurrency().get(Currency.USD));
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    @Test
+    void onTicketChanged_ShouldApplyDeltasOfOldAndNewValues() {
+        when(supportTicketRepository.aggregateStatistics()).thenReturn(List.of(
+                aggregate(TicketStatus.OPEN, TicketPriority.HIGH, "NETWORK", Currency.USD, 1, "100.00")));
+        statsStore.reconcile();
+
+        SupportTicketResponse before = ticket(TicketStatus.OPEN, "NETWORK", Currency.USD, "100.00");
+        SupportTicketResponse after = ticket(TicketStatus.RESOLVED, "SOFTWARE", Currency.EUR, "80.50");
+        statsStore.onTicketChanged(TicketChangedEvent.updated(before, after));
+
+        TicketStatsResponse stats = statsStore.getStatistics();
+        assertEquals(1, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(TicketStatus.OPEN));
+        assertEquals(1L, stats.getByStatus().get(TicketStatus.RESOLVED));
+        assertFalse(stats.getByCategory().containsKey("NETWORK"));
+        assertEquals(new BigDecimal("0.00"), stats.getEstimatedCostByCurrency().get(Currency.USD));
+        assertEquals(new BigDecimal("80.50"), stats.getEstimatedCostByCurrency().get(Currency.EUR));
+
+        statsStore.onTicketChanged(TicketChangedEvent.deleted(1L, after));
+
+        assertEquals(0, statsStore.getStatistics().getTotal());
+    }
+
+    @Test
+    void reconcile_WhenTicketsChangeWhileQueryRuns_ShouldRetryInsteadOfDoubleCounting() {
+        when(supportTicketRepository.aggregateStatistics()).thenReturn(List.of(
+                aggregate(TicketStatus.OPEN, TicketPriority.HIGH, "NETWORK", Currency.USD, 4, "40.00")));
+        statsStore.reconcile();
+        SupportTicketResponse created = ticket(TicketStatus.OPEN, "NETWORK", Currency.USD, "10.00");
+        when(supportTicketRepository.aggregateStatistics())
+                .thenAnswer(invocation -> {
+                    statsStore.onTicketChanged(TicketChangedEvent.created(created));
+                    return List.of(aggregate(TicketStatus.OPEN, TicketPriority.HIGH, "NETWORK", Currency.USD, 5, "50.00"));
+                })
+                .thenReturn(List.of(aggregate(TicketStatus.OPEN, TicketPriority.HIGH, "NETWORK", Currency.USD, 5, "50.00")));
+
+        statsStore.reconcile();
+
+        TicketStatsResponse stats = statsStore.getStatistics();
+        assertEquals(5, stats.getTotal());
+        assertEquals(new BigDecimal("50.00"), stats.getEstimatedCostByCurrency().get(Currency.USD));
+        verify(supportTicketRepository, times(3)).aggregateStatistics();
+    }
+
+    @Test
+    void reconcile_ShouldReadSnapshotInReadWriteTransaction() {
+        when(supportTicketRepository.aggregateStatistics()).thenReturn(List.of());
+
+        statsStore.reconcile();
+
+        verify(transactionManager).getTransaction(argThat((TransactionDefinition definition) -> !definition.isReadOnly()));
+    }
+
+    @Test
+    void getStatistics_BeforeFirstReconcile_ShouldQueryDatabase() {
+        when(supportTicketRepository.aggregateStatistics()).thenReturn(List.of());
+
+        TicketStatsResponse stats = statsStore.getStatistics();
+
+        assertEquals(0, stats.getTotal());
+        verify(supportTicketRepository).aggregateStatistics();
+    }
+
+    private SupportTicketResponse ticket(TicketStatus status, String category, Currency currency, String cost) {
+        return new SupportTicketResponse(1L, "ST-2025-000001", "Juan Pérez", status, TicketPriority.HIGH,
+                category, new BigDecimal(cost), currency, LocalDateTime.now(), LocalDate.of(2025, 12, 31));
+    }
+
+    private TicketAggregate aggregate(TicketStatus status, TicketPriority priority, String category,
+                                      Currency currency, long count, String costSum) {
+        return new TicketAggregate() {
+            public TicketStatus getStatus() {
+                return status;
+            }
+
+            public TicketPriority getPriority() {
+                return priority;
+            }
+
+            public String getCategory() {
+                return category;
+            }
+
+            public Currency getCurrency() {
+                return currency;
+            }
+
+            public Long getTicketCount() {
+                return count;
+            }
+
+            public BigDecimal getEstimatedCostSum() {
+                return new BigDecimal(costSum);
+            }
+        };
+    }
+}